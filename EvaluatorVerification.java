@@ -0,0 +1,450 @@
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Verificación exhaustiva del evaluador rápido {@link PokerUtils#evaluate(long)} sobre las
+ * C(52,7) = 133.784.560 manos de 7 cartas, comparando cada resultado con los otros evaluadores del proyecto:
+ * <ul>
+ *   <li>{@link PokerUtils#evaluateHandByCombinations}: mismo tipo de mano y mismos kickers. Se usa la versión
+ *       por combinaciones porque {@link PokerUtils#evaluateHand} ya es un adaptador sobre el camino rápido.</li>
+ *   <li>{@code HandEvaluator.evaluateBestHand} (Utils2) y {@code PokerHand.evaluateHand} del módulo poker:
+ *       misma categoría y el mismo orden. Sus valores no tienen el mismo formato, así que cada valor rápido
+ *       debe corresponder siempre a la misma clase de equivalencia y al mismo valor del módulo, y al final
+ *       ambas correspondencias deben ser estrictamente crecientes.</li>
+ * </ul>
+ * En la misma pasada se verifican contra ese valor los caminos optimizados que usan los demás:
+ * <ul>
+ *   <li>{@link PokerUtils#evaluateBatch(long[], int[])}: cada tarea hoja evalúa sus manos en un solo lote y
+ *       compara mano por mano; si el módulo {@code jdk.incubator.vector} está presente es el kernel vectorial.</li>
+ *   <li>{@link PokerUtils.StateTable}, con las 7 lecturas de {@code evaluate(c1, ..., c7)}, cuando se indica el
+ *       archivo de la tabla con {@code --state-table} (si no existe se genera).</li>
+ *   <li>{@code ShowdownBoard} (Utils2): la misma clase de equivalencia que {@code evaluateBestHand}, que ya usa
+ *       {@code HandRankTables}. La mesa se preprocesa una vez por cada 5 cartas comunitarias distintas.</li>
+ *   <li>{@code PokerHand.evaluateMask} del módulo, sobre la misma máscara: el mismo valor que el rápido salvo
+ *       la escalera al 5, que el módulo empaqueta con el As como 1.</li>
+ * </ul>
+ * El espacio de combinaciones se numera en orden colexicográfico y se reparte en rangos de índices entre las
+ * tareas de un {@link ForkJoinPool}: cada tarea obtiene su primera combinación por "unrank" y avanza a la
+ * siguiente sin volver a calcularla. Al final se informa el histograma por tipo de mano, la cantidad de
+ * diferencias y algunas manos de ejemplo.
+ * <p>
+ * Necesita en el classpath las clases compiladas del módulo poker ({@code ar.edu.utn.frc.tup.lciii}).
+ * Como {@code PokerUtils} es pública, javac exige que su archivo se llame PokerUtils.java: desde la raíz del
+ * proyecto, con Utils.java copiado como PokerUtils.java (por ejemplo {@code cp Utils.java PokerUtils.java}):
+ * <pre>
+ *   javac -cp &lt;módulo&gt;/target/classes -d out PokerUtils.java Utils2.java EvaluatorVerification.java
+ *   java -cp out:&lt;módulo&gt;/target/classes EvaluatorVerification [--stride k] [--parallelism n]
+ *       [--state-table archivo]
+ * </pre>
+ * Para verificar el kernel vectorial hay que agregar {@code --add-modules jdk.incubator.vector} y compilar
+ * también PokerVectorKernel.java.
+ * Con {@code --stride k} se verifica una de cada k manos, repartidas por todo el espacio, para pruebas rápidas.
+ */
+public final class EvaluatorVerification {
+
+    /** Cartas por mano. */
+    static final int HAND_SIZE = 7;
+    /** Cantidad de cartas del mazo. */
+    static final int DECK_SIZE = 52;
+
+    /** Coeficientes binomiales C(n, k) para n hasta 52 y k hasta 7. */
+    private static final long[][] BINOMIAL = new long[DECK_SIZE + 1][HAND_SIZE + 1];
+
+    /** Cantidad total de manos de 7 cartas. */
+    static final long TOTAL_HANDS;
+
+    /** Manos por tarea hoja del ForkJoin. */
+    private static final long LEAF_SIZE = 1 << 18;
+
+    /** Kickers de la escalera al 5 en {@link PokerUtils#evaluate(long)} y en {@code PokerHand.evaluateMask}. */
+    private static final int UTILS_WHEEL = 0x5432E;
+    private static final int MODULE_WHEEL = 0x54321;
+
+    /** Cantidad máxima de manos con diferencias que se guardan como ejemplo. */
+    private static final int MAX_SAMPLES = 20;
+
+    /** Cantidad esperada de manos de 7 cartas por tipo, en el orden de {@link PokerUtils.HandRank}. */
+    private static final long[] EXPECTED_HISTOGRAM = {
+        4_324L, 37_260L, 224_848L, 3_473_184L, 4_047_644L, 6_180_020L, 6_461_620L, 31_433_400L,
+        58_627_800L, 23_294_460L
+    };
+
+    static {
+        for (int n = 0; n <= DECK_SIZE; n++) {
+            BINOMIAL[n][0] = 1;
+            for (int k = 1; k <= Math.min(n, HAND_SIZE); k++) {
+                BINOMIAL[n][k] = BINOMIAL[n - 1][k - 1] + (k <= n - 1 ? BINOMIAL[n - 1][k] : 0);
+            }
+        }
+        TOTAL_HANDS = BINOMIAL[DECK_SIZE][HAND_SIZE];
+    }
+
+    // Las cartas de cada evaluador, indexadas por PokerUtils.Card#index(), para no crearlas en cada mano.
+    private static final PokerUtils.Card[] UTILS_CARDS = new PokerUtils.Card[DECK_SIZE];
+    private static final Card[] UTILS2_CARDS = new Card[DECK_SIZE];
+    private static final ar.edu.utn.frc.tup.lciii.Card[] MODULE_CARDS = new ar.edu.utn.frc.tup.lciii.Card[DECK_SIZE];
+
+    static {
+        for (int index = 0; index < DECK_SIZE; index++) {
+            int suit = index / 13;
+            int rank = index % 13;
+            UTILS_CARDS[index] = PokerUtils.Card.fromIndex(index);
+            UTILS2_CARDS[index] = new Card(Suit.values()[suit], Rank.values()[rank]);
+            MODULE_CARDS[index] = new ar.edu.utn.frc.tup.lciii.Card(rank + 2,
+                    ar.edu.utn.frc.tup.lciii.CardSuits.values()[suit]);
+        }
+    }
+
+    private EvaluatorVerification() {
+        // Clase de utilidad, no instanciable
+    }
+
+    /**
+     * Resultado de la verificación de un rango de manos; los de varias tareas se combinan con {@link #merge}.
+     */
+    static final class Report {
+        final long[] histogram = new long[PokerUtils.HandRank.values().length];
+        long hands;
+        long mismatches;
+        final List<String> samples = new ArrayList<>();
+
+        void addMismatch(String description) {
+            mismatches++;
+            if (samples.size() < MAX_SAMPLES) {
+                samples.add(description);
+            }
+        }
+
+        Report merge(Report other) {
+            for (int i = 0; i < histogram.length; i++) {
+                histogram[i] += other.histogram[i];
+            }
+            hands += other.hands;
+            mismatches += other.mismatches;
+            for (String sample : other.samples) {
+                if (samples.size() == MAX_SAMPLES) {
+                    break;
+                }
+                samples.add(sample);
+            }
+            return this;
+        }
+    }
+
+    /**
+     * Ejecuta la verificación desde la línea de comandos.
+     * @param args {@code --stride k} para verificar una de cada k manos, {@code --parallelism n}
+     *             para fijar la cantidad de hilos (por defecto, todos los procesadores) y
+     *             {@code --state-table archivo} para verificar también la tabla de estados de ese archivo.
+     * @throws IOException si no se puede abrir ni generar la tabla de estados.
+     */
+    public static void main(String[] args) throws IOException {
+        long stride = 1;
+        int parallelism = Runtime.getRuntime().availableProcessors();
+        Path stateTableFile = null;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--stride" -> stride = Long.parseLong(args[++i]);
+                case "--parallelism" -> parallelism = Integer.parseInt(args[++i]);
+                case "--state-table" -> stateTableFile = Path.of(args[++i]);
+                default -> throw new IllegalArgumentException("Argumento desconocido: " + args[i]);
+            }
+        }
+
+        long start = System.nanoTime();
+        Report report;
+        if (stateTableFile == null) {
+            report = verify(stride, parallelism, null);
+        } else {
+            try (PokerUtils.StateTable stateTable = PokerUtils.StateTable.open(stateTableFile)) {
+                report = verify(stride, parallelism, stateTable);
+            }
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        System.out.printf("Manos verificadas: %,d de %,d (%d hilos, %.1f s, %,.0f manos/s)%n",
+                report.hands, TOTAL_HANDS, parallelism, seconds, report.hands / seconds);
+        System.out.println("Lote: " + (PokerUtils.isBatchVectorized() ? "kernel vectorial" : "ciclo escalar")
+                + "; tabla de estados: " + (stateTableFile == null ? "no verificada" : stateTableFile));
+        PokerUtils.HandRank[] handRanks = PokerUtils.HandRank.values();
+        for (int i = 0; i < handRanks.length; i++) {
+            System.out.printf("  %-16s %,14d%s%n", handRanks[i], report.histogram[i],
+                    stride == 1 && report.histogram[i] != EXPECTED_HISTOGRAM[i]
+                            ? "  (se esperaban " + EXPECTED_HISTOGRAM[i] + ")" : "");
+        }
+        System.out.printf("Diferencias: %,d%n", report.mismatches);
+        for (String sample : report.samples) {
+            System.out.println("  " + sample);
+        }
+        if (report.mismatches > 0) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Verifica una de cada {@code stride} manos de 7 cartas en un pool de {@code parallelism} hilos.
+     * @param stateTable Tabla de estados a verificar, o {@code null} para no verificarla.
+     * @return El reporte combinado, con las diferencias de orden entre evaluadores incluidas.
+     * @throws IllegalArgumentException si {@code stride} o {@code parallelism} no son positivos.
+     */
+    static Report verify(long stride, int parallelism, PokerUtils.StateTable stateTable) {
+        if (stride < 1 || parallelism < 1) {
+            throw new IllegalArgumentException("El paso y la cantidad de hilos deben ser positivos.");
+        }
+        long count = (TOTAL_HANDS + stride - 1) / stride;
+        // Valor rápido -> clase de Utils2 y valor del módulo (0 = todavía no visto).
+        int valueSpace = PokerUtils.HandRank.values().length << 20;
+        AtomicIntegerArray utils2Classes = new AtomicIntegerArray(valueSpace);
+        AtomicIntegerArray moduleValues = new AtomicIntegerArray(valueSpace);
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        Report report;
+        try {
+            report = pool.invoke(new VerifyTask(0, count, stride, utils2Classes, moduleValues, stateTable));
+        } finally {
+            pool.shutdown();
+        }
+
+        // Las correspondencias deben preservar el orden: al recorrer los valores rápidos de menor a mayor,
+        // las clases y los valores del módulo tienen que crecer.
+        int previousClass = 0;
+        int previousModule = -1;
+        for (int value = 0; value < valueSpace; value++) {
+            int utils2Class = utils2Classes.get(value);
+            if (utils2Class == 0) {
+                continue;
+            }
+            int moduleValue = moduleValues.get(value);
+            if (utils2Class <= previousClass || moduleValue <= previousModule) {
+                report.addMismatch(String.format("Orden distinto para el valor %06x: clase %d, módulo %06x",
+                        value, utils2Class, moduleValue));
+            }
+            previousClass = utils2Class;
+            previousModule = moduleValue;
+        }
+        return report;
+    }
+
+    /** Tarea que divide el rango de posiciones [from, to) a la mitad hasta llegar a {@link #LEAF_SIZE}. */
+    private static final class VerifyTask extends RecursiveTask<Report> {
+        private final long from;
+        private final long to;
+        private final long stride;
+        private final AtomicIntegerArray utils2Classes;
+        private final AtomicIntegerArray moduleValues;
+        private final PokerUtils.StateTable stateTable;
+
+        VerifyTask(long from, long to, long stride, AtomicIntegerArray utils2Classes,
+                   AtomicIntegerArray moduleValues, PokerUtils.StateTable stateTable) {
+            this.from = from;
+            this.to = to;
+            this.stride = stride;
+            this.utils2Classes = utils2Classes;
+            this.moduleValues = moduleValues;
+            this.stateTable = stateTable;
+        }
+
+        @Override
+        protected Report compute() {
+            if (to - from <= LEAF_SIZE) {
+                return verifyRange();
+            }
+            long middle = (from + to) >>> 1;
+            VerifyTask left = new VerifyTask(from, middle, stride, utils2Classes, moduleValues, stateTable);
+            left.fork();
+            Report right = new VerifyTask(middle, to, stride, utils2Classes, moduleValues, stateTable).compute();
+            return left.join().merge(right);
+        }
+
+        private Report verifyRange() {
+            Report report = new Report();
+            int[] combination = new int[HAND_SIZE];
+            unrank(from * stride, combination);
+            ar.edu.utn.frc.tup.lciii.PokerHand moduleEvaluator = new ar.edu.utn.frc.tup.lciii.PokerHand();
+            int size = (int) (to - from);
+            long[] masks = new long[size];
+            int[] values = new int[size];
+            // En orden colexicográfico las dos primeras cartas (las del jugador) son las que más cambian, así
+            // que la mesa preprocesada se reutiliza en muchas manos seguidas.
+            long boardMask = -1L;
+            ShowdownBoard showdownBoard = null;
+            for (int i = 0; i < size; i++) {
+                if (i > 0) {
+                    if (stride == 1) {
+                        next(combination);
+                    } else {
+                        unrank((from + i) * stride, combination);
+                    }
+                }
+                long mask = 0L;
+                for (int index : combination) {
+                    mask |= 1L << index;
+                }
+                long board = mask & ~(1L << combination[0]) & ~(1L << combination[1]);
+                if (board != boardMask) {
+                    boardMask = board;
+                    showdownBoard = new ShowdownBoard(List.of(UTILS2_CARDS[combination[2]],
+                            UTILS2_CARDS[combination[3]], UTILS2_CARDS[combination[4]], UTILS2_CARDS[combination[5]],
+                            UTILS2_CARDS[combination[6]]));
+                }
+                masks[i] = mask;
+                values[i] = verifyHand(combination, mask, showdownBoard, moduleEvaluator, report);
+            }
+
+            // Lote: las mismas manos en una sola llamada, que usa el kernel vectorial si está disponible.
+            int[] batchValues = new int[size];
+            PokerUtils.evaluateBatch(masks, batchValues);
+            for (int i = 0; i < size; i++) {
+                if (batchValues[i] != values[i]) {
+                    report.addMismatch(String.format("%s: rápido %06x, lote %06x", describe(masks[i]), values[i],
+                            batchValues[i]));
+                }
+            }
+            return report;
+        }
+
+        /** Verifica una mano contra los demás evaluadores y devuelve su valor rápido. */
+        private int verifyHand(int[] combination, long mask, ShowdownBoard showdownBoard,
+                               ar.edu.utn.frc.tup.lciii.PokerHand moduleEvaluator, Report report) {
+            int value = PokerUtils.evaluate(mask);
+            int category = value >>> 20;
+            report.histogram[PokerUtils.HandRank.values().length - 1 - category]++;
+            report.hands++;
+
+            // PokerUtils por combinaciones: mismo tipo de mano y mismos kickers.
+            List<PokerUtils.Card> utilsHole = List.of(UTILS_CARDS[combination[0]], UTILS_CARDS[combination[1]]);
+            List<PokerUtils.Card> utilsBoard = List.of(UTILS_CARDS[combination[2]], UTILS_CARDS[combination[3]],
+                    UTILS_CARDS[combination[4]], UTILS_CARDS[combination[5]], UTILS_CARDS[combination[6]]);
+            PokerUtils.HandEvaluationResult expected = PokerUtils.evaluateHandByCombinations(utilsHole, utilsBoard);
+            PokerUtils.HandEvaluationResult actual = PokerUtils.toEvaluationResult(value);
+            if (!expected.equals(actual)) {
+                report.addMismatch(describe(combination) + ": rápido " + actual + ", combinaciones " + expected);
+            }
+
+            // Utils2: misma categoría (ambos enums van de carta alta a escalera real) y clase consistente.
+            List<Card> utils2Hole = List.of(UTILS2_CARDS[combination[0]], UTILS2_CARDS[combination[1]]);
+            List<Card> utils2Board = List.of(UTILS2_CARDS[combination[2]], UTILS2_CARDS[combination[3]],
+                    UTILS2_CARDS[combination[4]], UTILS2_CARDS[combination[5]], UTILS2_CARDS[combination[6]]);
+            PokerHand utils2Hand = HandEvaluator.evaluateBestHand(utils2Hole, utils2Board);
+            if (utils2Hand.getHandRankValue().ordinal() != category) {
+                report.addMismatch(describe(combination) + ": rápido " + actual + ", Utils2 " + utils2Hand);
+            }
+            checkConsistent(utils2Classes, value, utils2Hand.getEquivalenceClass(), "Utils2", combination, report);
+
+            // ShowdownBoard: la mesa preprocesada da la misma clase que las 21 combinaciones de HandRankTables.
+            int showdownClass = showdownBoard.bestClass(utils2Hole);
+            if (showdownClass != utils2Hand.getEquivalenceClass()) {
+                report.addMismatch(describe(combination) + ": Utils2 clase " + utils2Hand.getEquivalenceClass()
+                        + ", ShowdownBoard clase " + showdownClass);
+            }
+
+            // Tabla de estados: 7 lecturas encadenadas, con el mismo valor que el rápido.
+            if (stateTable != null) {
+                int stateValue = stateTable.evaluate(combination[0], combination[1], combination[2],
+                        combination[3], combination[4], combination[5], combination[6]);
+                if (stateValue != value) {
+                    report.addMismatch(String.format("%s: rápido %06x, tabla de estados %06x",
+                            describe(combination), value, stateValue));
+                }
+            }
+
+            // Módulo poker: misma categoría (su enum va de escalera real a carta alta) y valor consistente.
+            ar.edu.utn.frc.tup.lciii.PokerResult moduleResult = moduleEvaluator.evaluateHand(List.of(
+                    MODULE_CARDS[combination[0]], MODULE_CARDS[combination[1]], MODULE_CARDS[combination[2]],
+                    MODULE_CARDS[combination[3]], MODULE_CARDS[combination[4]], MODULE_CARDS[combination[5]],
+                    MODULE_CARDS[combination[6]]));
+            if (ar.edu.utn.frc.tup.lciii.Hands.HIGH_CARD.ordinal() - moduleResult.getHand().ordinal() != category) {
+                report.addMismatch(describe(combination) + ": rápido " + actual + ", módulo " + moduleResult);
+            }
+            checkConsistent(moduleValues, value, moduleResult.getValue(), "módulo", combination, report);
+
+            // PokerHand.evaluateMask sobre la misma máscara: el mismo valor salvo en la escalera al 5.
+            int maskValue = ar.edu.utn.frc.tup.lciii.PokerHand.evaluateMask(mask);
+            int expectedMaskValue = (value & 0xFFFFF) == UTILS_WHEEL ? value - UTILS_WHEEL + MODULE_WHEEL : value;
+            if (maskValue != expectedMaskValue) {
+                report.addMismatch(String.format("%s: rápido %06x, evaluateMask %06x", describe(combination),
+                        value, maskValue));
+            }
+            return value;
+        }
+
+        /** Registra el primer resultado de otro evaluador para el valor rápido y compara los siguientes. */
+        private static void checkConsistent(AtomicIntegerArray seen, int value, int other, String evaluator,
+                                            int[] combination, Report report) {
+            int previous = seen.get(value);
+            if (previous == 0 && seen.compareAndSet(value, 0, other)) {
+                return;
+            }
+            previous = seen.get(value);
+            if (previous != other) {
+                report.addMismatch(String.format("%s: el valor %06x ya correspondía a %d en %s y ahora a %d",
+                        describe(combination), value, previous, evaluator, other));
+            }
+        }
+    }
+
+    /**
+     * Posición de una combinación (ordenada de menor a mayor) en el orden colexicográfico:
+     * la suma de C(c<sub>i</sub>, i + 1).
+     */
+    static long rank(int[] combination) {
+        long index = 0;
+        for (int i = 0; i < combination.length; i++) {
+            index += BINOMIAL[combination[i]][i + 1];
+        }
+        return index;
+    }
+
+    /** Inversa de {@link #rank}: escribe en {@code combination} la combinación de la posición dada. */
+    static void unrank(long index, int[] combination) {
+        int candidate = DECK_SIZE - 1;
+        for (int i = combination.length - 1; i >= 0; i--) {
+            while (BINOMIAL[candidate][i + 1] > index) {
+                candidate--;
+            }
+            combination[i] = candidate;
+            index -= BINOMIAL[candidate][i + 1];
+            candidate--;
+        }
+    }
+
+    /**
+     * Avanza a la combinación siguiente en orden colexicográfico.
+     * @return {@code false} si ya era la última.
+     */
+    static boolean next(int[] combination) {
+        int last = combination.length - 1;
+        for (int i = 0; i <= last; i++) {
+            int limit = i == last ? DECK_SIZE : combination[i + 1];
+            if (combination[i] + 1 < limit) {
+                combination[i]++;
+                for (int j = 0; j < i; j++) {
+                    combination[j] = j;
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String describe(long mask) {
+        StringBuilder text = new StringBuilder();
+        for (long cards = mask; cards != 0; cards &= cards - 1) {
+            text.append(UTILS_CARDS[Long.numberOfTrailingZeros(cards)]).append(' ');
+        }
+        return text.toString().trim();
+    }
+
+    private static String describe(int[] combination) {
+        StringBuilder text = new StringBuilder();
+        for (int index : combination) {
+            text.append(UTILS_CARDS[index]).append(' ');
+        }
+        return text.toString().trim();
+    }
+}
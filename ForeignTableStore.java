@@ -0,0 +1,55 @@
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+
+/**
+ * {@link PokerUtils.TableStore} sobre un {@link MemorySegment} mapeado en un {@link Arena} compartido.
+ * Las lecturas usan accesos de {@link ValueLayout} que C2 compila a una carga directa, igual que un
+ * {@code int[]}, pero la tabla vive fuera del heap y {@link #close()} la desmapea en el momento: los
+ * hilos que sigan leyendo reciben {@link IllegalStateException} en lugar de acceder a memoria liberada.
+ * <p>
+ * Necesita {@code java.lang.foreign} (JDK 22 o superior, o JDK 21 con {@code --enable-preview}).
+ * PokerUtils la carga por reflexión y, si no está disponible, usa un IntBuffer mapeado.
+ */
+final class ForeignTableStore implements PokerUtils.TableStore {
+
+    private static final ValueLayout.OfInt INT = ValueLayout.JAVA_INT.withOrder(ByteOrder.LITTLE_ENDIAN);
+
+    private final Arena arena;
+    private final MemorySegment segment;
+
+    ForeignTableStore(FileChannel channel, long offset, long intCount) throws IOException {
+        arena = Arena.ofShared();
+        try {
+            segment = channel.map(FileChannel.MapMode.READ_ONLY, offset, intCount * Integer.BYTES, arena);
+        } catch (IOException | RuntimeException e) {
+            arena.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public int getInt(long index) {
+        return segment.getAtIndex(INT, index);
+    }
+
+    @Override
+    public long intCount() {
+        return segment.byteSize() / Integer.BYTES;
+    }
+
+    @Override
+    public boolean isOpen() {
+        return segment.scope().isAlive();
+    }
+
+    @Override
+    public synchronized void close() {
+        if (segment.scope().isAlive()) {
+            arena.close();
+        }
+    }
+}
@@ -0,0 +1,255 @@
+package ar.edu.utn.frc.tup.lciii;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Análisis de una mesa de 3 a 5 cartas comunitarias: las mejores manos posibles (la "nuts" y las siguientes)
+// y la textura de la mesa (pareada, monocolor, conectada, si hay escalera o color posible)
+// Todo se calcula con máscaras de bits y no depende de los palos concretos: dos mesas que solo difieren en
+// una permutación de palos comparten el mismo análisis, que se guarda en una caché compartida por todas las mesas
+public final class BoardAnalysis {
+
+    // Máscara con los 13 bits de un palo
+    private static final int SUIT_BITS = (1 << PokerHand.RANKS_PER_SUIT) - 1;
+
+    // Ventanas de 5 valores consecutivos que forman una escalera, incluida la baja A-2-3-4-5
+    private static final int[] STRAIGHT_WINDOWS = new int[10];
+
+    // Cantidad máxima de mesas guardadas; al llenarse la caché se vacía y se vuelve a llenar
+    static final int MAX_CACHED_BOARDS = 1 << 14;
+
+    // Caché de análisis por mesa canónica (palos ordenados) y modalidad
+    private static final Map<Long, BoardAnalysis> CACHE = new ConcurrentHashMap<>();
+
+    static {
+        STRAIGHT_WINDOWS[0] = 1 << 12 | 0xF; // A-2-3-4-5
+        for (int low = 0; low <= 8; low++) {
+            STRAIGHT_WINDOWS[low + 1] = 0x1F << low;
+        }
+    }
+
+    // Modalidad con la que se calcularon las manos posibles
+    private final PokerVariant variant;
+
+    // Cantidad de cartas de la mesa
+    private final int cardCount;
+
+    // Textura de la mesa
+    private final boolean paired;
+    private final boolean trips;
+    private final int maxSuitCount;
+    private final int connectedness;
+
+    // Valores de mano posibles (formato de PokerResult.value), de mejor a peor y sin repetir
+    private final int[] values;
+
+    // Cantidad de combinaciones de 2 cartas que llegan a cada valor o a uno mejor (acumulado)
+    private final int[] combosAtLeast;
+
+    private BoardAnalysis(long boardMask, PokerVariant variant) {
+        this.variant = variant;
+        this.cardCount = Long.bitCount(boardMask);
+
+        // Textura: cantidades por valor y por palo a partir de las máscaras de cada palo
+        int ranks = 0;
+        int pairs = 0;
+        int threes = 0;
+        int maxSuit = 0;
+        for (int suit = 0; suit < PokerHand.SUIT_COUNT; suit++) {
+            int suitRanks = (int) (boardMask >>> (suit * PokerHand.RANKS_PER_SUIT)) & SUIT_BITS;
+            threes |= pairs & suitRanks;
+            pairs |= ranks & suitRanks;
+            ranks |= suitRanks;
+            maxSuit = Math.max(maxSuit, Integer.bitCount(suitRanks));
+        }
+        this.paired = pairs != 0;
+        this.trips = threes != 0;
+        this.maxSuitCount = maxSuit;
+        int connected = 0;
+        for (int window : STRAIGHT_WINDOWS) {
+            connected = Math.max(connected, Integer.bitCount(ranks & window));
+        }
+        this.connectedness = connected;
+
+        // Manos posibles: se evalúan todas las combinaciones de 2 cartas que no están en la mesa
+        int[] all = new int[(52 - cardCount) * (51 - cardCount) / 2];
+        int count = 0;
+        for (int first = 0; first < 52; first++) {
+            if ((boardMask >>> first & 1) != 0) {
+                continue;
+            }
+            for (int second = first + 1; second < 52; second++) {
+                if ((boardMask >>> second & 1) == 0) {
+                    long hole = 1L << first | 1L << second;
+                    all[count++] = variant == PokerVariant.OMAHA
+                            ? PokerHand.evaluateOmahaMask(hole, boardMask)
+                            : PokerHand.evaluateMask(hole | boardMask);
+                }
+            }
+        }
+        Arrays.sort(all);
+
+        // Se agrupan los valores iguales recorriendo de mayor a menor
+        int[] distinct = new int[all.length];
+        int[] atLeast = new int[all.length];
+        int groups = 0;
+        for (int i = all.length - 1; i >= 0; i--) {
+            if (groups == 0 || distinct[groups - 1] != all[i]) {
+                distinct[groups] = all[i];
+                atLeast[groups] = groups == 0 ? 0 : atLeast[groups - 1];
+                groups++;
+            }
+            atLeast[groups - 1]++;
+        }
+        this.values = Arrays.copyOf(distinct, groups);
+        this.combosAtLeast = Arrays.copyOf(atLeast, groups);
+    }
+
+    // Devuelve el análisis de Texas Hold'em de la mesa dada
+    public static BoardAnalysis of(List<Card> boardCards) {
+        return of(boardCards, PokerVariant.TEXAS_HOLDEM);
+    }
+
+    // Devuelve el análisis de la mesa dada para la modalidad indicada, desde la caché si ya se calculó
+    public static BoardAnalysis of(List<Card> boardCards, PokerVariant variant) {
+        if (boardCards == null || boardCards.size() < 3 || boardCards.size() > 5) {
+            throw new IllegalArgumentException("La mesa debe tener entre 3 y 5 cartas");
+        }
+        if (variant == null) {
+            throw new IllegalArgumentException("La modalidad no puede ser nula");
+        }
+        long boardMask = PokerHand.cardMask(boardCards);
+        if (Long.bitCount(boardMask) != boardCards.size()) {
+            throw new IllegalArgumentException("La mesa tiene cartas repetidas");
+        }
+        long key = canonicalKey(boardMask) | (long) variant.ordinal() << 60;
+        BoardAnalysis analysis = CACHE.get(key);
+        if (analysis == null) {
+            if (CACHE.size() >= MAX_CACHED_BOARDS) {
+                CACHE.clear();
+            }
+            analysis = CACHE.computeIfAbsent(key, k -> new BoardAnalysis(boardMask, variant));
+        }
+        return analysis;
+    }
+
+    // Clave de la mesa independiente de los palos: las máscaras de los 4 palos ordenadas de mayor a menor
+    static long canonicalKey(long boardMask) {
+        long[] suits = new long[PokerHand.SUIT_COUNT];
+        for (int suit = 0; suit < PokerHand.SUIT_COUNT; suit++) {
+            suits[suit] = boardMask >>> (suit * PokerHand.RANKS_PER_SUIT) & SUIT_BITS;
+        }
+        Arrays.sort(suits);
+        long key = 0;
+        for (long suitRanks : suits) {
+            key = key << PokerHand.RANKS_PER_SUIT | suitRanks;
+        }
+        return key;
+    }
+
+    // Devuelve la modalidad del análisis
+    public PokerVariant getVariant() {
+        return variant;
+    }
+
+    // Devuelve la cantidad de cartas de la mesa
+    public int getCardCount() {
+        return cardCount;
+    }
+
+    // La mesa tiene al menos dos cartas del mismo valor
+    public boolean isPaired() {
+        return paired;
+    }
+
+    // La mesa tiene al menos tres cartas del mismo valor
+    public boolean hasTrips() {
+        return trips;
+    }
+
+    // Todas las cartas de la mesa son del mismo palo
+    public boolean isMonotone() {
+        return maxSuitCount == cardCount;
+    }
+
+    // Todas las cartas de la mesa son de palos distintos (solo posible con 3 o 4 cartas)
+    public boolean isRainbow() {
+        return maxSuitCount == 1;
+    }
+
+    // Mayor cantidad de cartas de la mesa de un mismo palo
+    public int getMaxSuitCount() {
+        return maxSuitCount;
+    }
+
+    // Mayor cantidad de valores distintos de la mesa dentro de una misma escalera posible (1 a 5)
+    public int getConnectedness() {
+        return connectedness;
+    }
+
+    // Con dos cartas propias alguien puede completar color
+    public boolean isFlushPossible() {
+        return maxSuitCount >= 3;
+    }
+
+    // Con dos cartas propias alguien puede completar escalera
+    public boolean isStraightPossible() {
+        return connectedness >= 3;
+    }
+
+    // Valor de la mejor mano posible en esta mesa (la "nuts")
+    public int getNutValue() {
+        return values[0];
+    }
+
+    // Tipo de la mejor mano posible en esta mesa
+    public Hands getNutHand() {
+        return PokerResult.handOf(values[0]);
+    }
+
+    // Devuelve las n mejores manos posibles, de mejor a peor (menos si no hay tantas distintas)
+    public List<PokerResult> getTopHands(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("La cantidad de manos no puede ser negativa");
+        }
+        List<PokerResult> top = new ArrayList<>(Math.min(n, values.length));
+        for (int i = 0; i < n && i < values.length; i++) {
+            top.add(new PokerResult(values[i]));
+        }
+        return top;
+    }
+
+    // Cantidad de manos posibles distintas en esta mesa
+    public int getDistinctHandCount() {
+        return values.length;
+    }
+
+    // Posición del valor entre las manos posibles: 0 es la nuts; un valor que no aparece toma la del siguiente peor
+    public int getHandRank(int value) {
+        int low = 0;
+        int high = values.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (values[mid] > value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // Cantidad de combinaciones de 2 cartas que forman una mano estrictamente mejor que el valor dado
+    public int getCombosBeating(int value) {
+        int rank = getHandRank(value);
+        return rank == 0 ? 0 : combosAtLeast[rank - 1];
+    }
+
+    // Proporción (0 a 1) de las combinaciones de 2 cartas que le ganan al valor dado
+    public double getShareBeating(int value) {
+        return (double) getCombosBeating(value) / combosAtLeast[combosAtLeast.length - 1];
+    }
+}
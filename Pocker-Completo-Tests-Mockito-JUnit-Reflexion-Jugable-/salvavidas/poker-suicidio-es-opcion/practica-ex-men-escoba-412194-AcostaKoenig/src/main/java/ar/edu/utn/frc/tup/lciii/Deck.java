@@ -14,11 +14,25 @@ public class Deck {
         initializeDeck();
     }
 
+    // Valor más bajo de cada mazo: el corto (6+) no tiene las cartas del 2 al 5
+    static final int FULL_DECK_LOWEST_VALUE = 2;
+    static final int SHORT_DECK_LOWEST_VALUE = 6;
+
     // Inicializa el mazo con 52 cartas, valores del 2 al 14 (As = 14), para cada palo
     public void initializeDeck() {
+        initializeDeck(FULL_DECK_LOWEST_VALUE);
+    }
+
+    // Inicializa el mazo corto con 36 cartas, valores del 6 al 14, para cada palo
+    public void initializeShortDeck() {
+        initializeDeck(SHORT_DECK_LOWEST_VALUE);
+    }
+
+    // Inicializa el mazo con los valores desde lowestValue hasta 14 para cada palo
+    private void initializeDeck(int lowestValue) {
         cards.clear(); // Vacía el mazo actual
         for (CardSuits suit : CardSuits.values()) { // Itera por cada palo
-            for (int i = 2; i <= 14; i++) { // Itera por valores 2 a 14
+            for (int i = lowestValue; i <= 14; i++) { // Itera por valores lowestValue a 14
                 cards.add(new Card(i, suit)); // Añade cada carta al mazo
             }
         }
@@ -0,0 +1,460 @@
+package ar.edu.utn.frc.tup.lciii;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+// Equity de Texas Hold'em entre varios jugadores, cada uno con una mano conocida o un rango con pesos
+// (arreglo de PokerHand.COMBO_COUNT pesos indexado con PokerHand.comboIndex), con mesa parcial y cartas
+// muertas opcionales. Una mano conocida es un rango de una sola combinación
+// La simulación de Monte Carlo reparte las repartidas entre las tareas de un ForkJoinPool: cada tarea tiene
+// su propio SplittableRandom y su propio acumulador y reparte con máscaras de cartas (sin Deck ni listas),
+// así que no hay estado compartido. Con la misma semilla el resultado es siempre el mismo
+// La enumeración exacta recorre todas las combinaciones de rangos compatibles y todas las cartas que faltan
+// en la mesa por índice combinatorio; calculate elige entre las dos según la cantidad de evaluaciones
+public final class EquityCalculator {
+
+    // Repartidas que simula cada tarea sin dividirse
+    static final int TRIALS_PER_TASK = 1 << 13;
+
+    // Intentos de repartir los rangos sin cartas repetidas antes de rendirse
+    private static final int MAX_REJECTIONS = 1 << 16;
+
+    // Evaluaciones de mano (repartos por jugadores) hasta las que calculate enumera en forma exacta.
+    // Alcanza para cualquier all-in entre manos conocidas en el flop o el turn y para dos manos antes del flop
+    static final long EXACT_EVALUATION_LIMIT = 4_000_000L;
+
+    // Repartidas de Monte Carlo que usa calculate cuando no conviene enumerar
+    static final long DEFAULT_TRIALS = 200_000L;
+
+    // Repartidas de cada tanda de la simulación adaptativa: una tarea por hilo del ForkJoinPool, así cada tanda
+    // dura pocos milisegundos y el presupuesto de tiempo se respeta con esa precisión
+    static final int ADAPTIVE_BATCH = TRIALS_PER_TASK * Math.max(1, ForkJoinPool.getCommonPoolParallelism());
+
+    // Mesas completas que enumera cada tarea sin dividirse
+    static final int RUNOUTS_PER_TASK = 1 << 12;
+
+    // Números combinatorios C(n, k) para n hasta 52 y k hasta 5
+    private static final long[][] BINOMIAL = new long[53][6];
+
+    static {
+        for (int n = 0; n <= 52; n++) {
+            BINOMIAL[n][0] = 1;
+            for (int k = 1; k <= Math.min(n, 5); k++) {
+                BINOMIAL[n][k] = BINOMIAL[n - 1][k - 1] + (k <= n - 1 ? BINOMIAL[n - 1][k] : 0);
+            }
+        }
+    }
+
+    // Mesa conocida (0 a 5 cartas) y cartas muertas
+    private final long boardMask;
+    private final long deadMask;
+
+    // Combinaciones posibles de cada jugador (sin cartas de la mesa ni muertas), sus pesos y los acumulados
+    private final int[][] combos;
+    private final double[][] weights;
+    private final double[][] cumulativeWeights;
+
+    private EquityCalculator(List<double[]> ranges, long boardMask, long deadMask) {
+        this.boardMask = boardMask;
+        this.deadMask = deadMask;
+        this.combos = new int[ranges.size()][];
+        this.weights = new double[ranges.size()][];
+        this.cumulativeWeights = new double[ranges.size()][];
+        long known = boardMask | deadMask;
+        for (int player = 0; player < ranges.size(); player++) {
+            double[] range = ranges.get(player);
+            if (range == null || range.length != PokerHand.COMBO_COUNT) {
+                throw new IllegalArgumentException("Cada rango debe tener un peso por cada una de las 1326 combinaciones");
+            }
+            int[] playerCombos = new int[PokerHand.COMBO_COUNT];
+            double[] playerWeights = new double[PokerHand.COMBO_COUNT];
+            double[] cumulative = new double[PokerHand.COMBO_COUNT];
+            int count = 0;
+            double total = 0;
+            for (int combo = 0; combo < PokerHand.COMBO_COUNT; combo++) {
+                double weight = range[combo];
+                if (!(weight >= 0) || Double.isInfinite(weight)) {
+                    throw new IllegalArgumentException("Los pesos del rango deben ser números no negativos");
+                }
+                if (weight > 0 && (PokerHand.comboMask(combo) & known) == 0) {
+                    total += weight;
+                    playerCombos[count] = combo;
+                    playerWeights[count] = weight;
+                    cumulative[count++] = total;
+                }
+            }
+            if (count == 0) {
+                throw new IllegalArgumentException("El rango del jugador " + player + " no tiene combinaciones posibles");
+            }
+            combos[player] = Arrays.copyOf(playerCombos, count);
+            weights[player] = Arrays.copyOf(playerWeights, count);
+            cumulativeWeights[player] = Arrays.copyOf(cumulative, count);
+        }
+    }
+
+    // Equity entre manos conocidas (2 cartas cada una) con la mesa y las cartas muertas dadas (pueden estar vacías)
+    public static EquityCalculator ofHands(List<List<Card>> hands, List<Card> boardCards, List<Card> deadCards) {
+        if (hands == null) {
+            throw new IllegalArgumentException("Las manos no pueden ser nulas");
+        }
+        List<double[]> ranges = new ArrayList<>(hands.size());
+        long used = 0L;
+        for (List<Card> hand : hands) {
+            if (hand == null || hand.size() != 2) {
+                throw new IllegalArgumentException("Cada jugador debe tener exactamente 2 cartas");
+            }
+            long holeMask = PokerHand.cardMask(hand);
+            if (Long.bitCount(holeMask) != 2 || (holeMask & used) != 0) {
+                throw new IllegalArgumentException("Hay cartas repetidas entre los jugadores");
+            }
+            used |= holeMask;
+            double[] range = new double[PokerHand.COMBO_COUNT];
+            range[PokerHand.comboIndex(holeMask)] = 1.0;
+            ranges.add(range);
+        }
+        return ofRanges(ranges, boardCards, deadCards);
+    }
+
+    // Equity entre rangos con pesos con la mesa y las cartas muertas dadas (pueden estar vacías)
+    public static EquityCalculator ofRanges(List<double[]> ranges, List<Card> boardCards, List<Card> deadCards) {
+        if (boardCards == null || deadCards == null) {
+            throw new IllegalArgumentException("La mesa y las cartas muertas no pueden ser nulas");
+        }
+        return of(ranges, PokerHand.cardMask(boardCards), PokerHand.cardMask(deadCards));
+    }
+
+    // Igual que el anterior con la mesa y las cartas muertas como máscaras
+    public static EquityCalculator of(List<double[]> ranges, long boardMask, long deadMask) {
+        if (ranges == null || ranges.size() < 2) {
+            throw new IllegalArgumentException("Se necesitan al menos 2 jugadores");
+        }
+        int boardCount = Long.bitCount(boardMask);
+        if (boardCount > 5 || boardCount == 1 || boardCount == 2) {
+            throw new IllegalArgumentException("La mesa debe tener 0, 3, 4 o 5 cartas");
+        }
+        if ((boardMask & deadMask) != 0 || ((boardMask | deadMask) >>> 52) != 0) {
+            throw new IllegalArgumentException("Las cartas de la mesa y las muertas deben ser distintas");
+        }
+        if (2 * ranges.size() + 5 + Long.bitCount(deadMask) > 52) {
+            throw new IllegalArgumentException("No alcanzan las cartas para " + ranges.size() + " jugadores");
+        }
+        return new EquityCalculator(ranges, boardMask, deadMask);
+    }
+
+    // Cantidad de jugadores
+    public int getPlayerCount() {
+        return combos.length;
+    }
+
+    // Cantidad de mesas completas posibles por cada reparto de cartas propias
+    public long getRunoutCount() {
+        int remaining = 52 - Long.bitCount(boardMask | deadMask) - 2 * combos.length;
+        return BINOMIAL[remaining][5 - Long.bitCount(boardMask)];
+    }
+
+    // Cota de las evaluaciones de mano que hace la enumeración exacta: producto de los tamaños de los rangos
+    // (sin descontar los repartos con cartas repetidas) por las mesas posibles y por los jugadores
+    public long getExactEvaluationCount() {
+        double count = (double) getRunoutCount() * combos.length;
+        for (int[] playerCombos : combos) {
+            count *= playerCombos.length;
+        }
+        return count >= Long.MAX_VALUE ? Long.MAX_VALUE : (long) count;
+    }
+
+    // Equity exacta si la enumeración cabe en EXACT_EVALUATION_LIMIT; si no, Monte Carlo con DEFAULT_TRIALS
+    public EquityResult calculate() {
+        return getExactEvaluationCount() <= EXACT_EVALUATION_LIMIT ? exact() : monteCarlo(DEFAULT_TRIALS);
+    }
+
+    // Equity exacta: recorre cada reparto compatible de los rangos (con peso igual al producto de los pesos)
+    // y cada mesa posible, dividiendo el trabajo entre las tareas de un ForkJoinPool
+    public EquityResult exact() {
+        List<long[]> deals = new ArrayList<>();
+        List<Double> dealWeights = new ArrayList<>();
+        collectDeals(0, boardMask | deadMask, new long[combos.length], 1.0, deals, dealWeights);
+        if (deals.isEmpty()) {
+            throw new IllegalStateException("Los rangos no tienen combinaciones compatibles entre sí");
+        }
+        double[] weightOfDeal = new double[deals.size()];
+        for (int deal = 0; deal < weightOfDeal.length; deal++) {
+            weightOfDeal[deal] = dealWeights.get(deal);
+        }
+        long[][] holesOfDeal = deals.toArray(new long[0][]);
+        return ForkJoinPool.commonPool()
+                .invoke(new ExactTask(holesOfDeal, weightOfDeal, 0, holesOfDeal.length, 0, getRunoutCount()))
+                .toResult();
+    }
+
+    // Arma recursivamente los repartos de cartas propias sin cartas repetidas
+    private void collectDeals(int player, long used, long[] holes, double weight,
+                              List<long[]> deals, List<Double> dealWeights) {
+        if (player == combos.length) {
+            deals.add(holes.clone());
+            dealWeights.add(weight);
+            return;
+        }
+        for (int i = 0; i < combos[player].length; i++) {
+            long holeMask = PokerHand.comboMask(combos[player][i]);
+            if ((holeMask & used) == 0) {
+                holes[player] = holeMask;
+                collectDeals(player + 1, used | holeMask, holes, weight * weights[player][i], deals, dealWeights);
+            }
+        }
+    }
+
+    // Enumera las mesas con índice from a to - 1 (orden colexicográfico de las cartas que faltan) para las
+    // cartas propias dadas y las suma al acumulador con el peso del reparto
+    void enumerate(long[] holes, double weight, long from, long to, EquityTally tally) {
+        long used = boardMask | deadMask;
+        for (long holeMask : holes) {
+            used |= holeMask;
+        }
+        int[] deck = new int[52 - Long.bitCount(used)];
+        int count = 0;
+        for (long rest = ~used & ((1L << 52) - 1); rest != 0; rest &= rest - 1) {
+            deck[count++] = Long.numberOfTrailingZeros(rest);
+        }
+        int missing = 5 - Long.bitCount(boardMask);
+        int[] positions = new int[missing];
+        unrank(from, positions);
+        int[] values = new int[holes.length];
+        for (long runout = from; runout < to; runout++) {
+            long board = boardMask;
+            for (int position : positions) {
+                board |= 1L << deck[position];
+            }
+            for (int player = 0; player < holes.length; player++) {
+                values[player] = PokerHand.evaluateMask(holes[player] | board);
+            }
+            tally.record(values, weight);
+            nextCombination(positions);
+        }
+    }
+
+    // Posiciones (de menor a mayor) de la combinación con el índice dado en orden colexicográfico:
+    // índice = C(p[k-1], k) + ... + C(p[0], 1)
+    static void unrank(long index, int[] positions) {
+        for (int k = positions.length; k >= 1; k--) {
+            int position = k - 1;
+            while (BINOMIAL[position + 1][k] <= index) {
+                position++;
+            }
+            positions[k - 1] = position;
+            index -= BINOMIAL[position][k];
+        }
+    }
+
+    // Avanza a la siguiente combinación en orden colexicográfico
+    static void nextCombination(int[] positions) {
+        for (int i = 0; i < positions.length; i++) {
+            if (i + 1 == positions.length || positions[i] + 1 < positions[i + 1]) {
+                positions[i]++;
+                for (int j = 0; j < i; j++) {
+                    positions[j] = j;
+                }
+                return;
+            }
+        }
+    }
+
+    // Simulación de Monte Carlo con una semilla al azar
+    public EquityResult monteCarlo(long trials) {
+        return monteCarlo(trials, new SplittableRandom().nextLong());
+    }
+
+    // Simulación de Monte Carlo reproducible: la misma semilla da siempre el mismo resultado,
+    // porque la división en tareas y el generador de cada una dependen solo de la cantidad de repartidas
+    public EquityResult monteCarlo(long trials, long seed) {
+        if (trials <= 0) {
+            throw new IllegalArgumentException("La cantidad de repartidas debe ser positiva");
+        }
+        return ForkJoinPool.commonPool().invoke(new TrialTask(trials, new SplittableRandom(seed))).toSampledResult();
+    }
+
+    // Simulación de Monte Carlo adaptativa con una semilla al azar
+    public EquityResult adaptive(double maxConfidenceWidth, long budgetMillis) {
+        return adaptive(maxConfidenceWidth, budgetMillis, new SplittableRandom().nextLong());
+    }
+
+    // Simula por tandas de ADAPTIVE_BATCH repartidas (repartidas entre las tareas del ForkJoinPool) y después de
+    // cada tanda mira el error estándar de cada jugador: termina cuando el intervalo de confianza del 95% de
+    // todos los jugadores es a lo sumo maxConfidenceWidth o cuando se acaba el presupuesto de tiempo, y devuelve
+    // la mejor estimación hasta ese momento. Siempre simula al menos una tanda
+    public EquityResult adaptive(double maxConfidenceWidth, long budgetMillis, long seed) {
+        if (!(maxConfidenceWidth > 0)) {
+            throw new IllegalArgumentException("El ancho del intervalo de confianza debe ser positivo");
+        }
+        if (budgetMillis <= 0) {
+            throw new IllegalArgumentException("El presupuesto de tiempo debe ser positivo");
+        }
+        long deadline = System.nanoTime() + budgetMillis * 1_000_000L;
+        SplittableRandom random = new SplittableRandom(seed);
+        EquityTally tally = new EquityTally(combos.length);
+        while (true) {
+            tally.add(simulateBatch(ADAPTIVE_BATCH, random.split()));
+            EquityResult result = tally.toSampledResult();
+            if (System.nanoTime() - deadline >= 0 || isPrecise(result, maxConfidenceWidth)) {
+                return result;
+            }
+        }
+    }
+
+    // Simula una tanda de repartidas dividida entre las tareas del ForkJoinPool y devuelve su acumulador
+    EquityTally simulateBatch(long trials, SplittableRandom random) {
+        return ForkJoinPool.commonPool().invoke(new TrialTask(trials, random));
+    }
+
+    private static boolean isPrecise(EquityResult result, double maxConfidenceWidth) {
+        for (int player = 0; player < result.getPlayerCount(); player++) {
+            if (result.getConfidenceWidth(player) > maxConfidenceWidth) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Simula las repartidas dadas con el generador dado y las suma al acumulador
+    void simulate(long trials, SplittableRandom random, EquityTally tally) {
+        int players = combos.length;
+        long[] holes = new long[players];
+        int[] values = new int[players];
+        int missing = 5 - Long.bitCount(boardMask);
+        for (long trial = 0; trial < trials; trial++) {
+            long used = dealHoles(random, holes);
+            long board = boardMask;
+            for (int dealt = 0; dealt < missing; dealt++) {
+                long card;
+                do {
+                    card = 1L << random.nextInt(52);
+                } while ((used & card) != 0);
+                used |= card;
+                board |= card;
+            }
+            for (int player = 0; player < players; player++) {
+                values[player] = PokerHand.evaluateMask(holes[player] | board);
+            }
+            tally.record(values, 1.0);
+        }
+    }
+
+    // Elige una combinación de cada rango según sus pesos; si dos jugadores comparten una carta se vuelve
+    // a elegir todo, así cada reparto sale con probabilidad proporcional al producto de los pesos
+    // Devuelve las cartas usadas (mesa, muertas y propias)
+    private long dealHoles(SplittableRandom random, long[] holes) {
+        for (int attempt = 0; attempt < MAX_REJECTIONS; attempt++) {
+            long used = boardMask | deadMask;
+            boolean valid = true;
+            for (int player = 0; player < holes.length && valid; player++) {
+                long holeMask = PokerHand.comboMask(pickCombo(player, random));
+                valid = (holeMask & used) == 0;
+                used |= holeMask;
+                holes[player] = holeMask;
+            }
+            if (valid) {
+                return used;
+            }
+        }
+        throw new IllegalStateException("Los rangos no tienen combinaciones compatibles entre sí");
+    }
+
+    // Combinación al azar del rango del jugador, con probabilidad proporcional a su peso
+    private int pickCombo(int player, SplittableRandom random) {
+        int[] playerCombos = combos[player];
+        if (playerCombos.length == 1) {
+            return playerCombos[0];
+        }
+        double[] cumulative = cumulativeWeights[player];
+        double target = random.nextDouble() * cumulative[cumulative.length - 1];
+        int low = 0;
+        int high = cumulative.length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (cumulative[mid] > target) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return playerCombos[low];
+    }
+
+    // Tarea que divide las repartidas en mitades hasta TRIALS_PER_TASK; la mitad izquierda recibe un
+    // generador separado con split antes de dividirse, así el árbol de generadores es siempre el mismo
+    private final class TrialTask extends RecursiveTask<EquityTally> {
+        private final long trials;
+        private final SplittableRandom random;
+
+        TrialTask(long trials, SplittableRandom random) {
+            this.trials = trials;
+            this.random = random;
+        }
+
+        @Override
+        protected EquityTally compute() {
+            if (trials <= TRIALS_PER_TASK) {
+                EquityTally tally = new EquityTally(combos.length);
+                simulate(trials, random, tally);
+                return tally;
+            }
+            TrialTask left = new TrialTask(trials / 2, random.split());
+            TrialTask right = new TrialTask(trials - trials / 2, random);
+            left.fork();
+            EquityTally rightTally = right.compute();
+            EquityTally tally = left.join();
+            tally.add(rightTally);
+            return tally;
+        }
+    }
+
+    // Tarea de la enumeración exacta: divide primero los repartos de cartas propias y, con un solo reparto,
+    // el rango de índices de mesas hasta RUNOUTS_PER_TASK
+    private final class ExactTask extends RecursiveTask<EquityTally> {
+        private final long[][] holesOfDeal;
+        private final double[] weightOfDeal;
+        private final int fromDeal;
+        private final int toDeal;
+        private final long fromRunout;
+        private final long toRunout;
+
+        ExactTask(long[][] holesOfDeal, double[] weightOfDeal, int fromDeal, int toDeal, long fromRunout, long toRunout) {
+            this.holesOfDeal = holesOfDeal;
+            this.weightOfDeal = weightOfDeal;
+            this.fromDeal = fromDeal;
+            this.toDeal = toDeal;
+            this.fromRunout = fromRunout;
+            this.toRunout = toRunout;
+        }
+
+        @Override
+        protected EquityTally compute() {
+            ExactTask left;
+            ExactTask right;
+            long runouts = toRunout - fromRunout;
+            if (toDeal - fromDeal > 1 && (toDeal - fromDeal) * runouts > RUNOUTS_PER_TASK) {
+                int middle = (fromDeal + toDeal) >>> 1;
+                left = new ExactTask(holesOfDeal, weightOfDeal, fromDeal, middle, fromRunout, toRunout);
+                right = new ExactTask(holesOfDeal, weightOfDeal, middle, toDeal, fromRunout, toRunout);
+            } else if (toDeal - fromDeal == 1 && runouts > RUNOUTS_PER_TASK) {
+                long middle = fromRunout + runouts / 2;
+                left = new ExactTask(holesOfDeal, weightOfDeal, fromDeal, toDeal, fromRunout, middle);
+                right = new ExactTask(holesOfDeal, weightOfDeal, fromDeal, toDeal, middle, toRunout);
+            } else {
+                EquityTally tally = new EquityTally(combos.length);
+                for (int deal = fromDeal; deal < toDeal; deal++) {
+                    enumerate(holesOfDeal[deal], weightOfDeal[deal], fromRunout, toRunout, tally);
+                }
+                return tally;
+            }
+            left.fork();
+            EquityTally rightTally = right.compute();
+            EquityTally tally = left.join();
+            tally.add(rightTally);
+            return tally;
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package ar.edu.utn.frc.tup.lciii;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Cálculo de equity en segundo plano que publica estimaciones parciales (Flow.Publisher), para que quien lo
+// pide, por ejemplo el hilo del juego que espera la entrada del jugador, no se quede bloqueado
+// Al suscribirse el primero, un hilo propio simula por tandas de EquityCalculator.ADAPTIVE_BATCH repartidas y
+// cada intervalMillis publica el resultado acumulado (probabilidades de victoria y empate y repartidas) hasta
+// llegar a maxTrials o hasta que se cancela. Al terminar publica el resultado final y cierra (onComplete)
+// La publicación usa un SubmissionPublisher con hilos de entrega propios (no los del ForkJoinPool común, que
+// usa la simulación): cada suscriptor pide con request y tiene un buffer propio; si un suscriptor lento tiene
+// el buffer lleno se saltea esa estimación parcial, que igual queda superada por la siguiente porque cada una
+// acumula todas las repartidas anteriores. El resultado final no se saltea nunca: getResult se completa
+// enseguida y el hilo del cálculo espera a que cada suscriptor tenga lugar para él (o cancele la suscripción)
+// antes de cerrar. onComplete llega después de las que tenga pendientes
+public final class EquityJob implements Flow.Publisher<EquityResult> {
+
+    // Intervalo por defecto entre estimaciones
+    public static final long DEFAULT_INTERVAL_MILLIS = 100;
+
+    // Estimaciones pendientes que se guardan por suscriptor
+    static final int BUFFER_CAPACITY = 16;
+
+    // Hilos que entregan las estimaciones a los suscriptores, compartidos por todos los cálculos; son daemon
+    // para no impedir que termine el programa
+    private static final ExecutorService DELIVERY = Executors.newCachedThreadPool(task -> {
+        Thread thread = new Thread(task, "equity-job-delivery");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final EquityCalculator calculator;
+    private final long intervalMillis;
+    private final long maxTrials;
+    private final long seed;
+
+    private final SubmissionPublisher<EquityResult> publisher =
+            new SubmissionPublisher<>(DELIVERY, BUFFER_CAPACITY);
+    private final CompletableFuture<EquityResult> result = new CompletableFuture<>();
+    private final AtomicBoolean started = new AtomicBoolean();
+    private volatile boolean cancelled;
+
+    private EquityJob(EquityCalculator calculator, long intervalMillis, long maxTrials, long seed) {
+        this.calculator = calculator;
+        this.intervalMillis = intervalMillis;
+        this.maxTrials = maxTrials;
+        this.seed = seed;
+    }
+
+    // Prepara la simulación de hasta maxTrials repartidas con estimaciones cada intervalMillis milisegundos
+    public static EquityJob of(EquityCalculator calculator, long intervalMillis, long maxTrials) {
+        return of(calculator, intervalMillis, maxTrials, new SplittableRandom().nextLong());
+    }
+
+    // Igual que el anterior con semilla: el resultado final es siempre el mismo si no se cancela
+    public static EquityJob of(EquityCalculator calculator, long intervalMillis, long maxTrials, long seed) {
+        if (calculator == null) {
+            throw new IllegalArgumentException("El cálculo de equity no puede ser nulo");
+        }
+        if (intervalMillis <= 0) {
+            throw new IllegalArgumentException("El intervalo entre estimaciones debe ser positivo");
+        }
+        if (maxTrials <= 0) {
+            throw new IllegalArgumentException("La cantidad de repartidas debe ser positiva");
+        }
+        return new EquityJob(calculator, intervalMillis, maxTrials, seed);
+    }
+
+    // Suscribe y, si es el primer suscriptor, empieza la simulación
+    @Override
+    public void subscribe(Flow.Subscriber<? super EquityResult> subscriber) {
+        publisher.subscribe(subscriber);
+        start();
+    }
+
+    // Empieza la simulación sin esperar suscriptores (no hace nada si ya empezó)
+    public void start() {
+        if (started.compareAndSet(false, true)) {
+            Thread worker = new Thread(this::run, "equity-job");
+            worker.setDaemon(true);
+            worker.start();
+        }
+    }
+
+    // Detiene la simulación después de la tanda en curso, por ejemplo cuando el jugador ya actuó. Los
+    // suscriptores reciben onComplete sin resultado final y getResult queda con el último acumulado
+    public void cancel() {
+        cancelled = true;
+        if (started.compareAndSet(false, true)) {
+            result.completeExceptionally(new CancellationException("Cálculo de equity cancelado"));
+            publisher.close();
+        }
+    }
+
+    // Indica si la simulación terminó (completa o cancelada)
+    public boolean isDone() {
+        return result.isDone();
+    }
+
+    // Resultado final (o el acumulado hasta la cancelación)
+    public CompletableFuture<EquityResult> getResult() {
+        return result;
+    }
+
+    private void run() {
+        try {
+            SplittableRandom random = new SplittableRandom(seed);
+            EquityTally tally = new EquityTally(calculator.getPlayerCount());
+            long nextEstimate = System.nanoTime() + intervalMillis * 1_000_000L;
+            while (!cancelled && tally.trials < maxTrials) {
+                long batch = Math.min(EquityCalculator.ADAPTIVE_BATCH, maxTrials - tally.trials);
+                tally.add(calculator.simulateBatch(batch, random.split()));
+                if (System.nanoTime() - nextEstimate >= 0 && tally.trials < maxTrials) {
+                    publisher.offer(tally.toSampledResult(), (subscriber, estimate) -> false);
+                    nextEstimate = System.nanoTime() + intervalMillis * 1_000_000L;
+                }
+            }
+            if (tally.trials == 0) {
+                result.completeExceptionally(new CancellationException("Cálculo de equity cancelado"));
+            } else {
+                EquityResult finalResult = tally.toSampledResult();
+                result.complete(finalResult);
+                if (!cancelled) {
+                    // submit espera lugar en el buffer de cada suscriptor en vez de descartar el resultado final
+                    publisher.submit(finalResult);
+                }
+            }
+            publisher.close();
+        } catch (Throwable e) {
+            result.completeExceptionally(e);
+            publisher.closeExceptionally(e);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package ar.edu.utn.frc.tup.lciii;
+
+import java.util.Arrays;
+
+// Resultado de un cálculo de equity: por jugador, la proporción de victorias, de empates y de derrotas y la
+// equity (victorias más la parte del pozo que le toca en cada empate). Las proporciones están ponderadas por
+// el peso de cada repartida (1 en Monte Carlo, el peso de las combinaciones de los rangos al enumerar)
+// Los resultados de Monte Carlo traen además el error estándar de la equity de cada jugador
+public final class EquityResult {
+
+    // Valor de la normal estándar del intervalo de confianza del 95%
+    static final double Z_95 = 1.959964;
+
+    // Cantidad de repartidas evaluadas
+    private final long trials;
+
+    // Peso total de las repartidas
+    private final double weight;
+
+    // Peso de las repartidas que cada jugador gana solo, que empata y parte del pozo que se lleva
+    private final double[] wins;
+    private final double[] ties;
+    private final double[] shares;
+
+    // Suma de los cuadrados de la parte del pozo de cada repartida (null si el resultado es exacto)
+    private final double[] squares;
+
+    EquityResult(long trials, double weight, double[] wins, double[] ties, double[] shares, double[] squares) {
+        this.trials = trials;
+        this.weight = weight;
+        this.wins = wins;
+        this.ties = ties;
+        this.shares = shares;
+        this.squares = squares;
+    }
+
+    // Cantidad de jugadores
+    public int getPlayerCount() {
+        return wins.length;
+    }
+
+    // Cantidad de repartidas evaluadas
+    public long getTrials() {
+        return trials;
+    }
+
+    // Probabilidad de que el jugador gane el pozo solo
+    public double getWinProbability(int player) {
+        return wins[player] / weight;
+    }
+
+    // Probabilidad de que el jugador empate la mejor mano con otros
+    public double getTieProbability(int player) {
+        return ties[player] / weight;
+    }
+
+    // Probabilidad de que el jugador pierda
+    public double getLoseProbability(int player) {
+        return (weight - wins[player] - ties[player]) / weight;
+    }
+
+    // Parte del pozo que se lleva el jugador en promedio
+    public double getEquity(int player) {
+        return shares[player] / weight;
+    }
+
+    // Error estándar de la equity del jugador: 0 si el resultado es exacto
+    public double getStandardError(int player) {
+        if (squares == null) {
+            return 0;
+        }
+        if (trials < 2) {
+            return Double.POSITIVE_INFINITY;
+        }
+        double mean = getEquity(player);
+        double variance = Math.max(0, squares[player] / weight - mean * mean) * trials / (trials - 1);
+        return Math.sqrt(variance / trials);
+    }
+
+    // Ancho del intervalo de confianza del 95% de la equity del jugador
+    public double getConfidenceWidth(int player) {
+        return 2 * Z_95 * getStandardError(player);
+    }
+
+    @Override
+    public String toString() {
+        double[] equities = new double[shares.length];
+        for (int player = 0; player < equities.length; player++) {
+            equities[player] = Math.round(getEquity(player) * 10000) / 100.0;
+        }
+        return "Equity " + Arrays.toString(equities) + "% en " + trials + " repartidas";
+    }
+}
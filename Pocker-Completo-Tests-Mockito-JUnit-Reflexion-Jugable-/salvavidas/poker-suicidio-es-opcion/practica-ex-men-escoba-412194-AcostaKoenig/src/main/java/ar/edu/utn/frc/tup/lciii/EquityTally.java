@@ -0,0 +1,80 @@
+package ar.edu.utn.frc.tup.lciii;
+
+// Acumulador de un cálculo de equity: cada tarea suma sus repartidas en su propio acumulador y al
+// terminar se juntan, así que no hay estado compartido entre hilos
+final class EquityTally {
+
+    long trials;
+    double weight;
+    final double[] wins;
+    final double[] ties;
+    final double[] shares;
+
+    // Suma de los cuadrados de la parte del pozo de cada repartida, para el error estándar de Monte Carlo
+    final double[] squares;
+
+    EquityTally(int players) {
+        this.wins = new double[players];
+        this.ties = new double[players];
+        this.shares = new double[players];
+        this.squares = new double[players];
+    }
+
+    // Registra una repartida con los valores de mano de cada jugador (formato de PokerResult.value)
+    void record(int[] values, double trialWeight) {
+        int best = values[0];
+        int winners = 1;
+        for (int player = 1; player < values.length; player++) {
+            if (values[player] > best) {
+                best = values[player];
+                winners = 1;
+            } else if (values[player] == best) {
+                winners++;
+            }
+        }
+        double share = trialWeight / winners;
+        for (int player = 0; player < values.length; player++) {
+            if (values[player] == best) {
+                if (winners == 1) {
+                    wins[player] += trialWeight;
+                } else {
+                    ties[player] += trialWeight;
+                }
+                shares[player] += share;
+                squares[player] += share / winners;
+            }
+        }
+        trials++;
+        weight += trialWeight;
+    }
+
+    // Suma las repartidas de otro acumulador
+    void add(EquityTally other) {
+        trials += other.trials;
+        weight += other.weight;
+        for (int player = 0; player < wins.length; player++) {
+            wins[player] += other.wins[player];
+            ties[player] += other.ties[player];
+            shares[player] += other.shares[player];
+            squares[player] += other.squares[player];
+        }
+    }
+
+    // Resultado de una enumeración (sin error estándar)
+    EquityResult toResult() {
+        checkWeight();
+        return new EquityResult(trials, weight, wins.clone(), ties.clone(), shares.clone(), null);
+    }
+
+    // Resultado de una simulación con repartidas de peso 1, con el error estándar de cada jugador
+    EquityResult toSampledResult() {
+        checkWeight();
+        return new EquityResult(trials, weight, wins.clone(), ties.clone(), shares.clone(), squares.clone());
+    }
+
+    private void checkWeight() {
+        if (weight == 0) {
+            throw new IllegalStateException("No se evaluó ninguna repartida");
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package ar.edu.utn.frc.tup.lciii;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// Tabla de la distribución de equity en el flop de cada clase de mano inicial contra una mano al azar, para
+// cada una de las 1755 clases de flops de FlopIsomorphism. Para cada turn y river posibles se calcula la
+// equity en el river de la mano contra una mano al azar; el histograma reparte esas equities en BINS
+// intervalos iguales de 0 a 1 y suma todas las combinaciones de la clase que no chocan con el flop
+// Los valores son promedios de la clase de mano sin palos (las 4 combinaciones de AKs juntas), no de una mano
+// concreta: en 2h-7h-Th AhKh tiene flush y AsKs no, pero las dos leen el mismo registro. Por eso solo se
+// consulta por índice de clase; para la equity de unas cartas propias dadas se usa RangeEquity
+// Se calcula con FlopEquityGenerator y se lee con FileChannel.map: solo se cargan del disco las partes que se
+// consultan, así abrir la tabla no cuesta nada aunque ocupe varios MB
+// Formato del archivo (big endian): MAGIC, FLOP_CLASS_COUNT, CLASS_COUNT y BINS como int; después un registro
+// por flop y clase de mano (en ese orden) con la equity media como short sin signo (equity * EQUITY_SCALE) y
+// la proporción de cada intervalo como byte sin signo (proporción * HISTOGRAM_SCALE). Las clases que no tienen
+// ninguna combinación posible en el flop (AA en un flop con 3 ases) quedan en 0
+public final class FlopEquity {
+
+    // Intervalos del histograma
+    public static final int BINS = 10;
+
+    // Marca del comienzo del archivo ("FL55")
+    static final int MAGIC = 0x464C3535;
+
+    // Escalas de la equity media y de las proporciones del histograma
+    static final int EQUITY_SCALE = 0xFFFF;
+    static final int HISTOGRAM_SCALE = 0xFF;
+
+    // Bytes del encabezado, de cada registro y del archivo completo
+    static final int HEADER_BYTES = 4 * Integer.BYTES;
+    static final int RECORD_BYTES = 2 + BINS;
+    static final long FILE_BYTES = HEADER_BYTES
+            + (long) FlopIsomorphism.FLOP_CLASS_COUNT * PreflopEquity.CLASS_COUNT * RECORD_BYTES;
+
+    // Contenido del archivo (solo lectura)
+    private final ByteBuffer buffer;
+
+    private FlopEquity(ByteBuffer buffer) {
+        if (buffer.capacity() != FILE_BYTES || buffer.getInt(0) != MAGIC
+                || buffer.getInt(4) != FlopIsomorphism.FLOP_CLASS_COUNT
+                || buffer.getInt(8) != PreflopEquity.CLASS_COUNT || buffer.getInt(12) != BINS) {
+            throw new IllegalArgumentException("El archivo no es una tabla de equity en el flop");
+        }
+        this.buffer = buffer;
+    }
+
+    // Carga la tabla del archivo dado con FileChannel.map
+    public static FlopEquity load(Path file) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return new FlopEquity(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo leer la tabla de equity " + file, e);
+        }
+    }
+
+    // Indica si la clase de mano tiene combinaciones posibles en el flop
+    public boolean isPossible(int flopClass, int handClass) {
+        int offset = offset(flopClass, handClass);
+        for (int bin = 0; bin < BINS; bin++) {
+            if (buffer.get(offset + 2 + bin) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Equity media de todas las combinaciones de la clase de mano en el flop contra una mano al azar (NaN si
+    // no es posible)
+    public double getEquity(int flopClass, int handClass) {
+        if (!isPossible(flopClass, handClass)) {
+            return Double.NaN;
+        }
+        return (buffer.getShort(offset(flopClass, handClass)) & 0xFFFF) / (double) EQUITY_SCALE;
+    }
+
+    // Proporción de los turn y river, sobre todas las combinaciones de la clase, en que la equity cae en cada
+    // intervalo (suman 1; todos 0 si la clase no es posible en el flop)
+    public double[] getHistogram(int flopClass, int handClass) {
+        int offset = offset(flopClass, handClass) + 2;
+        double[] histogram = new double[BINS];
+        double total = 0;
+        for (int bin = 0; bin < BINS; bin++) {
+            histogram[bin] = buffer.get(offset + bin) & 0xFF;
+            total += histogram[bin];
+        }
+        // Se normaliza para que el redondeo de cada byte no cambie la suma
+        for (int bin = 0; bin < BINS && total > 0; bin++) {
+            histogram[bin] /= total;
+        }
+        return histogram;
+    }
+
+    static int offset(int flopClass, int handClass) {
+        FlopIsomorphism.checkClass(flopClass);
+        if (handClass < 0 || handClass >= PreflopEquity.CLASS_COUNT) {
+            throw new IllegalArgumentException("Clase de mano inicial fuera de rango: " + handClass);
+        }
+        return HEADER_BYTES + (flopClass * PreflopEquity.CLASS_COUNT + handClass) * RECORD_BYTES;
+    }
+}
@@ -0,0 +1,94 @@
+package ar.edu.utn.frc.tup.lciii;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.stream.IntStream;
+
+// Generador offline de la tabla de FlopEquity. Es exacto: para cada clase de flop recorre los 1176 pares de
+// turn y river, y en cada mesa un solo RiverEquity da la equity en el river de las 1326 combinaciones contra
+// una mano al azar. Los flops se reparten entre los hilos del ForkJoinPool
+// Uso: FlopEquityGenerator <archivo>
+public final class FlopEquityGenerator {
+
+    private FlopEquityGenerator() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Uso: FlopEquityGenerator <archivo>");
+            System.exit(2);
+        }
+        long start = System.nanoTime();
+        byte[] table = generate(FlopIsomorphism.FLOP_CLASS_COUNT);
+        Files.write(Paths.get(args[0]), table);
+        System.out.printf("Tabla escrita en %s (%d bytes) en %.1f s%n", args[0], table.length,
+                (System.nanoTime() - start) / 1e9);
+    }
+
+    // Calcula el contenido del archivo con los primeros flops clases de flops (el resto queda en 0);
+    // el archivo completo usa FLOP_CLASS_COUNT
+    static byte[] generate(int flops) {
+        if (flops < 0 || flops > FlopIsomorphism.FLOP_CLASS_COUNT) {
+            throw new IllegalArgumentException("Cantidad de flops fuera de rango: " + flops);
+        }
+        ByteBuffer buffer = ByteBuffer.allocate((int) FlopEquity.FILE_BYTES);
+        buffer.putInt(FlopEquity.MAGIC).putInt(FlopIsomorphism.FLOP_CLASS_COUNT).putInt(PreflopEquity.CLASS_COUNT)
+                .putInt(FlopEquity.BINS);
+        byte[][] records = new byte[flops][];
+        IntStream.range(0, flops).parallel().forEach(flopClass -> records[flopClass] = flopRecords(flopClass));
+        for (byte[] flopRecords : records) {
+            buffer.put(flopRecords);
+        }
+        return buffer.array();
+    }
+
+    // Registros de las 169 clases de manos iniciales en la clase de flop dada
+    static byte[] flopRecords(int flopClass) {
+        long flopMask = FlopIsomorphism.getFlop(flopClass);
+        int[] deck = new int[52 - 3];
+        int count = 0;
+        for (long rest = ~flopMask & ((1L << 52) - 1); rest != 0; rest &= rest - 1) {
+            deck[count++] = Long.numberOfTrailingZeros(rest);
+        }
+
+        // Histograma y suma de equities de cada combinación sobre todos los turn y river
+        long[][] counts = new long[PreflopEquity.CLASS_COUNT][FlopEquity.BINS];
+        double[] equitySums = new double[PreflopEquity.CLASS_COUNT];
+        long[] runouts = new long[PreflopEquity.CLASS_COUNT];
+        int[] handClasses = new int[PokerHand.COMBO_COUNT];
+        for (int combo = 0; combo < PokerHand.COMBO_COUNT; combo++) {
+            handClasses[combo] = PreflopEquity.handClass(PokerHand.comboMask(combo));
+        }
+        double[] random = RiverEquity.uniformRange();
+        for (int turn = 0; turn < deck.length; turn++) {
+            for (int river = turn + 1; river < deck.length; river++) {
+                double[] equities = RiverEquity.of(flopMask | 1L << deck[turn] | 1L << deck[river]).equities(random);
+                for (int combo = 0; combo < PokerHand.COMBO_COUNT; combo++) {
+                    double equity = equities[combo];
+                    if (Double.isNaN(equity)) {
+                        continue;
+                    }
+                    int handClass = handClasses[combo];
+                    counts[handClass][Math.min(FlopEquity.BINS - 1, (int) (equity * FlopEquity.BINS))]++;
+                    equitySums[handClass] += equity;
+                    runouts[handClass]++;
+                }
+            }
+        }
+
+        ByteBuffer records = ByteBuffer.allocate(PreflopEquity.CLASS_COUNT * FlopEquity.RECORD_BYTES);
+        for (int handClass = 0; handClass < PreflopEquity.CLASS_COUNT; handClass++) {
+            if (runouts[handClass] == 0) {
+                records.position(records.position() + FlopEquity.RECORD_BYTES);
+                continue;
+            }
+            records.putShort((short) Math.round(equitySums[handClass] / runouts[handClass] * FlopEquity.EQUITY_SCALE));
+            for (long binCount : counts[handClass]) {
+                records.put((byte) Math.round((double) binCount / runouts[handClass] * FlopEquity.HISTOGRAM_SCALE));
+            }
+        }
+        return records.array();
+    }
+}
@@ -0,0 +1,143 @@
+package ar.edu.utn.frc.tup.lciii;
+
+import java.util.Arrays;
+import java.util.List;
+
+// Clases de flops equivalentes por cambio de palos: los palos no tienen orden, así que dos flops que solo
+// difieren en cómo se renombran los palos son estratégicamente el mismo. De los 22100 flops quedan 1755
+// La forma canónica de un flop es la menor máscara de cartas entre sus 24 permutaciones de palos y su clase
+// es la posición de esa máscara en la lista ordenada de formas canónicas
+public final class FlopIsomorphism {
+
+    // Cantidad de clases de flops
+    public static final int FLOP_CLASS_COUNT = 1755;
+
+    // Las 24 permutaciones de los 4 palos: el palo s pasa a ser PERMUTATIONS[p][s]
+    private static final int[][] PERMUTATIONS = new int[24][];
+
+    // Forma canónica de cada clase, ordenadas de menor a mayor
+    private static final long[] CANONICAL_FLOPS = new long[FLOP_CLASS_COUNT];
+
+    // Cantidad de flops de cada clase
+    private static final int[] FLOP_COUNTS = new int[FLOP_CLASS_COUNT];
+
+    private static final int SUIT_BITS = (1 << PokerHand.RANKS_PER_SUIT) - 1;
+
+    static {
+        int count = 0;
+        for (int a = 0; a < 4; a++) {
+            for (int b = 0; b < 4; b++) {
+                for (int c = 0; c < 4; c++) {
+                    int d = 6 - a - b - c;
+                    if (a != b && a != c && b != c && d >= 0 && d < 4 && d != a && d != b && d != c) {
+                        PERMUTATIONS[count++] = new int[]{a, b, c, d};
+                    }
+                }
+            }
+        }
+
+        long[] canonical = new long[22100];
+        count = 0;
+        for (int first = 0; first < 52; first++) {
+            for (int second = first + 1; second < 52; second++) {
+                for (int third = second + 1; third < 52; third++) {
+                    canonical[count++] = canonicalFlop(1L << first | 1L << second | 1L << third);
+                }
+            }
+        }
+        Arrays.sort(canonical);
+        int classes = 0;
+        for (int i = 0; i < canonical.length; i++) {
+            if (i == 0 || canonical[i] != canonical[i - 1]) {
+                CANONICAL_FLOPS[classes++] = canonical[i];
+            }
+            FLOP_COUNTS[classes - 1]++;
+        }
+    }
+
+    private FlopIsomorphism() {
+    }
+
+    // Aplica la permutación de palos a la máscara de cartas
+    static long permute(long cardMask, int[] permutation) {
+        long result = 0;
+        for (int suit = 0; suit < 4; suit++) {
+            long ranks = cardMask >>> (suit * PokerHand.RANKS_PER_SUIT) & SUIT_BITS;
+            result |= ranks << (permutation[suit] * PokerHand.RANKS_PER_SUIT);
+        }
+        return result;
+    }
+
+    // Forma canónica del flop (máscara de 3 cartas)
+    public static long canonicalFlop(long flopMask) {
+        checkFlop(flopMask);
+        long best = Long.MAX_VALUE;
+        for (int[] permutation : PERMUTATIONS) {
+            best = Math.min(best, permute(flopMask, permutation));
+        }
+        return best;
+    }
+
+    // Forma canónica del flop junto con las cartas propias: {flop, cartas propias}. El flop queda en su forma
+    // canónica y, entre las permutaciones que lo llevan a ella, se elige la que da la menor máscara de cartas
+    // propias, así dos situaciones equivalentes dan siempre el mismo par
+    public static long[] canonicalize(long flopMask, long holeMask) {
+        if (Long.bitCount(holeMask) != 2 || (holeMask & flopMask) != 0 || holeMask >>> 52 != 0) {
+            throw new IllegalArgumentException("La mano inicial debe tener 2 cartas que no estén en el flop");
+        }
+        long flop = canonicalFlop(flopMask);
+        long hole = Long.MAX_VALUE;
+        for (int[] permutation : PERMUTATIONS) {
+            if (permute(flopMask, permutation) == flop) {
+                hole = Math.min(hole, permute(holeMask, permutation));
+            }
+        }
+        return new long[]{flop, hole};
+    }
+
+    // Igual que el anterior con las cartas como listas
+    public static long[] canonicalize(List<Card> flopCards, List<Card> holeCards) {
+        return canonicalize(flopMask(flopCards), PokerHand.cardMask(holeCards));
+    }
+
+    // Clase del flop (0 a FLOP_CLASS_COUNT - 1)
+    public static int flopClass(long flopMask) {
+        return Arrays.binarySearch(CANONICAL_FLOPS, canonicalFlop(flopMask));
+    }
+
+    // Clase del flop de las cartas dadas
+    public static int flopClass(List<Card> flopCards) {
+        return flopClass(flopMask(flopCards));
+    }
+
+    // Forma canónica de la clase dada
+    public static long getFlop(int flopClass) {
+        checkClass(flopClass);
+        return CANONICAL_FLOPS[flopClass];
+    }
+
+    // Cantidad de flops de la clase dada (de 4 a 24: un flop de un solo palo o un trío tiene solo 4 versiones)
+    public static int getFlopCount(int flopClass) {
+        checkClass(flopClass);
+        return FLOP_COUNTS[flopClass];
+    }
+
+    private static long flopMask(List<Card> flopCards) {
+        if (flopCards == null || flopCards.size() != 3) {
+            throw new IllegalArgumentException("El flop debe tener 3 cartas");
+        }
+        return PokerHand.cardMask(flopCards);
+    }
+
+    private static void checkFlop(long flopMask) {
+        if (Long.bitCount(flopMask) != 3 || flopMask >>> 52 != 0) {
+            throw new IllegalArgumentException("El flop debe tener 3 cartas distintas");
+        }
+    }
+
+    static void checkClass(int flopClass) {
+        if (flopClass < 0 || flopClass >= FLOP_CLASS_COUNT) {
+            throw new IllegalArgumentException("Clase de flop fuera de rango: " + flopClass);
+        }
+    }
+}
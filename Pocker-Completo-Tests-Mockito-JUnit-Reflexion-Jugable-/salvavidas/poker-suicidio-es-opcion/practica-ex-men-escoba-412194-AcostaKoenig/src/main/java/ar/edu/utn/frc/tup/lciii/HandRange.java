@@ -0,0 +1,415 @@
+package ar.edu.utn.frc.tup.lciii;
+
+import java.util.Arrays;
+import java.util.List;
+
+// Rango de manos iniciales: conjunto de las 1326 combinaciones de 2 cartas guardado como 21 palabras de bits
+// (bit = PokerHand.comboIndex), con un peso por combinación. La unión, la intersección y la resta son
+// operaciones entre palabras, y quitar las combinaciones que usan cartas conocidas (propias o de la mesa)
+// es un AND NOT con la máscara precalculada de cada carta
+// Se arma desde la notación habitual: "TT+, AKs, A5s-A2s, KQo, AhKh, QJs:0.5" (el peso va después de ':')
+public final class HandRange {
+
+    // Palabras de 64 bits necesarias para las 1326 combinaciones
+    static final int WORDS = (PokerHand.COMBO_COUNT + 63) / 64;
+
+    // Combinaciones que usan cada carta (índice de carta de PokerHand.cardIndex)
+    private static final long[][] COMBOS_WITH_CARD = new long[52][WORDS];
+
+    // Combinaciones de cada clase de mano inicial (numeración de PreflopEquity)
+    private static final long[][] COMBOS_OF_CLASS = new long[PreflopEquity.CLASS_COUNT][WORDS];
+
+    private static final String RANKS = "23456789TJQKA";
+
+    // Letras de los palos en el orden de CardSuits: corazones, picas, diamantes y tréboles
+    private static final String SUITS = "hsdc";
+
+    private static final HandRange EMPTY = new HandRange(new long[WORDS], new double[PokerHand.COMBO_COUNT]);
+
+    static {
+        for (int combo = 0; combo < PokerHand.COMBO_COUNT; combo++) {
+            long holeMask = PokerHand.comboMask(combo);
+            set(COMBOS_WITH_CARD[Long.numberOfTrailingZeros(holeMask)], combo);
+            set(COMBOS_WITH_CARD[63 - Long.numberOfLeadingZeros(holeMask)], combo);
+            set(COMBOS_OF_CLASS[PreflopEquity.handClass(holeMask)], combo);
+        }
+    }
+
+    // Combinaciones del rango
+    private final long[] bits;
+
+    // Peso de cada combinación (0 si no está en el rango)
+    private final double[] weights;
+
+    private HandRange(long[] bits, double[] weights) {
+        this.bits = bits;
+        this.weights = weights;
+    }
+
+    // Rango vacío
+    public static HandRange empty() {
+        return EMPTY;
+    }
+
+    // Rango con todas las combinaciones con peso 1 (una mano al azar)
+    public static HandRange all() {
+        long[] bits = new long[WORDS];
+        Arrays.fill(bits, -1L);
+        bits[WORDS - 1] = (1L << (PokerHand.COMBO_COUNT % 64)) - 1;
+        double[] weights = new double[PokerHand.COMBO_COUNT];
+        Arrays.fill(weights, 1.0);
+        return new HandRange(bits, weights);
+    }
+
+    // Rango con las combinaciones de la clase de mano inicial dada, con peso 1
+    public static HandRange ofClass(int handClass) {
+        if (handClass < 0 || handClass >= PreflopEquity.CLASS_COUNT) {
+            throw new IllegalArgumentException("Clase de mano inicial fuera de rango: " + handClass);
+        }
+        return withWeight(COMBOS_OF_CLASS[handClass].clone(), 1.0);
+    }
+
+    // Rango de una sola combinación (2 cartas conocidas)
+    public static HandRange ofCards(List<Card> holeCards) {
+        if (holeCards == null || holeCards.size() != 2) {
+            throw new IllegalArgumentException("La combinación debe tener exactamente 2 cartas");
+        }
+        long[] bits = new long[WORDS];
+        set(bits, PokerHand.comboIndex(PokerHand.cardMask(holeCards)));
+        return withWeight(bits, 1.0);
+    }
+
+    // Rango con los pesos dados por combinación (los pesos en 0 quedan fuera del rango)
+    public static HandRange ofWeights(double[] weights) {
+        if (weights == null || weights.length != PokerHand.COMBO_COUNT) {
+            throw new IllegalArgumentException("El rango debe tener un peso por cada una de las 1326 combinaciones");
+        }
+        long[] bits = new long[WORDS];
+        double[] copy = new double[PokerHand.COMBO_COUNT];
+        for (int combo = 0; combo < PokerHand.COMBO_COUNT; combo++) {
+            checkWeight(weights[combo]);
+            if (weights[combo] > 0) {
+                set(bits, combo);
+                copy[combo] = weights[combo];
+            }
+        }
+        return new HandRange(bits, copy);
+    }
+
+    // Arma el rango desde la notación habitual, con partes separadas por comas:
+    // "AA" o "AKs"/"AKo"/"AK" (las dos), "TT+" (TT a AA), "ATs+" (ATs a AKs), "22-55", "A5s-A2s",
+    // "AhKh" (una combinación) y cualquiera de ellas con peso: "KQo:0.5". Si una combinación aparece
+    // más de una vez queda el último peso
+    public static HandRange parse(String notation) {
+        if (notation == null) {
+            throw new IllegalArgumentException("La notación del rango no puede ser nula");
+        }
+        long[] bits = new long[WORDS];
+        double[] weights = new double[PokerHand.COMBO_COUNT];
+        for (String part : notation.split(",")) {
+            String token = part.trim();
+            if (token.isEmpty()) {
+                continue;
+            }
+            double weight = 1.0;
+            int colon = token.indexOf(':');
+            if (colon >= 0) {
+                try {
+                    weight = Double.parseDouble(token.substring(colon + 1).trim());
+                } catch (NumberFormatException e) {
+                    throw invalid(token);
+                }
+                checkWeight(weight);
+                token = token.substring(0, colon).trim();
+            }
+            long[] combos = parseToken(token);
+            for (int word = 0; word < WORDS; word++) {
+                for (long rest = combos[word]; rest != 0; rest &= rest - 1) {
+                    int combo = word * 64 + Long.numberOfTrailingZeros(rest);
+                    weights[combo] = weight;
+                    if (weight > 0) {
+                        set(bits, combo);
+                    } else {
+                        bits[word] &= ~Long.lowestOneBit(rest);
+                    }
+                }
+            }
+        }
+        return new HandRange(bits, weights);
+    }
+
+    // Combinaciones de una parte de la notación (sin peso)
+    private static long[] parseToken(String token) {
+        long[] combos = new long[WORDS];
+        // Combinación concreta: "AhKh"
+        if (token.length() == 4 && SUITS.indexOf(token.charAt(1)) >= 0 && SUITS.indexOf(token.charAt(3)) >= 0) {
+            int first = cardIndex(token.charAt(0), token.charAt(1), token);
+            int second = cardIndex(token.charAt(2), token.charAt(3), token);
+            if (first == second) {
+                throw invalid(token);
+            }
+            set(combos, PokerHand.comboIndex(first, second));
+            return combos;
+        }
+        // Intervalo: "22-55" o "A5s-A2s" (misma carta alta y mismo tipo en los dos extremos)
+        int dash = token.indexOf('-');
+        if (dash >= 0) {
+            HandShape from = HandShape.parse(token.substring(0, dash), token);
+            HandShape to = HandShape.parse(token.substring(dash + 1), token);
+            if (from.type != to.type || from.isPair() != to.isPair() || (!from.isPair() && from.high != to.high)) {
+                throw invalid(token);
+            }
+            if (from.isPair()) {
+                for (int rank = Math.min(from.high, to.high); rank <= Math.max(from.high, to.high); rank++) {
+                    addShape(combos, rank, rank, from.type);
+                }
+            } else {
+                for (int low = Math.min(from.low, to.low); low <= Math.max(from.low, to.low); low++) {
+                    addShape(combos, from.high, low, from.type);
+                }
+            }
+            return combos;
+        }
+        // "TT+" sube el par hasta AA; "ATs+" sube la carta baja hasta una menos que la alta
+        boolean plus = token.endsWith("+");
+        HandShape shape = HandShape.parse(plus ? token.substring(0, token.length() - 1) : token, token);
+        if (!plus) {
+            addShape(combos, shape.high, shape.low, shape.type);
+        } else if (shape.isPair()) {
+            for (int rank = shape.high; rank < RANKS.length(); rank++) {
+                addShape(combos, rank, rank, shape.type);
+            }
+        } else {
+            for (int low = shape.low; low < shape.high; low++) {
+                addShape(combos, shape.high, low, shape.type);
+            }
+        }
+        return combos;
+    }
+
+    // Agrega las combinaciones de los valores dados (0 = 2, 12 = As) del tipo dado: 's', 'o' o ' ' (ambos)
+    private static void addShape(long[] combos, int high, int low, char type) {
+        if (high == low) {
+            or(combos, COMBOS_OF_CLASS[high * 13 + high]);
+            return;
+        }
+        if (type != 'o') {
+            or(combos, COMBOS_OF_CLASS[high * 13 + low]);
+        }
+        if (type != 's') {
+            or(combos, COMBOS_OF_CLASS[low * 13 + high]);
+        }
+    }
+
+    // Forma de una mano sin palos: valores (el alto primero) y tipo
+    private static final class HandShape {
+        final int high;
+        final int low;
+        final char type;
+
+        private HandShape(int high, int low, char type) {
+            this.high = high;
+            this.low = low;
+            this.type = type;
+        }
+
+        boolean isPair() {
+            return high == low;
+        }
+
+        static HandShape parse(String text, String token) {
+            String shape = text.trim();
+            if (shape.length() < 2 || shape.length() > 3) {
+                throw invalid(token);
+            }
+            int first = rankOf(shape.charAt(0), token);
+            int second = rankOf(shape.charAt(1), token);
+            char type = shape.length() == 3 ? Character.toLowerCase(shape.charAt(2)) : ' ';
+            if ((type != ' ' && type != 's' && type != 'o') || (first == second && type != ' ')) {
+                throw invalid(token);
+            }
+            return new HandShape(Math.max(first, second), Math.min(first, second), type);
+        }
+    }
+
+    private static int rankOf(char symbol, String token) {
+        int rank = RANKS.indexOf(Character.toUpperCase(symbol));
+        if (rank < 0) {
+            throw invalid(token);
+        }
+        return rank;
+    }
+
+    private static int cardIndex(char rank, char suit, String token) {
+        return SUITS.indexOf(suit) * PokerHand.RANKS_PER_SUIT + rankOf(rank, token);
+    }
+
+    private static IllegalArgumentException invalid(String token) {
+        return new IllegalArgumentException("Notación de rango inválida: " + token);
+    }
+
+    // Unión: las combinaciones de los dos rangos; si una está en los dos queda el mayor peso
+    public HandRange union(HandRange other) {
+        long[] result = new long[WORDS];
+        double[] resultWeights = weights.clone();
+        for (int word = 0; word < WORDS; word++) {
+            result[word] = bits[word] | other.bits[word];
+            for (long rest = other.bits[word]; rest != 0; rest &= rest - 1) {
+                int combo = word * 64 + Long.numberOfTrailingZeros(rest);
+                resultWeights[combo] = Math.max(resultWeights[combo], other.weights[combo]);
+            }
+        }
+        return new HandRange(result, resultWeights);
+    }
+
+    // Intersección: las combinaciones que están en los dos rangos, con el menor de los pesos
+    public HandRange intersect(HandRange other) {
+        long[] result = new long[WORDS];
+        for (int word = 0; word < WORDS; word++) {
+            result[word] = bits[word] & other.bits[word];
+        }
+        double[] resultWeights = new double[PokerHand.COMBO_COUNT];
+        forEachCombo(result, combo -> resultWeights[combo] = Math.min(weights[combo], other.weights[combo]));
+        return new HandRange(result, resultWeights);
+    }
+
+    // Diferencia: las combinaciones de este rango que no están en el otro
+    public HandRange minus(HandRange other) {
+        long[] result = new long[WORDS];
+        for (int word = 0; word < WORDS; word++) {
+            result[word] = bits[word] & ~other.bits[word];
+        }
+        return keep(result);
+    }
+
+    // Quita las combinaciones que usan alguna de las cartas de la máscara (propias, de la mesa o muertas)
+    public HandRange withoutCards(long cardMask) {
+        long[] result = bits.clone();
+        for (long rest = cardMask; rest != 0; rest &= rest - 1) {
+            long[] blocked = COMBOS_WITH_CARD[Long.numberOfTrailingZeros(rest)];
+            for (int word = 0; word < WORDS; word++) {
+                result[word] &= ~blocked[word];
+            }
+        }
+        return keep(result);
+    }
+
+    // Igual que el anterior con las cartas como lista
+    public HandRange withoutCards(List<Card> cards) {
+        return withoutCards(PokerHand.cardMask(cards));
+    }
+
+    // Mismo rango con todos los pesos multiplicados por el factor dado
+    public HandRange scale(double factor) {
+        checkWeight(factor);
+        if (factor == 0) {
+            return EMPTY;
+        }
+        double[] resultWeights = new double[PokerHand.COMBO_COUNT];
+        forEachCombo(bits, combo -> resultWeights[combo] = weights[combo] * factor);
+        return new HandRange(bits.clone(), resultWeights);
+    }
+
+    // Indica si la combinación está en el rango
+    public boolean contains(int combo) {
+        return (bits[combo >>> 6] >>> combo & 1) != 0;
+    }
+
+    // Indica si la combinación de las cartas dadas está en el rango
+    public boolean contains(List<Card> holeCards) {
+        return contains(PokerHand.comboIndex(PokerHand.cardMask(holeCards)));
+    }
+
+    // Peso de la combinación (0 si no está en el rango)
+    public double getWeight(int combo) {
+        return contains(combo) ? weights[combo] : 0;
+    }
+
+    // Cantidad de combinaciones del rango
+    public int size() {
+        int count = 0;
+        for (long word : bits) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    // Suma de los pesos de las combinaciones
+    public double getTotalWeight() {
+        double[] total = new double[1];
+        forEachCombo(bits, combo -> total[0] += weights[combo]);
+        return total[0];
+    }
+
+    // Indica si el rango no tiene combinaciones
+    public boolean isEmpty() {
+        for (long word : bits) {
+            if (word != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Pesos por combinación en el formato de EquityCalculator y RiverEquity
+    public double[] toWeights() {
+        double[] result = new double[PokerHand.COMBO_COUNT];
+        forEachCombo(bits, combo -> result[combo] = weights[combo]);
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof HandRange)) return false;
+        HandRange other = (HandRange) obj;
+        return Arrays.equals(bits, other.bits) && Arrays.equals(toWeights(), other.toWeights());
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(bits);
+    }
+
+    @Override
+    public String toString() {
+        return "Rango de " + size() + " combinaciones";
+    }
+
+    // Rango con las combinaciones dadas, conservando sus pesos
+    private HandRange keep(long[] result) {
+        double[] resultWeights = new double[PokerHand.COMBO_COUNT];
+        forEachCombo(result, combo -> resultWeights[combo] = weights[combo]);
+        return new HandRange(result, resultWeights);
+    }
+
+    private static HandRange withWeight(long[] bits, double weight) {
+        double[] weights = new double[PokerHand.COMBO_COUNT];
+        forEachCombo(bits, combo -> weights[combo] = weight);
+        return new HandRange(bits, weights);
+    }
+
+    private static void forEachCombo(long[] bits, java.util.function.IntConsumer action) {
+        for (int word = 0; word < WORDS; word++) {
+            for (long rest = bits[word]; rest != 0; rest &= rest - 1) {
+                action.accept(word * 64 + Long.numberOfTrailingZeros(rest));
+            }
+        }
+    }
+
+    private static void set(long[] bits, int combo) {
+        bits[combo >>> 6] |= 1L << combo;
+    }
+
+    private static void or(long[] target, long[] source) {
+        for (int word = 0; word < WORDS; word++) {
+            target[word] |= source[word];
+        }
+    }
+
+    private static void checkWeight(double weight) {
+        if (!(weight >= 0) || Double.isInfinite(weight)) {
+            throw new IllegalArgumentException("Los pesos del rango deben ser números no negativos");
+        }
+    }
+}
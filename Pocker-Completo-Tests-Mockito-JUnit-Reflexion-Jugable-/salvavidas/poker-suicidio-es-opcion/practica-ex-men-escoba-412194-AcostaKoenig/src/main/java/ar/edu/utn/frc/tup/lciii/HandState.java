@@ -0,0 +1,139 @@
+package ar.edu.utn.frc.tup.lciii;
+
+import java.util.Arrays;
+
+// Estado de evaluación incremental de la mano de un jugador: se actualiza carta por carta
+// (las propias y cada carta comunitaria que reparte la mesa). Cada carta solo enciende su bit en los rangos
+// de su palo y la mejor jugada se calcula desde esos cuatro palos con operaciones de bits, así consultar la
+// mano actual no copia listas ni vuelve a separar las cartas por palo
+public class HandState {
+
+    // Cantidad máxima de cartas comunitarias
+    private static final int MAX_TABLE_CARDS = 5;
+
+    // Modalidad con la que se evalúa la mano
+    private PokerVariant variant = PokerVariant.TEXAS_HOLDEM;
+
+    // Máscara de 52 bits con las cartas vistas (mismo formato que PokerHand.cardMask)
+    private long cardMask;
+
+    // Cartas comunitarias dentro de cardMask (en Omaha se evalúan aparte de las propias)
+    private long tableMask;
+
+    // Rangos presentes de cada palo, 13 bits por palo (del 2 al As)
+    private final int[] suitMasks = new int[PokerHand.SUIT_COUNT];
+
+    // Cantidad de cartas agregadas
+    private int cardCount;
+
+    // Valor empaquetado de la mejor jugada con las cartas actuales (formato de PokerResult.value)
+    private int value = PokerHand.evaluateMask(0L);
+
+    // Agrega una carta propia y recalcula la mejor jugada; las cartas nulas o repetidas se ignoran
+    // En Texas Hold'em da igual si la carta es propia o comunitaria, así que se aceptan hasta 7
+    // Devuelve true si la carta se agregó
+    public boolean addCard(Card card) {
+        int holeLimit = variant == PokerVariant.TEXAS_HOLDEM ? 7 : variant.getHoleCardCount();
+        return card != null && Long.bitCount(cardMask & ~tableMask) < holeLimit && add(card, false);
+    }
+
+    // Agrega una carta comunitaria y recalcula la mejor jugada
+    // Devuelve true si la carta se agregó
+    public boolean addCommunityCard(Card card) {
+        return card != null && Long.bitCount(tableMask) < MAX_TABLE_CARDS && add(card, true);
+    }
+
+    // Cambia la modalidad de evaluación; vacía el estado porque las cartas de otra modalidad no sirven
+    public void setVariant(PokerVariant variant) {
+        if (variant == null) {
+            throw new IllegalArgumentException("La modalidad no puede ser nula");
+        }
+        this.variant = variant;
+        clear();
+    }
+
+    // Devuelve la modalidad de evaluación
+    public PokerVariant getVariant() {
+        return variant;
+    }
+
+    private boolean add(Card card, boolean tableCard) {
+        int index = PokerHand.cardIndex(card);
+        long bit = 1L << index;
+        if ((cardMask & bit) != 0 || (variant == PokerVariant.TEXAS_HOLDEM && cardCount == 7)) {
+            return false; // la carta ya estaba o la mano ya tiene las 7 cartas de Texas Hold'em
+        }
+
+        cardMask |= bit;
+        if (tableCard) {
+            tableMask |= bit;
+        }
+        suitMasks[index / PokerHand.RANKS_PER_SUIT] |= 1 << (index % PokerHand.RANKS_PER_SUIT);
+        cardCount++;
+        // Evaluación por bits, sin crear objetos. En Omaha hay que elegir 2 propias y 3 comunitarias, así que
+        // no alcanza con los palos de todas las cartas juntas
+        value = variant == PokerVariant.OMAHA
+                ? PokerHand.evaluateOmahaMask(cardMask & ~tableMask, tableMask)
+                : PokerHand.evaluateSuits(suitMasks[0], suitMasks[1], suitMasks[2], suitMasks[3]);
+        return true;
+    }
+
+    // Vacía el estado para una nueva mano
+    public void clear() {
+        cardMask = 0L;
+        tableMask = 0L;
+        Arrays.fill(suitMasks, 0);
+        cardCount = 0;
+        value = PokerHand.evaluateMask(0L);
+    }
+
+    // Valor empaquetado de la mejor jugada actual: un valor mayor es una mano mejor
+    public int getValue() {
+        return value;
+    }
+
+    // Categoría de la mejor jugada actual (carta alta si todavía no hay cartas)
+    public Hands getHand() {
+        return PokerResult.handOf(value);
+    }
+
+    // Crea un PokerResult con la mejor jugada actual (es la única consulta que crea un objeto)
+    public PokerResult getResult() {
+        return new PokerResult(value);
+    }
+
+    // Máscara con todas las cartas vistas
+    public long getCardMask() {
+        return cardMask;
+    }
+
+    // Máscara con las cartas comunitarias vistas
+    public long getTableMask() {
+        return tableMask;
+    }
+
+    // Rangos presentes del palo indicado (ordinal de CardSuits), un bit por valor
+    public int getSuitMask(CardSuits suit) {
+        return suitMasks[suit.ordinal()];
+    }
+
+    // Cantidad de cartas del valor indicado (2 a 14)
+    public int getRankCount(int number) {
+        if (number < 2 || number > 14) {
+            throw new IllegalArgumentException("El valor de la carta debe estar entre 2 y 14");
+        }
+        int bit = 1 << (number - 2);
+        int count = 0;
+        for (int suitMask : suitMasks) {
+            if ((suitMask & bit) != 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    // Cantidad de cartas agregadas
+    public int getCardCount() {
+        return cardCount;
+    }
+}
@@ -0,0 +1,228 @@
+package ar.edu.utn.frc.tup.lciii;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+// Outs de un jugador de Texas Hold'em en el flop o en el turn: recorre las 47 o 46 cartas que quedan,
+// evalúa cada una con PokerHand.evaluateMask (solo máscaras, sin copiar listas) y cuenta cuáles mejoran la
+// categoría de la mano y a cuál; una carta que solo mejora a la mesa no cuenta como out. También clasifica
+// los proyectos (color, escalera abierta, gutshot y backdoor) y da las probabilidades listas para compararlas
+// con las odds del pozo
+public final class OutsAnalysis {
+
+    // Proyectos que puede tener la mano
+    public enum Draw {
+        // Cuatro cartas del mismo palo (al menos una propia)
+        FLUSH_DRAW,
+        // Dos valores distintos completan escalera (abierta o doble gutshot) con al menos una carta propia
+        OPEN_ENDED_STRAIGHT_DRAW,
+        // Un solo valor completa escalera con al menos una carta propia
+        GUTSHOT,
+        // Solo en el flop: tres cartas del mismo palo (al menos una propia), necesita turn y river
+        BACKDOOR_FLUSH,
+        // Solo en el flop: tres valores dentro de una escalera posible (al menos uno propio), sin proyecto de
+        // escalera
+        BACKDOOR_STRAIGHT
+    }
+
+    // Máscara con los 13 bits de un palo
+    private static final int SUIT_BITS = (1 << PokerHand.RANKS_PER_SUIT) - 1;
+
+    // Ventanas de 5 valores consecutivos, incluida la escalera baja A-2-3-4-5
+    private static final int[] STRAIGHT_WINDOWS = new int[10];
+
+    static {
+        STRAIGHT_WINDOWS[0] = 1 << 12 | 0xF;
+        for (int low = 0; low <= 8; low++) {
+            STRAIGHT_WINDOWS[low + 1] = 0x1F << low;
+        }
+    }
+
+    // Valor actual de la mano (formato de PokerResult.value)
+    private final int value;
+
+    // Cartas de la mesa (3 en el flop, 4 en el turn)
+    private final int boardCount;
+
+    // Cartas que quedan sin ver
+    private final int cardsRemaining;
+
+    // Cartas que mejoran la categoría de la mano, una por bit (mismo formato que PokerHand.cardMask)
+    private final long outsMask;
+
+    // Cantidad de outs según la categoría a la que llevan (índice = ordinal de Hands)
+    private final int[] outsByHand = new int[Hands.values().length];
+
+    // Proyectos de la mano
+    private final Set<Draw> draws = EnumSet.noneOf(Draw.class);
+
+    private OutsAnalysis(long holeMask, long boardMask) {
+        long known = holeMask | boardMask;
+        this.value = PokerHand.evaluateMask(known);
+        this.boardCount = Long.bitCount(boardMask);
+        this.cardsRemaining = 52 - Long.bitCount(known);
+
+        int category = value >>> PokerResult.CATEGORY_SHIFT;
+        long outs = 0L;
+        for (long unseen = ~known & ((1L << 52) - 1); unseen != 0; unseen &= unseen - 1) {
+            long card = Long.lowestOneBit(unseen);
+            int improved = PokerHand.evaluateMask(known | card) >>> PokerResult.CATEGORY_SHIFT;
+            // No cuenta la carta que mejora solo a la mesa (por ejemplo, la que la parea): la tiene cualquiera
+            int boardOnly = PokerHand.evaluateMask(boardMask | card) >>> PokerResult.CATEGORY_SHIFT;
+            if (improved > category && improved > boardOnly) {
+                outs |= card;
+                outsByHand[PokerResult.handOf(improved << PokerResult.CATEGORY_SHIFT).ordinal()]++;
+            }
+        }
+        this.outsMask = outs;
+
+        classifyDraws(holeMask, known, category);
+    }
+
+    // Analiza las cartas propias (2) y la mesa (3 o 4) dadas como listas
+    public static OutsAnalysis of(List<Card> holeCards, List<Card> boardCards) {
+        if (holeCards == null || boardCards == null) {
+            throw new IllegalArgumentException("Las cartas no pueden ser nulas");
+        }
+        return of(PokerHand.cardMask(holeCards), PokerHand.cardMask(boardCards));
+    }
+
+    // Analiza el estado incremental de un jugador (cartas propias y comunitarias ya separadas)
+    public static OutsAnalysis of(HandState handState) {
+        return of(handState.getCardMask() & ~handState.getTableMask(), handState.getTableMask());
+    }
+
+    // Analiza las cartas propias y la mesa dadas como máscaras
+    public static OutsAnalysis of(long holeMask, long boardMask) {
+        if (Long.bitCount(holeMask) != 2) {
+            throw new IllegalArgumentException("El jugador debe tener exactamente 2 cartas");
+        }
+        int boardCount = Long.bitCount(boardMask);
+        if (boardCount < 3 || boardCount > 4) {
+            throw new IllegalArgumentException("Los outs se calculan en el flop o en el turn");
+        }
+        if ((holeMask & boardMask) != 0) {
+            throw new IllegalArgumentException("Hay cartas repetidas entre el jugador y la mesa");
+        }
+        return new OutsAnalysis(holeMask, boardMask);
+    }
+
+    // Clasifica los proyectos con las máscaras de cada palo; no hay proyecto de lo que ya está hecho
+    private void classifyDraws(long holeMask, long known, int category) {
+        int ranks = 0;
+        int holeRanks = 0;
+        int boardRanks = 0;
+        for (int suit = 0; suit < PokerHand.SUIT_COUNT; suit++) {
+            int suitRanks = (int) (known >>> (suit * PokerHand.RANKS_PER_SUIT)) & SUIT_BITS;
+            int holeSuitRanks = (int) (holeMask >>> (suit * PokerHand.RANKS_PER_SUIT)) & SUIT_BITS;
+            ranks |= suitRanks;
+            holeRanks |= holeSuitRanks;
+            boardRanks |= suitRanks & ~holeSuitRanks;
+            if (category < PokerResult.strengthOf(Hands.FLUSH) && holeSuitRanks != 0) {
+                if (Integer.bitCount(suitRanks) == 4) {
+                    draws.add(Draw.FLUSH_DRAW);
+                } else if (Integer.bitCount(suitRanks) == 3 && boardCount == 3) {
+                    draws.add(Draw.BACKDOOR_FLUSH);
+                }
+            }
+        }
+        if (category >= PokerResult.strengthOf(Hands.STRAIGHT)) {
+            return;
+        }
+
+        // Valores que, agregados, completan alguna escalera. Solo cuentan las ventanas con algún valor que aporta
+        // una carta propia y no está en la mesa: si la mesa sola arma el proyecto, lo tienen todos los jugadores
+        int ownRanks = holeRanks & ~boardRanks;
+        int completing = 0;
+        boolean backdoor = false;
+        for (int window : STRAIGHT_WINDOWS) {
+            if ((window & ownRanks) == 0) {
+                continue;
+            }
+            int missing = window & ~ranks;
+            if (Integer.bitCount(missing) == 1) {
+                completing |= missing;
+            } else if (Integer.bitCount(missing) == 2) {
+                backdoor = true;
+            }
+        }
+        if (Integer.bitCount(completing) >= 2) {
+            draws.add(Draw.OPEN_ENDED_STRAIGHT_DRAW);
+        } else if (completing != 0) {
+            draws.add(Draw.GUTSHOT);
+        } else if (backdoor && boardCount == 3) {
+            draws.add(Draw.BACKDOOR_STRAIGHT);
+        }
+    }
+
+    // Valor actual de la mano
+    public int getValue() {
+        return value;
+    }
+
+    // Cantidad de cartas que mejoran la categoría de la mano
+    public int getOuts() {
+        return Long.bitCount(outsMask);
+    }
+
+    // Cartas que mejoran la categoría de la mano, una por bit
+    public long getOutsMask() {
+        return outsMask;
+    }
+
+    // Indica si la carta dada mejora la categoría de la mano
+    public boolean isOut(Card card) {
+        return (outsMask >>> PokerHand.cardIndex(card) & 1) != 0;
+    }
+
+    // Cantidad de outs que llevan a la categoría indicada
+    public int getOuts(Hands hand) {
+        return outsByHand[hand.ordinal()];
+    }
+
+    // Cantidad de cartas sin ver (47 en el flop, 46 en el turn)
+    public int getCardsRemaining() {
+        return cardsRemaining;
+    }
+
+    // Proyectos de la mano
+    public Set<Draw> getDraws() {
+        return EnumSet.copyOf(draws);
+    }
+
+    // Indica si la mano tiene el proyecto dado
+    public boolean hasDraw(Draw draw) {
+        return draws.contains(draw);
+    }
+
+    // Probabilidad de que la próxima carta sea un out
+    public double getNextCardProbability() {
+        return (double) getOuts() / cardsRemaining;
+    }
+
+    // Probabilidad de ligar un out antes del showdown: con dos cartas por venir (flop) es 1 - P(ninguna es out)
+    public double getShowdownProbability() {
+        if (boardCount == 4) {
+            return getNextCardProbability();
+        }
+        int blanks = cardsRemaining - getOuts();
+        return 1.0 - (double) blanks * (blanks - 1) / ((double) cardsRemaining * (cardsRemaining - 1));
+    }
+
+    // Indica si pagar callAmount para ver la próxima carta es rentable con el pozo actual:
+    // la probabilidad de ligar debe ser al menos callAmount / (pot + callAmount)
+    public boolean isCallProfitable(int callAmount, int pot) {
+        if (callAmount <= 0) {
+            return true;
+        }
+        return getNextCardProbability() * (pot + callAmount) >= callAmount;
+    }
+
+    @Override
+    public String toString() {
+        return getOuts() + " outs (" + Math.round(getNextCardProbability() * 100) + "% la próxima carta, "
+                + Math.round(getShowdownProbability() * 100) + "% hasta el river)"
+                + (draws.isEmpty() ? "" : " " + draws);
+    }
+}
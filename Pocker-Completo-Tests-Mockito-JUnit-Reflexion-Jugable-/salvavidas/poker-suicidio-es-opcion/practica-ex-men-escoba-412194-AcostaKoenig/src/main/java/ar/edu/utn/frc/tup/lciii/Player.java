@@ -8,7 +8,7 @@ public class Player {
     private final String name;
     // Indica si el jugador es un bot o humano
     private final boolean isBot;
-    // Cartas en mano del jugador (máximo 2)
+    // Cartas en mano del jugador (2 en Texas Hold'em, 4 en Omaha)
     private final List<Card> hand;
     // Cantidad de fichas disponibles
     private int chips;
@@ -18,6 +18,10 @@ public class Player {
     private boolean folded;
     // Indica si el jugador es el dealer en la ronda
     private boolean isDealer;
+    // Evaluación incremental de sus cartas más las comunitarias repartidas en la ronda
+    private final HandState handState = new HandState();
+    // Modalidad de la mesa en la que juega (define cuántas cartas propias recibe)
+    private PokerVariant variant = PokerVariant.TEXAS_HOLDEM;
 
     // Constructor: crea un jugador con nombre, tipo (bot/humano) y fichas iniciales
     public Player(String name, boolean isBot, int initialChips) {
@@ -40,16 +44,40 @@ public class Player {
         return hand;
     }
 
-    // Añade una carta a la mano (máximo 2 cartas)
+    // Añade una carta a la mano (máximo 2 cartas en Texas Hold'em y 4 en Omaha)
     public void addCard(Card card) {
-        if (hand.size() < 2) {
+        if (hand.size() < variant.getHoleCardCount()) {
             hand.add(card);
+            handState.addCard(card);
         }
     }
 
+    // Suma una carta comunitaria a la evaluación incremental (la llama la mesa al repartir)
+    public void seeCommunityCard(Card card) {
+        handState.addCommunityCard(card);
+    }
+
+    // Cambia la modalidad del jugador; solo debe hacerse entre manos porque vacía sus cartas
+    public void setVariant(PokerVariant variant) {
+        handState.setVariant(variant);
+        this.variant = variant;
+        hand.clear();
+    }
+
+    // Devuelve la modalidad en la que juega el jugador
+    public PokerVariant getVariant() {
+        return variant;
+    }
+
+    // Devuelve el estado de evaluación de la mano actual (cartas propias más comunitarias)
+    public HandState getHandState() {
+        return handState;
+    }
+
     // Limpia la mano del jugador (para nueva ronda)
     public void clearHand() {
         hand.clear();
+        handState.clear();
     }
 
     // Devuelve la cantidad de fichas disponibles
@@ -1,6 +1,7 @@
 package ar.edu.utn.frc.tup.lciii;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 public class PokerBets {
@@ -151,6 +152,102 @@ public class PokerBets {
         resetPot();  // Resetea pozo para la siguiente mano
     }
 
+    /**
+     * Metodo para repartir el pozo entre los jugadores que empataron
+     * Las fichas que no se pueden dividir en partes iguales se entregan de a una
+     * siguiendo el orden de la lista (el primero es el más cercano al dealer)
+     * @param winners jugadores que comparten el pozo
+     */
+    public void splitPot(List<Player> winners) {
+        if (winners.isEmpty()) {
+            throw new IllegalArgumentException("Debe haber al menos un ganador para repartir el pozo.");
+        }
+
+        distribute(pot, winners);
+        resetPot();  // Resetea pozo para la siguiente mano
+    }
+
+    /**
+     * Metodo para armar el pozo principal y los side pots con lo que apostó cada jugador en la mano
+     * Cada nivel de apuesta distinto de los jugadores que llegan al showdown cierra un pozo: todos aportan
+     * a él hasta ese nivel y solo pueden ganarlo los que apostaron al menos eso. Así un jugador all-in
+     * con menos fichas no puede ganar lo que no llegó a cubrir. Lo que pusieron los que se retiraron
+     * queda en los pozos a los que alcanzó su apuesta
+     * @param players todos los jugadores de la mano, también los que se retiraron
+     * @param showdownPlayers jugadores que llegan al showdown
+     * @return los pozos, del principal al último side pot
+     */
+    public List<Pot> buildPots(List<Player> players, List<Player> showdownPlayers) {
+        if (showdownPlayers.isEmpty()) {
+            throw new IllegalArgumentException("Debe haber al menos un jugador en el showdown.");
+        }
+
+        // Niveles de apuesta de los que llegan al showdown, de menor a mayor
+        List<Integer> levels = new ArrayList<>();
+        for (Player player : showdownPlayers) {
+            if (!levels.contains(player.getBet())) {
+                levels.add(player.getBet());
+            }
+        }
+        Collections.sort(levels);
+
+        List<Pot> pots = new ArrayList<>();
+        int previousLevel = 0;
+        int assigned = 0;
+        for (int level : levels) {
+            int amount = 0;
+            for (Player player : players) {
+                amount += Math.max(0, Math.min(player.getBet(), level) - previousLevel);
+            }
+            List<Player> eligible = new ArrayList<>();
+            for (Player player : showdownPlayers) {
+                if (player.getBet() >= level) {
+                    eligible.add(player);
+                }
+            }
+            if (amount > 0 || pots.isEmpty()) {
+                pots.add(new Pot(amount, eligible));
+            }
+            assigned += amount;
+            previousLevel = level;
+        }
+
+        // Lo que apostaron los retirados por encima del último nivel es del último pozo
+        Pot last = pots.get(pots.size() - 1);
+        pots.set(pots.size() - 1, new Pot(last.getAmount() + pot - assigned, last.getPlayers()));
+        return pots;
+    }
+
+    /**
+     * Metodo para repartir uno de los pozos de buildPots entre sus ganadores
+     * Las fichas sobrantes se entregan de a una como en splitPot
+     * @param sidePot pozo a repartir
+     * @param winners jugadores que lo ganan (deben poder ganarlo)
+     */
+    public void awardPot(Pot sidePot, List<Player> winners) {
+        if (winners.isEmpty() || !sidePot.getPlayers().containsAll(winners)) {
+            throw new IllegalArgumentException("Los ganadores deben estar entre los jugadores del pozo.");
+        }
+        distribute(sidePot.getAmount(), winners);
+        pot -= sidePot.getAmount();
+        if (pot <= 0) {
+            resetPot();  // Ya se repartió todo: resetea pozo para la siguiente mano
+        }
+    }
+
+    // Reparte la cantidad en partes iguales; las fichas sobrantes van de a una siguiendo el orden de la lista
+    private void distribute(int amount, List<Player> winners) {
+        int share = amount / winners.size();      // Parte entera para cada ganador
+        int remainder = amount % winners.size();  // Fichas sobrantes de la división
+
+        for (int i = 0; i < winners.size(); i++) {
+            Player winner = winners.get(i);
+            int chips = share + (i < remainder ? 1 : 0);
+            winner.setChips(winner.getChips() + chips);
+            System.out.println(winner.getName() + " recibe " + chips + " fichas.");
+        }
+    }
+
     /**
      * Metodo para que un jugador haga check (pasar)
      * @param player jugador que hace check
@@ -189,4 +286,25 @@ public class PokerBets {
     public void setBigBlind(int bigBlind) {
         this.bigBlind = bigBlind;
     }
+
+    /**
+     * Pozo (principal o side pot) con su monto y los jugadores que pueden ganarlo
+     */
+    public static class Pot {
+        private final int amount;             // Fichas del pozo
+        private final List<Player> players;   // Jugadores que pueden ganarlo
+
+        Pot(int amount, List<Player> players) {
+            this.amount = amount;
+            this.players = Collections.unmodifiableList(new ArrayList<>(players));
+        }
+
+        public int getAmount() {
+            return amount;
+        }
+
+        public List<Player> getPlayers() {
+            return players;
+        }
+    }
 }
@@ -17,10 +17,32 @@ public class PokerGame {
     // Maneja las apuestas, el pozo, ciegas, etc.
     private final PokerBets bets;
 
-    // Constructor: inicializa las estructuras y asigna los valores iniciales
+    // Equity del primer all-in de la mano con cartas comunitarias por salir (null si no hubo)
+    private EquityResult allInEquity;
+    // Jugadores que seguían en la mano cuando se calculó allInEquity, en el mismo orden
+    private List<Player> allInPlayers;
+
+    // Antes del flop, múltiplo de la parte justa del pozo (1 / jugadores en la mano) que debe alcanzar la equity
+    // de un bot para que juegue la mano fuerte
+    static final double BOT_PREFLOP_STRONG_RATIO = 1.5;
+
+    // Con muchos jugadores all-in la equity se simula hasta que el intervalo de confianza del 95% de cada uno
+    // mide a lo sumo ALL_IN_CONFIDENCE_WIDTH o hasta que pasan ALL_IN_BUDGET_MILLIS milisegundos
+    static final double ALL_IN_CONFIDENCE_WIDTH = 0.005;
+    static final long ALL_IN_BUDGET_MILLIS = 250;
+
+    // Proporción máxima de combinaciones rivales que pueden ganarle a una mano para que un bot la juegue fuerte
+    static final double BOT_STRONG_SHARE = 0.05;
+
+    // Constructor: inicializa las estructuras y asigna los valores iniciales (Texas Hold'em)
     public PokerGame() {
+        this(PokerVariant.TEXAS_HOLDEM);
+    }
+
+    // Constructor para jugar la modalidad indicada (por ejemplo, Omaha)
+    public PokerGame(PokerVariant variant) {
         this.players = new ArrayList<>();
-        this.table = new Table();
+        this.table = new Table(variant);
         this.evaluator = new PokerHand();
         this.dealerIndex = 0; // empieza con el primer jugador como dealer
         this.scanner = new Scanner(System.in);
@@ -69,6 +91,8 @@ public class PokerGame {
         table.resetDeck(); // vuelve a barajar el mazo
         bets.resetBets();  // resetea las apuestas actuales
         bets.resetPot();   // resetea el pozo (dinero acumulado)
+        allInEquity = null;
+        allInPlayers = null;
         // Resetea el estado de cada jugador para la nueva ronda (ej. no folded, reset apuestas)
         for (Player player : players) {
             player.resetForNewRound();
@@ -115,6 +139,24 @@ public class PokerGame {
                 }
             }
         }
+        runOutBoard();
+    }
+
+    // Si la apuesta terminó antes del river porque los que siguen en la mano están all-in (o todos menos uno),
+    // muestra la equity y reparte las cartas comunitarias que faltan para el showdown
+    private void runOutBoard() {
+        if (getPlayersInHand().size() < 2 || table.getCommunityCards().size() == 5) {
+            return;
+        }
+        showAllInEquity();
+        if (table.getCommunityCards().isEmpty()) {
+            table.dealFlop();
+        }
+        if (table.getCommunityCards().size() == 3) {
+            table.dealTurn();
+        }
+        table.dealRiver();
+        printTableStatus();
     }
 
     // Controla la lógica de una ronda de apuestas en una etapa del juego
@@ -181,6 +223,16 @@ public class PokerGame {
     // Calcula cuánto falta para igualar la apuesta actual
     int amountToCall = bets.getCurrentBet() - player.getBet();
 
+    // En el flop y en el turn se muestran los outs como ayuda para decidir
+    OutsAnalysis outs = outsOf(player);
+    if (outs != null) {
+        System.out.println("Outs: " + outs);
+        if (amountToCall > 0) {
+            System.out.println(outs.isCallProfitable(amountToCall, bets.getPot())
+                    ? "Las odds del pozo justifican igualar." : "Las odds del pozo no alcanzan para igualar.");
+        }
+    }
+
     // Muestra opciones disponibles al jugador según la situación
     System.out.println("\nOpciones:");
     System.out.println("1. Fold (Retirarse)");
@@ -254,13 +306,20 @@ public class PokerGame {
         int currentBet = bets.getCurrentBet();
         int callAmount = currentBet - bot.getBet();
 
-        // Combina cartas del bot con cartas comunitarias para evaluar la mano completa
-        List<Card> fullHand = new ArrayList<>(bot.getHand());
-        fullHand.addAll(table.getCommunityCards());
-        PokerResult handResult = evaluator.evaluateHand(fullHand);
-
-        // Considera "fuerte" la mano si es al menos un trío (puede ajustarse)
-        boolean strongHand = handResult.hand.ordinal() <= Hands.THREE_OF_A_KIND.ordinal();
+        // La mesa ya fue actualizando la evaluación del bot con cada carta repartida
+        HandState handState = bot.getHandState();
+
+        // Antes del flop se busca la equity de la mano en la tabla precalculada (Texas Hold'em): es "fuerte" si
+        // llega a BOT_PREFLOP_STRONG_RATIO veces la parte justa del pozo. Desde el flop se compara con las manos
+        // posibles en la mesa: es fuerte si a lo sumo BOT_STRONG_SHARE de las combinaciones de 2 cartas le ganan
+        BoardAnalysis board = table.getBoardAnalysis();
+        double preflopEquity = preflopEquityOf(bot);
+        double fairShare = 1.0 / getPlayersInHand().size();
+        boolean strongHand = board != null
+                ? board.getShareBeating(handState.getValue()) <= BOT_STRONG_SHARE
+                : !Double.isNaN(preflopEquity)
+                        ? preflopEquity >= BOT_PREFLOP_STRONG_RATIO * fairShare
+                        : handState.getHand().ordinal() <= Hands.THREE_OF_A_KIND.ordinal();
 
         // Decide la acción basada en la fuerza de la mano y las fichas disponibles
         if (strongHand) {
@@ -280,10 +339,18 @@ public class PokerGame {
                 System.out.println(bot.getName() + " hace CHECK.");
             }
         } else {
-            // Si la mano es débil, chequea si no hay apuesta o se retira
+            // Si la mano es débil, chequea si no hay apuesta, iguala si sus outs pagan las odds del pozo o se retira
+            OutsAnalysis outs = outsOf(bot);
             if (callAmount == 0) {
                 bets.check(bot);
                 System.out.println(bot.getName() + " hace CHECK.");
+            } else if (preflopEquity >= fairShare && bot.getChips() > callAmount) {
+                // Antes del flop iguala las manos que llegan a su parte justa del pozo
+                bets.call(bot);
+                System.out.println(bot.getName() + " hace CALL.");
+            } else if (outs != null && bot.getChips() > callAmount && outs.isCallProfitable(callAmount, bets.getPot())) {
+                bets.call(bot);
+                System.out.println(bot.getName() + " hace CALL con " + outs.getOuts() + " outs.");
             } else {
                 bot.fold();
                 System.out.println(bot.getName() + " hace FOLD.");
@@ -292,6 +359,74 @@ public class PokerGame {
     }
 
 
+    // Cuando la apuesta quedó cerrada con cartas comunitarias por salir (a lo sumo uno de los que siguen en la
+    // mano tiene fichas, los demás están all-in), calcula una sola vez por mano la equity de los que siguen en la
+    // mano (exacta en el flop y en el turn, y antes del flop mano a mano; si no, simulada con tiempo acotado) y
+    // la muestra junto con el valor esperado de cada uno en fichas del pozo actual. Mientras dos o más puedan
+    // seguir apostando no se calcula, porque todavía pueden retirarse o agrandar el pozo
+    private void showAllInEquity() {
+        if (allInEquity != null || table.getVariant() != PokerVariant.TEXAS_HOLDEM) {
+            return;
+        }
+        List<Player> inHand = getPlayersInHand();
+        List<List<Card>> hands = new ArrayList<>();
+        int canBet = 0;
+        for (Player p : inHand) {
+            hands.add(p.getHand());
+            if (p.getChips() > 0) {
+                canBet++;
+            }
+        }
+        if (canBet > 1 || inHand.size() < 2) {
+            return;
+        }
+        EquityCalculator calculator = EquityCalculator.ofHands(hands, table.getCommunityCards(), List.of());
+        allInEquity = calculator.getExactEvaluationCount() <= EquityCalculator.EXACT_EVALUATION_LIMIT
+                ? calculator.exact()
+                : calculator.adaptive(ALL_IN_CONFIDENCE_WIDTH, ALL_IN_BUDGET_MILLIS);
+        allInPlayers = inHand;
+        System.out.println("\n--- Equity all-in ---");
+        for (int i = 0; i < inHand.size(); i++) {
+            System.out.println(inHand.get(i).getName() + ": " + Math.round(allInEquity.getEquity(i) * 1000) / 10.0
+                    + "% (EV " + Math.round(allInEquity.getEquity(i) * bets.getPot()) + " fichas)");
+        }
+    }
+
+    // Muestra, para la mano con all-in, lo que cada jugador esperaba ganar del pozo y lo que ganó en realidad
+    private void showAllInResult(int pot, Map<Player, Integer> chipsBefore) {
+        if (allInEquity == null) {
+            return;
+        }
+        System.out.println("\n--- Resultado contra la equity all-in ---");
+        for (int i = 0; i < allInPlayers.size(); i++) {
+            Player p = allInPlayers.get(i);
+            System.out.println(p.getName() + ": EV " + Math.round(allInEquity.getEquity(i) * pot)
+                    + " fichas, ganó " + (p.getChips() - chipsBefore.get(p)) + " fichas");
+        }
+    }
+
+    // Equity antes del flop del jugador contra los rivales que siguen en la mano, leída de la tabla precalculada;
+    // NaN después del flop o fuera de Texas Hold'em
+    private double preflopEquityOf(Player player) {
+        if (table.getVariant() != PokerVariant.TEXAS_HOLDEM || !table.getCommunityCards().isEmpty()
+                || player.getHand().size() != 2) {
+            return Double.NaN;
+        }
+        int opponents = Math.max(1, Math.min(PreflopEquity.MAX_OPPONENTS, getPlayersInHand().size() - 1));
+        return PreflopEquity.getDefault().getEquityVsRandom(player.getHand(), opponents);
+    }
+
+    // Outs del jugador en el flop o en el turn de Texas Hold'em; null en las demás calles o modalidades
+    private OutsAnalysis outsOf(Player player) {
+        HandState handState = player.getHandState();
+        int boardCount = Long.bitCount(handState.getTableMask());
+        if (table.getVariant() != PokerVariant.TEXAS_HOLDEM || boardCount < 3 || boardCount > 4
+                || handState.getCardCount() != boardCount + 2) {
+            return null;
+        }
+        return OutsAnalysis.of(handState);
+    }
+
     // Obtener la lista de jugadores activos: no hayan hecho fold y tengan fichas (>0)
 private List<Player> getActivePlayers() {
     List<Player> active = new ArrayList<>();
@@ -303,6 +438,17 @@ private List<Player> getActivePlayers() {
     return active;
 }
 
+// Jugadores que siguen en la mano: no hicieron fold y tienen fichas o ya apostaron (los all-in)
+private List<Player> getPlayersInHand() {
+    List<Player> inHand = new ArrayList<>();
+    for (Player p : players) {
+        if (!p.hasFolded() && (p.getChips() > 0 || p.getBet() > 0)) {
+            inHand.add(p);
+        }
+    }
+    return inHand;
+}
+
 // Encontrar la posición del primer jugador que comienza a apostar en la ronda
 // Es el jugador después del Big Blind (dealerIndex + 3)
 private int findFirstBettingPosition() {
@@ -328,7 +474,8 @@ private boolean checkAllBetsEqual(List<Player> activePlayers) {
 
 // Determinar el ganador de la ronda
 private void determineWinner() {
-    List<Player> activePlayers = getActivePlayers();
+    // Los jugadores all-in (sin fichas) también llegan al showdown
+    List<Player> activePlayers = getPlayersInHand();
 
     if (activePlayers.isEmpty()) {
         System.out.println("Error: No hay jugadores activos.");
@@ -343,6 +490,13 @@ private void determineWinner() {
         return;
     }
 
+    // Fichas de cada jugador y pozo antes de repartir, para comparar con la equity del all-in
+    int pot = bets.getPot();
+    Map<Player, Integer> chipsBefore = new HashMap<>();
+    for (Player p : players) {
+        chipsBefore.put(p, p.getChips());
+    }
+
     // Evaluación final de manos cuando hay más de un jugador activo
     System.out.println("\n--- Evaluación final de manos ---");
     System.out.println("Cartas en la mesa: " + table.getTableCards());
@@ -352,27 +506,47 @@ private void determineWinner() {
         System.out.println(p.getName() + ": " + p.getHand());
     }
 
-    // Preparar lista de manos para el evaluador
+    // Con jugadores all-in que apostaron distinto hay side pots: cada pozo se lo disputan solo los que
+    // llegaron a cubrirlo, así un all-in corto no gana las fichas que no igualó
+    List<PokerBets.Pot> pots = bets.buildPots(players, activePlayers);
+    for (int i = 0; i < pots.size(); i++) {
+        PokerBets.Pot sidePot = pots.get(i);
+        if (pots.size() > 1) {
+            System.out.println("\n" + (i == 0 ? "Pozo principal" : "Side pot " + i) + ": "
+                    + sidePot.getAmount() + " fichas");
+        }
+
+        // Evaluar qué manos son ganadoras entre los que pueden ganar este pozo (puede haber empate)
+        List<Player> winners = winnersAmong(sidePot.getPlayers());
+        if (sidePot.getPlayers().size() == 1) {
+            // Nadie más igualó esta parte de la apuesta: vuelve a quien la puso
+            System.out.println(winners.get(0).getName() + " recupera las fichas que nadie igualó.");
+        } else if (winners.size() == 1) {
+            System.out.println("El ganador es " + winners.get(0).getName());
+        } else {
+            // Empate: se divide el pozo entre los jugadores con la misma mano
+            System.out.println("Empate con " + winners.get(0).getHandState().getHand() + ". Se divide el pozo.");
+        }
+        bets.awardPot(sidePot, winners);
+    }
+    showAllInResult(pot, chipsBefore);
+}
+
+// Jugadores con la mejor mano entre los dados (más de uno si empatan)
+private List<Player> winnersAmong(List<Player> contenders) {
+    if (contenders.size() == 1) {
+        return contenders;
+    }
     List<List<Card>> playerHands = new ArrayList<>();
-    for (Player p : activePlayers) {
+    for (Player p : contenders) {
         playerHands.add(p.getHand());
     }
-
-    // Evaluar cuál mano es ganadora
-    int winnerIndex = evaluator.returnWinner(playerHands, table.getTableCards());
-    if (winnerIndex >= 0 && winnerIndex < activePlayers.size()) {
-        Player winner = activePlayers.get(winnerIndex);
-        bets.awardPotToWinner(winner); // Otorgar pozo al ganador
-        System.out.println("El ganador es " + winner.getName());
-    } else {
-        // En caso de empate o error, se divide el pozo entre los jugadores activos
-        System.out.println("Error al determinar ganador. Se divide el pozo.");
-        int splitAmount = bets.getPot() / activePlayers.size();
-        for (Player p : activePlayers) {
-            p.winChips(splitAmount);
-            System.out.println(p.getName() + " recibe " + splitAmount + " fichas.");
-        }
+    List<Integer> winnerIndexes = evaluator.returnWinners(playerHands, table.getTableCards(), table.getVariant());
+    List<Player> winners = new ArrayList<>();
+    for (int index : winnerIndexes) {
+        winners.add(contenders.get(index));
     }
+    return winners;
 }
 
 // Imprimir el estado actual de la mesa y jugadores
@@ -4,166 +4,283 @@ import java.util.*;
 
 public class PokerHand {
 
+    // Cantidad de palos de la baraja
+    static final int SUIT_COUNT = 4;
+
+    // Cantidad de valores distintos por palo (2 a A)
+    static final int RANKS_PER_SUIT = 13;
+
+    // Máscara con los 13 bits de un palo
+    private static final int SUIT_BITS = (1 << RANKS_PER_SUIT) - 1;
+
+    // Cantidad de combinaciones de 2 cartas de la baraja (52 * 51 / 2)
+    public static final int COMBO_COUNT = 1326;
+
+    // Máscara de las 2 cartas de cada combinación, por índice de combinación
+    private static final long[] COMBO_MASKS = new long[COMBO_COUNT];
+
+    // Valor (2-14) de la carta más alta de la escalera que forma cada combinación de 13 bits, o 0 si no hay escalera
+    private static final byte[] STRAIGHT_HIGH = new byte[1 << RANKS_PER_SUIT];
+
+    static {
+        // Escalera baja A-2-3-4-5: el As (bit 12) cuenta como 1 y la carta alta es el 5
+        int wheel = 1 << 12 | 0xF;
+        for (int ranks = 0; ranks < STRAIGHT_HIGH.length; ranks++) {
+            for (int high = 12; high >= 4; high--) {
+                int window = 0x1F << (high - 4);
+                if ((ranks & window) == window) {
+                    STRAIGHT_HIGH[ranks] = (byte) (high + 2);
+                    break;
+                }
+            }
+            if (STRAIGHT_HIGH[ranks] == 0 && (ranks & wheel) == wheel) {
+                STRAIGHT_HIGH[ranks] = 5;
+            }
+        }
+        for (int second = 1; second < 52; second++) {
+            for (int first = 0; first < second; first++) {
+                COMBO_MASKS[comboIndex(first, second)] = 1L << first | 1L << second;
+            }
+        }
+    }
+
     // Método principal: determina el índice del jugador ganador entre varias manos y las cartas comunitarias
+    // Si hay empate devuelve el primero de los empatados; para repartir el pozo usar returnWinners
     public int returnWinner(List<List<Card>> hands, List<Card> tableCards) {
-        int winnerIndex = 0; // Índice del jugador con la mejor mano
-        PokerResult bestResult = null; // Resultado de la mejor mano encontrada
+        return returnWinners(hands, tableCards).get(0);
+    }
 
-        for (int i = 0; i < hands.size(); i++) {
-            // Combina las cartas del jugador con las comunitarias
-            List<Card> fullHand = new ArrayList<>(hands.get(i));
-            fullHand.addAll(tableCards);
+    // Determina en una sola pasada los índices de todos los jugadores que empatan con la mejor mano
+    public List<Integer> returnWinners(List<List<Card>> hands, List<Card> tableCards) {
+        return returnWinners(hands, tableCards, PokerVariant.TEXAS_HOLDEM);
+    }
 
-            // Evalúa la mejor jugada posible con esas cartas
-            PokerResult currentResult = evaluateHand(fullHand);
+    // Igual que el anterior, evaluando cada mano con las reglas de la modalidad indicada
+    public List<Integer> returnWinners(List<List<Card>> hands, List<Card> tableCards, PokerVariant variant) {
+        List<Integer> winners = new ArrayList<>();
+        long tableMask = cardMask(tableCards); // La mesa es la misma para todos, se calcula una vez
+        int bestValue = -1;
 
-            // Si es la primera mano o es mejor que la actual mejor, se actualiza
-            if (bestResult == null || currentResult.compareTo(bestResult) > 0) {
-                bestResult = currentResult;
-                winnerIndex = i;
+        for (int i = 0; i < hands.size(); i++) {
+            long holeMask = cardMask(hands.get(i));
+            int value = variant == PokerVariant.OMAHA
+                    ? evaluateOmahaMask(holeMask, tableMask)
+                    : evaluateMask(tableMask | holeMask);
+
+            // Una mano mejor descarta a los empatados anteriores; una igual se suma a ellos
+            if (value > bestValue) {
+                bestValue = value;
+                winners.clear();
+                winners.add(i);
+            } else if (value == bestValue) {
+                winners.add(i);
             }
         }
 
-        return winnerIndex; // Devuelve el índice del jugador ganador
+        return winners; // Lista vacía solo si no se recibió ninguna mano
     }
 
-    // Evalúa una mano de cartas combinadas y devuelve un PokerResult con la mejor jugada y carta alta
-    PokerResult evaluateHand(List<Card> cards) {
-        List<Hands> possibleHands = new ArrayList<>();
-
-        // Verifica si hay escalera color
-        Hands straightFlush = hasStraightFlush(cards);
-        if (straightFlush != null) {
-            possibleHands.add(straightFlush);
-        }
+    // Evalúa una mano de cartas combinadas y devuelve un PokerResult con la mejor jugada de cinco cartas y sus kickers
+    public PokerResult evaluateHand(List<Card> cards) {
+        return new PokerResult(evaluateMask(cardMask(cards)));
+    }
 
-        // Verifica pares, tríos, full, poker
-        Hands repeatHands = returnRepeatHands(cards);
-        if (repeatHands != null) {
-            possibleHands.add(repeatHands);
-        }
+    // Evalúa una mano de Omaha: la mejor jugada con exactamente 2 de las 4 cartas propias y 3 de la mesa
+    public PokerResult evaluateOmahaHand(List<Card> holeCards, List<Card> tableCards) {
+        return new PokerResult(evaluateOmahaMask(cardMask(holeCards), cardMask(tableCards)));
+    }
 
-        // Verifica si hay color (flush)
-        Hands flush = hasFlush(cards);
-        if (flush != null) {
-            possibleHands.add(flush);
+    // Evalúa Omaha con máscaras: recorre los 6 pares de cartas propias por los tríos de la mesa (10 con 5 cartas)
+    // tomando bits de las máscaras, sin armar listas. Con menos de 3 cartas en la mesa o de 2 propias
+    // todavía no hay una mano de Omaha completa y se evalúan todas las cartas juntas
+    public static int evaluateOmahaMask(long holeMask, long tableMask) {
+        if (Long.bitCount(tableMask) < 3 || Long.bitCount(holeMask) < 2) {
+            return evaluateMask(holeMask | tableMask);
         }
-
-        // Verifica si hay escalera
-        Hands straight = hasStraight(cards);
-        if (straight != null) {
-            possibleHands.add(straight);
+        int best = 0;
+        for (long a = tableMask; a != 0; a &= a - 1) {
+            for (long b = a & (a - 1); b != 0; b &= b - 1) {
+                for (long c = b & (b - 1); c != 0; c &= c - 1) {
+                    long triple = Long.lowestOneBit(a) | Long.lowestOneBit(b) | Long.lowestOneBit(c);
+                    for (long x = holeMask; x != 0; x &= x - 1) {
+                        for (long y = x & (x - 1); y != 0; y &= y - 1) {
+                            best = Math.max(best, evaluateMask(triple | Long.lowestOneBit(x) | Long.lowestOneBit(y)));
+                        }
+                    }
+                }
+            }
         }
+        return best;
+    }
 
-        // Inicialmente considera la peor mano posible
-        Hands bestHand = Hands.HIGH_CARD;
+    // Índice de una carta dentro de la máscara: 13 bits por palo, del 2 (bit 0) al As (bit 12)
+    static int cardIndex(Card card) {
+        return card.getSuit().ordinal() * RANKS_PER_SUIT + card.getNumber() - 2;
+    }
 
-        // Busca la mejor mano entre las posibles
-        for (Hands hand : possibleHands) {
-            if (hand != null && hand.ordinal() < bestHand.ordinal()) {
-                bestHand = hand;
-            }
+    // Convierte una lista de cartas en una máscara de 52 bits (una carta por bit)
+    public static long cardMask(List<Card> cards) {
+        long mask = 0L;
+        for (Card card : cards) {
+            mask |= 1L << cardIndex(card);
         }
+        return mask;
+    }
 
-        // Obtiene la carta más alta para desempates
-        Card highCard = getHighestCard(cards);
+    // Índice (0-1325) de la combinación de 2 cartas dadas por su índice en la máscara, sin importar el orden:
+    // las combinaciones se numeran por la carta mayor y luego por la menor
+    public static int comboIndex(int firstCard, int secondCard) {
+        int high = Math.max(firstCard, secondCard);
+        int low = Math.min(firstCard, secondCard);
+        if (low < 0 || high >= 52 || low == high) {
+            throw new IllegalArgumentException("La combinación debe tener 2 cartas distintas de la baraja");
+        }
+        return high * (high - 1) / 2 + low;
+    }
 
-        // Devuelve el resultado final de la evaluación
-        return new PokerResult(bestHand, highCard.getNumber());
+    // Índice de la combinación de las 2 cartas de la máscara
+    public static int comboIndex(long holeMask) {
+        if (Long.bitCount(holeMask) != 2) {
+            throw new IllegalArgumentException("La combinación debe tener exactamente 2 cartas");
+        }
+        return comboIndex(Long.numberOfTrailingZeros(holeMask), 63 - Long.numberOfLeadingZeros(holeMask));
     }
 
-    // Retorna la carta más alta entre todas
-    private Card getHighestCard(List<Card> cards) {
-        return cards.stream().max(Comparator.comparingInt(Card::getNumber)).orElse(null);
+    // Máscara de las 2 cartas de la combinación con el índice dado
+    public static long comboMask(int combo) {
+        return COMBO_MASKS[combo];
     }
 
-    // Verifica repeticiones (par, doble par, trío, full house, poker)
-    private Hands returnRepeatHands(List<Card> cards) {
-        Map<Integer, Integer> freq = new HashMap<>();
+    // Evalúa hasta siete cartas representadas como máscara y devuelve el valor empaquetado de la mejor jugada
+    // (mismo formato que PokerResult.value: un valor mayor es una mano mejor). Con 5 a 7 cartas coincide con
+    // PokerUtils.evaluate de la raíz salvo en la escalera al 5, donde acá el As vale 1 (0x54321) y allá va al
+    // final como As (0x5432E); los dos ordenan igual todas las manos. Además acepta menos de cinco cartas (los
+    // lugares que faltan quedan en 0), que PokerUtils.evaluate rechaza
+    public static int evaluateMask(long mask) {
+        return evaluateSuits(suitRanks(mask, 0), suitRanks(mask, 1), suitRanks(mask, 2), suitRanks(mask, 3));
+    }
 
-        // Cuenta la frecuencia de cada número
-        for (Card c : cards) {
-            freq.put(c.getNumber(), freq.getOrDefault(c.getNumber(), 0) + 1);
+    // Igual que evaluateMask a partir de los rangos de cada palo (13 bits por palo, en el orden de CardSuits),
+    // para quien ya los mantiene separados como HandState
+    static int evaluateSuits(int s0, int s1, int s2, int s3) {
+        int ranks = s0 | s1 | s2 | s3;
+
+        // Color: con siete cartas como máximo solo un palo puede tener cinco o más
+        int flushRanks = 0;
+        if (Integer.bitCount(s0) >= 5) flushRanks = s0;
+        else if (Integer.bitCount(s1) >= 5) flushRanks = s1;
+        else if (Integer.bitCount(s2) >= 5) flushRanks = s2;
+        else if (Integer.bitCount(s3) >= 5) flushRanks = s3;
+
+        if (flushRanks != 0) {
+            int straightFlushHigh = STRAIGHT_HIGH[flushRanks];
+            if (straightFlushHigh == 14) {
+                return encodeStraight(Hands.ROYAL_FLUSH, 14);
+            }
+            if (straightFlushHigh != 0) {
+                return encodeStraight(Hands.STRAIGHT_FLUSH, straightFlushHigh);
+            }
         }
 
-        int pair = 0, trips = 0, quads = 0;
+        // Repeticiones por valor calculadas con operaciones de bits entre los cuatro palos
+        int quads = s0 & s1 & s2 & s3;
+        int threeOrMore = (s0 & s1 & s2) | (s0 & s1 & s3) | (s0 & s2 & s3) | (s1 & s2 & s3);
+        int twoOrMore = (s0 & s1) | (s0 & s2) | (s0 & s3) | (s1 & s2) | (s1 & s3) | (s2 & s3);
+        int trips = threeOrMore & ~quads;
+        int pairs = twoOrMore & ~threeOrMore;
 
-        // Clasifica las cantidades encontradas
-        for (int count : freq.values()) {
-            if (count == 4) quads++;
-            else if (count == 3) trips++;
-            else if (count == 2) pair++;
+        if (quads != 0) {
+            int quad = highestBit(quads);
+            return encodeGroups(Hands.POKER, quad, 4, 0, 0, ranks & ~quad);
         }
 
-        // Determina la mejor mano de repeticiones
-        if (quads > 0) return Hands.POKER;
-        if (trips > 0 && pair > 0) return Hands.FULL_HOUSE;
-        if (trips > 0) return Hands.THREE_OF_A_KIND;
-        if (pair >= 2) return Hands.TWO_PAIR;
-        if (pair == 1) return Hands.PAIR;
+        if (trips != 0 && (pairs != 0 || Integer.bitCount(trips) > 1)) {
+            int trip = highestBit(trips);
+            int pair = highestBit((trips & ~trip) | pairs);
+            return encodeGroups(Hands.FULL_HOUSE, trip, 3, pair, 2, 0);
+        }
 
-        return null;
-    }
+        if (flushRanks != 0) {
+            return encodeGroups(Hands.FLUSH, 0, 0, 0, 0, flushRanks);
+        }
 
-    // Verifica si hay color (5 cartas del mismo palo)
-    private Hands hasFlush(List<Card> cards) {
-        Map<CardSuits, List<Card>> suits = new HashMap<>();
+        int straightHigh = STRAIGHT_HIGH[ranks];
+        if (straightHigh != 0) {
+            return encodeStraight(Hands.STRAIGHT, straightHigh);
+        }
 
-        // Agrupa cartas por palo
-        for (Card card : cards) {
-            suits.computeIfAbsent(card.getSuit(), k -> new ArrayList<>()).add(card);
+        if (trips != 0) {
+            int trip = highestBit(trips);
+            return encodeGroups(Hands.THREE_OF_A_KIND, trip, 3, 0, 0, ranks & ~trip);
         }
 
-        // Busca si hay al menos 5 del mismo palo
-        for (List<Card> suitGroup : suits.values()) {
-            if (suitGroup.size() >= 5) return Hands.FLUSH;
+        if (Integer.bitCount(pairs) >= 2) {
+            int highPair = highestBit(pairs);
+            int lowPair = highestBit(pairs & ~highPair);
+            return encodeGroups(Hands.TWO_PAIR, highPair, 2, lowPair, 2, ranks & ~(highPair | lowPair));
         }
 
-        return null;
+        if (pairs != 0) {
+            return encodeGroups(Hands.PAIR, pairs, 2, 0, 0, ranks & ~pairs);
+        }
+
+        return encodeGroups(Hands.HIGH_CARD, 0, 0, 0, 0, ranks);
     }
 
-    // Verifica si hay escalera (5 cartas consecutivas)
-    public Hands hasStraight(List<Card> cards) {
-        Set<Integer> ranks = new HashSet<>();
+    // Empaqueta la categoría con las cinco cartas de la jugada en orden de importancia: primero las del grupo
+    // principal (first, repetida firstCount veces), después las del segundo grupo y al final los mejores
+    // kickers hasta completar cinco. Con menos de cinco cartas los lugares que faltan quedan en 0
+    private static int encodeGroups(Hands hand, int first, int firstCount, int second, int secondCount, int kickers) {
+        int value = PokerResult.strengthOf(hand) << PokerResult.CATEGORY_SHIFT;
+        int shift = 16;
+        for (int i = 0; i < firstCount; i++, shift -= 4) {
+            value |= rankValue(first) << shift;
+        }
+        for (int i = 0; i < secondCount; i++, shift -= 4) {
+            value |= rankValue(second) << shift;
+        }
+        for (; shift >= 0 && kickers != 0; shift -= 4) {
+            int kicker = highestBit(kickers);
+            value |= rankValue(kicker) << shift;
+            kickers &= ~kicker;
+        }
+        return value;
+    }
 
-        // Usa un set para evitar duplicados
-        for (Card card : cards) {
-            ranks.add(card.getNumber());
-            if (card.getNumber() == 14) ranks.add(1); // A puede ser bajo también (para A-2-3-4-5)
+    // Empaqueta una escalera con sus cinco cartas de mayor a menor; en la escalera baja el As vale 1
+    private static int encodeStraight(Hands hand, int high) {
+        int value = PokerResult.strengthOf(hand) << PokerResult.CATEGORY_SHIFT;
+        for (int i = 0; i < PokerResult.KICKER_COUNT; i++) {
+            value |= (high - i) << (16 - 4 * i);
         }
+        return value;
+    }
 
-        List<Integer> sorted = new ArrayList<>(ranks);
-        Collections.sort(sorted);
+    // Los 13 bits de un palo dentro de la máscara de cartas
+    private static int suitRanks(long mask, int suit) {
+        return (int) (mask >>> (suit * RANKS_PER_SUIT)) & SUIT_BITS;
+    }
 
-        int count = 1;
-        for (int i = 1; i < sorted.size(); i++) {
-            if (sorted.get(i) == sorted.get(i - 1) + 1) {
-                count++;
-                if (count == 5) return Hands.STRAIGHT;
-            } else {
-                count = 1;
-            }
-        }
+    // Bit más alto encendido (0 si no hay ninguno)
+    private static int highestBit(int bits) {
+        return Integer.highestOneBit(bits);
+    }
 
-        return null;
+    // Valor de carta (2-14) correspondiente a un bit suelto de rango, o 0 si no hay carta
+    private static int rankValue(int bit) {
+        return bit == 0 ? 0 : Integer.numberOfTrailingZeros(bit) + 2;
     }
 
-    // Verifica si hay escalera color (straight flush)
-    private Hands hasStraightFlush(List<Card> cards) {
-        Map<CardSuits, List<Card>> suitGroups = new HashMap<>();
+    // Verifica si hay escalera (5 cartas consecutivas)
+    public Hands hasStraight(List<Card> cards) {
+        int ranks = 0;
 
-        // Agrupa cartas por palo
+        // Junta los valores de todos los palos en 13 bits (los duplicados se pisan solos)
         for (Card card : cards) {
-            suitGroups.computeIfAbsent(card.getSuit(), k -> new ArrayList<>()).add(card);
-        }
-
-        // Por cada grupo de cartas del mismo palo, verifica si hay escalera
-        for (List<Card> suitedCards : suitGroups.values()) {
-            if (suitedCards.size() >= 5 && hasStraight(suitedCards) != null) {
-                return Hands.STRAIGHT_FLUSH;
-            }
+            ranks |= 1 << (card.getNumber() - 2);
         }
 
-        return null;
+        // La tabla ya contempla la escalera baja A-2-3-4-5
+        return STRAIGHT_HIGH[ranks] != 0 ? Hands.STRAIGHT : null;
     }
 }
@@ -4,28 +4,101 @@ package ar.edu.utn.frc.tup.lciii;
 // Implementa Comparable para poder comparar dos resultados entre sí
 public class PokerResult implements Comparable<PokerResult> {
 
+    // Cantidad de bits que se corre la categoría dentro del valor empaquetado
+    static final int CATEGORY_SHIFT = 20;
+
+    // Cantidad de cartas que forman la mejor jugada (todas guardadas en el valor)
+    static final int KICKER_COUNT = 5;
+
     // Mano obtenida (por ejemplo: escalera, color, par, etc.)
-    Hands hand;
+    final Hands hand;
 
     // Carta más alta que se usa para desempatar si las manos son iguales
-    int highCard;
+    // (es la primera de la mejor jugada de cinco cartas en orden de importancia)
+    final int highCard;
 
-    // Constructor: inicializa el tipo de mano y la carta más alta
+    // Valor empaquetado de la mano: categoría en los bits 20-23 y las cinco cartas de la jugada (valores 2-14)
+    // en nibbles por orden de importancia: primero las del grupo principal (el trío del full, los dos pares del
+    // doble par) y después los kickers; en la escalera baja el As vale 1. Un valor mayor es siempre una mano mejor
+    final int value;
+
+    // Constructor: inicializa el tipo de mano y la carta más alta (sin el resto de los kickers)
     PokerResult(Hands hand, int highCard) {
-        this.hand = hand;
-        this.highCard = highCard;
+        this(encode(hand, highCard, 0, 0, 0, 0));
+    }
+
+    // Constructor a partir del valor empaquetado que devuelve PokerHand
+    PokerResult(int value) {
+        this.value = value;
+        this.hand = handOf(value);
+        this.highCard = kickerOf(value, 0);
+    }
+
+    // Empaqueta la categoría y las cinco cartas (de mayor a menor importancia) en un único int
+    static int encode(Hands hand, int k1, int k2, int k3, int k4, int k5) {
+        return strengthOf(hand) << CATEGORY_SHIFT | k1 << 16 | k2 << 12 | k3 << 8 | k4 << 4 | k5;
+    }
+
+    // Fuerza de la categoría: 0 para carta alta y 9 para escalera real (el enum va de mejor a peor)
+    static int strengthOf(Hands hand) {
+        return Hands.HIGH_CARD.ordinal() - hand.ordinal();
+    }
+
+    // Categoría guardada en un valor empaquetado
+    static Hands handOf(int value) {
+        return Hands.values()[Hands.HIGH_CARD.ordinal() - (value >>> CATEGORY_SHIFT)];
+    }
+
+    // Kicker en la posición indicada (0 es el más importante); 0 si la mano tenía menos cartas
+    static int kickerOf(int value, int position) {
+        return (value >>> (16 - 4 * position)) & 0xF;
+    }
+
+    // Devuelve la mano obtenida
+    public Hands getHand() {
+        return hand;
+    }
+
+    // Devuelve la carta más alta de la mejor jugada
+    public int getHighCard() {
+        return highCard;
+    }
+
+    // Devuelve el valor empaquetado, útil para comparar muchas manos sin crear objetos
+    public int getValue() {
+        return value;
+    }
+
+    // Devuelve las cinco cartas de la mejor jugada, de mayor a menor importancia
+    public int[] getKickers() {
+        int[] kickers = new int[KICKER_COUNT];
+        for (int i = 0; i < KICKER_COUNT; i++) {
+            kickers[i] = kickerOf(value, i);
+        }
+        return kickers;
     }
 
     // Implementación del método compareTo para comparar dos resultados de póker
+    // La categoría y todos los kickers ya están ordenados dentro del valor, así que alcanza con una comparación
     @Override
     public int compareTo(PokerResult other) {
-        // Compara primero el tipo de mano según su posición en el enum (mejor mano tiene menor índice)
-        if (this.hand.ordinal() != other.hand.ordinal()) {
-            // Se usa Integer.compare con los valores invertidos porque una mano más alta debe "ganar"
-            return Integer.compare(other.hand.ordinal(), this.hand.ordinal());
-        }
+        return Integer.compare(this.value, other.value);
+    }
 
-        // Si las manos son iguales, compara la carta más alta
-        return Integer.compare(this.highCard, other.highCard);
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        return value == ((PokerResult) obj).value;
+    }
+
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(value);
+    }
+
+    @Override
+    public String toString() {
+        return hand + " (carta alta " + highCard + ")";
     }
 }
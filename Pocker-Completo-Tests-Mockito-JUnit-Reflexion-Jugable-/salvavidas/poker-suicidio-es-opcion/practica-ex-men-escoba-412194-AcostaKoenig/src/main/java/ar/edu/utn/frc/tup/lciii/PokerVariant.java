@@ -0,0 +1,21 @@
+package ar.edu.utn.frc.tup.lciii;
+
+// Modalidades de juego soportadas por la mesa y el evaluador
+public enum PokerVariant {
+    // Texas Hold'em: 2 cartas propias, la mejor mano con cualquier combinación de las 7 cartas
+    TEXAS_HOLDEM(2),
+    // Omaha: 4 cartas propias, la mano usa exactamente 2 de ellas y exactamente 3 de la mesa
+    OMAHA(4);
+
+    // Cantidad de cartas que recibe cada jugador
+    private final int holeCardCount;
+
+    PokerVariant(int holeCardCount) {
+        this.holeCardCount = holeCardCount;
+    }
+
+    // Devuelve la cantidad de cartas propias de cada jugador
+    public int getHoleCardCount() {
+        return holeCardCount;
+    }
+}
@@ -0,0 +1,185 @@
+package ar.edu.utn.frc.tup.lciii;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+// Tabla de equity antes del flop entre las 169 clases de manos iniciales (pares, suited y offsuit), que nunca
+// cambia: se calcula una vez con PreflopEquityGenerator y se guarda en un archivo binario que se lee con
+// FileChannel.map, así cada consulta es una lectura del buffer
+// Formato del archivo (big endian): MAGIC, CLASS_COUNT y MAX_OPPONENTS como int; después la matriz mano a
+// mano de CLASS_COUNT x CLASS_COUNT y la equity de cada clase contra 1 a MAX_OPPONENTS manos al azar, todas
+// como short sin signo (equity * EQUITY_SCALE)
+// Las clases se numeran como la grilla de 13 x 13: fila y columna son los valores (0 = 2, 12 = As); los pares
+// van en la diagonal, las suited con la carta alta como fila y las offsuit con la carta alta como columna
+public final class PreflopEquity {
+
+    // Cantidad de clases de manos iniciales
+    public static final int CLASS_COUNT = 169;
+
+    // Cantidad máxima de rivales de las aproximaciones de varias manos (la mesa tiene 6 lugares)
+    public static final int MAX_OPPONENTS = 5;
+
+    // Marca del comienzo del archivo ("PF69")
+    static final int MAGIC = 0x50463639;
+
+    // Escala de la equity guardada como short sin signo
+    static final int EQUITY_SCALE = 0xFFFF;
+
+    // Bytes del encabezado y del archivo completo
+    static final int HEADER_BYTES = 3 * Integer.BYTES;
+    static final int FILE_BYTES = HEADER_BYTES + 2 * (CLASS_COUNT * CLASS_COUNT + CLASS_COUNT * MAX_OPPONENTS);
+
+    // Recurso con la tabla que acompaña al programa
+    static final String RESOURCE = "/preflop-equity.bin";
+
+    private static final String RANK_NAMES = "23456789TJQKA";
+
+    // Contenido del archivo (solo lectura)
+    private final ByteBuffer buffer;
+
+    private PreflopEquity(ByteBuffer buffer) {
+        if (buffer.capacity() != FILE_BYTES || buffer.getInt(0) != MAGIC || buffer.getInt(4) != CLASS_COUNT
+                || buffer.getInt(8) != MAX_OPPONENTS) {
+            throw new IllegalArgumentException("El archivo no es una tabla de equity antes del flop");
+        }
+        this.buffer = buffer;
+    }
+
+    // Tabla incluida en el programa, cargada la primera vez que se usa
+    public static PreflopEquity getDefault() {
+        return DefaultHolder.INSTANCE;
+    }
+
+    // Carga la tabla del archivo dado con FileChannel.map
+    public static PreflopEquity load(Path file) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return new PreflopEquity(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo leer la tabla de equity " + file, e);
+        }
+    }
+
+    // El recurso se mapea directamente si es un archivo; dentro de un jar se copia a memoria
+    private static final class DefaultHolder {
+        static final PreflopEquity INSTANCE = loadResource();
+
+        private static PreflopEquity loadResource() {
+            URL url = PreflopEquity.class.getResource(RESOURCE);
+            if (url == null) {
+                throw new IllegalStateException("Falta el recurso " + RESOURCE);
+            }
+            if ("file".equals(url.getProtocol())) {
+                try {
+                    return load(Paths.get(url.toURI()));
+                } catch (URISyntaxException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+            try (InputStream in = url.openStream()) {
+                return new PreflopEquity(ByteBuffer.wrap(in.readAllBytes()).asReadOnlyBuffer());
+            } catch (IOException e) {
+                throw new UncheckedIOException("No se pudo leer el recurso " + RESOURCE, e);
+            }
+        }
+    }
+
+    // Clase de la mano inicial formada por las 2 cartas de la máscara
+    public static int handClass(long holeMask) {
+        if (Long.bitCount(holeMask) != 2) {
+            throw new IllegalArgumentException("La mano inicial debe tener exactamente 2 cartas");
+        }
+        int low = Long.numberOfTrailingZeros(holeMask);
+        int high = 63 - Long.numberOfLeadingZeros(holeMask);
+        int lowRank = low % PokerHand.RANKS_PER_SUIT;
+        int highRank = high % PokerHand.RANKS_PER_SUIT;
+        boolean suited = low / PokerHand.RANKS_PER_SUIT == high / PokerHand.RANKS_PER_SUIT;
+        int top = Math.max(lowRank, highRank);
+        int bottom = Math.min(lowRank, highRank);
+        return suited ? top * 13 + bottom : bottom * 13 + top;
+    }
+
+    // Clase de la mano inicial de las 2 cartas dadas
+    public static int handClass(List<Card> holeCards) {
+        if (holeCards == null || holeCards.size() != 2) {
+            throw new IllegalArgumentException("La mano inicial debe tener exactamente 2 cartas");
+        }
+        return handClass(PokerHand.cardMask(holeCards));
+    }
+
+    // Nombre de la clase en la notación habitual: "AA", "AKs", "T9o"
+    public static String className(int handClass) {
+        checkClass(handClass);
+        int row = handClass / 13;
+        int column = handClass % 13;
+        if (row == column) {
+            return "" + RANK_NAMES.charAt(row) + RANK_NAMES.charAt(row);
+        }
+        return "" + RANK_NAMES.charAt(Math.max(row, column)) + RANK_NAMES.charAt(Math.min(row, column))
+                + (row > column ? "s" : "o");
+    }
+
+    // Cantidad de combinaciones de cartas de la clase: 6 los pares, 4 las suited y 12 las offsuit
+    public static int comboCount(int handClass) {
+        checkClass(handClass);
+        int row = handClass / 13;
+        int column = handClass % 13;
+        return row == column ? 6 : row > column ? 4 : 12;
+    }
+
+    // Rango con peso 1 en cada combinación de la clase (formato de EquityCalculator)
+    public static double[] classRange(int handClass) {
+        checkClass(handClass);
+        double[] range = new double[PokerHand.COMBO_COUNT];
+        for (int combo = 0; combo < PokerHand.COMBO_COUNT; combo++) {
+            if (handClass(PokerHand.comboMask(combo)) == handClass) {
+                range[combo] = 1.0;
+            }
+        }
+        return range;
+    }
+
+    // Equity de la clase hero contra la clase villain mano a mano
+    public double getEquity(int heroClass, int villainClass) {
+        checkClass(heroClass);
+        checkClass(villainClass);
+        return readEquity(HEADER_BYTES + 2 * (heroClass * CLASS_COUNT + villainClass));
+    }
+
+    // Equity de la mano dada contra la mano del rival (por sus clases)
+    public double getEquity(List<Card> heroCards, List<Card> villainCards) {
+        return getEquity(handClass(heroCards), handClass(villainCards));
+    }
+
+    // Equity de la clase contra la cantidad dada de manos al azar (1 a MAX_OPPONENTS)
+    public double getEquityVsRandom(int handClass, int opponents) {
+        checkClass(handClass);
+        if (opponents < 1 || opponents > MAX_OPPONENTS) {
+            throw new IllegalArgumentException("La cantidad de rivales debe estar entre 1 y " + MAX_OPPONENTS);
+        }
+        return readEquity(HEADER_BYTES + 2 * (CLASS_COUNT * CLASS_COUNT + handClass * MAX_OPPONENTS + opponents - 1));
+    }
+
+    // Equity de la mano dada contra la cantidad dada de manos al azar
+    public double getEquityVsRandom(List<Card> holeCards, int opponents) {
+        return getEquityVsRandom(handClass(holeCards), opponents);
+    }
+
+    private double readEquity(int offset) {
+        return (buffer.getShort(offset) & 0xFFFF) / (double) EQUITY_SCALE;
+    }
+
+    private static void checkClass(int handClass) {
+        if (handClass < 0 || handClass >= CLASS_COUNT) {
+            throw new IllegalArgumentException("Clase de mano inicial fuera de rango: " + handClass);
+        }
+    }
+}
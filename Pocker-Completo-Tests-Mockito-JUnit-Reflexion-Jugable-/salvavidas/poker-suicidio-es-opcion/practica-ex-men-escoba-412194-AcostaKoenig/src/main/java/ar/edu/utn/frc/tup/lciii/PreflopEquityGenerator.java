@@ -0,0 +1,89 @@
+package ar.edu.utn.frc.tup.lciii;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+// Generador offline de la tabla de PreflopEquity: cada enfrentamiento entre clases se simula con
+// EquityCalculator (Monte Carlo con semilla fija, así el archivo se puede volver a generar igual)
+// Uso: PreflopEquityGenerator <archivo> [repartidas por enfrentamiento] [repartidas contra manos al azar] [semilla]
+// El archivo incluido en src/main/resources se generó con los valores por defecto
+public final class PreflopEquityGenerator {
+
+    static final long DEFAULT_HEADS_UP_TRIALS = 20_000L;
+    static final long DEFAULT_RANDOM_TRIALS = 200_000L;
+    static final long DEFAULT_SEED = 169L;
+
+    private PreflopEquityGenerator() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Uso: PreflopEquityGenerator <archivo> [repartidas mano a mano]"
+                    + " [repartidas contra manos al azar] [semilla]");
+            System.exit(2);
+        }
+        long headsUpTrials = args.length > 1 ? Long.parseLong(args[1]) : DEFAULT_HEADS_UP_TRIALS;
+        long randomTrials = args.length > 2 ? Long.parseLong(args[2]) : DEFAULT_RANDOM_TRIALS;
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : DEFAULT_SEED;
+        long start = System.nanoTime();
+        byte[] table = generate(headsUpTrials, randomTrials, seed);
+        Files.write(Paths.get(args[0]), table);
+        System.out.printf("Tabla escrita en %s (%d bytes) en %.1f s%n", args[0], table.length,
+                (System.nanoTime() - start) / 1e9);
+    }
+
+    // Calcula el contenido completo del archivo
+    static byte[] generate(long headsUpTrials, long randomTrials, long seed) {
+        double[][] ranges = new double[PreflopEquity.CLASS_COUNT][];
+        for (int handClass = 0; handClass < ranges.length; handClass++) {
+            ranges[handClass] = PreflopEquity.classRange(handClass);
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(PreflopEquity.FILE_BYTES);
+        buffer.putInt(PreflopEquity.MAGIC).putInt(PreflopEquity.CLASS_COUNT).putInt(PreflopEquity.MAX_OPPONENTS);
+
+        // Mano a mano: se simula cada par una sola vez y la otra mitad es el complemento;
+        // una clase contra sí misma tiene equity 1/2 por simetría
+        double[][] equity = new double[PreflopEquity.CLASS_COUNT][PreflopEquity.CLASS_COUNT];
+        for (int hero = 0; hero < PreflopEquity.CLASS_COUNT; hero++) {
+            equity[hero][hero] = 0.5;
+            for (int villain = hero + 1; villain < PreflopEquity.CLASS_COUNT; villain++) {
+                EquityResult result = EquityCalculator.of(List.of(ranges[hero], ranges[villain]), 0L, 0L)
+                        .monteCarlo(headsUpTrials, seed + hero * PreflopEquity.CLASS_COUNT + villain);
+                equity[hero][villain] = result.getEquity(0);
+                equity[villain][hero] = result.getEquity(1);
+            }
+            System.out.println("Mano a mano: " + PreflopEquity.className(hero) + " lista");
+        }
+        for (double[] row : equity) {
+            for (double value : row) {
+                buffer.putShort(encode(value));
+            }
+        }
+
+        // Contra 1 a MAX_OPPONENTS manos al azar
+        double[] uniform = RiverEquity.uniformRange();
+        for (int hero = 0; hero < PreflopEquity.CLASS_COUNT; hero++) {
+            for (int opponents = 1; opponents <= PreflopEquity.MAX_OPPONENTS; opponents++) {
+                List<double[]> players = new ArrayList<>();
+                players.add(ranges[hero]);
+                for (int i = 0; i < opponents; i++) {
+                    players.add(uniform);
+                }
+                EquityResult result = EquityCalculator.of(players, 0L, 0L)
+                        .monteCarlo(randomTrials, -seed - hero * PreflopEquity.MAX_OPPONENTS - opponents);
+                buffer.putShort(encode(result.getEquity(0)));
+            }
+        }
+        return buffer.array();
+    }
+
+    private static short encode(double equity) {
+        return (short) Math.round(equity * PreflopEquity.EQUITY_SCALE);
+    }
+}
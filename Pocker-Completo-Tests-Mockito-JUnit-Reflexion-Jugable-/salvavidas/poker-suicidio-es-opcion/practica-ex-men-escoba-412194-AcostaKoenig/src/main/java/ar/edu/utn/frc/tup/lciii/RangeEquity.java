@@ -0,0 +1,265 @@
+package ar.edu.utn.frc.tup.lciii;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.DoubleConsumer;
+
+// Equity de un rango contra otro (jugador 0 contra jugador 1) con mesa parcial y cartas muertas opcionales
+// Por cada mesa completa se arma un RiverEquity y un solo barrido enfrenta las 1326 combinaciones de un rango
+// con las del otro: cada par sin cartas en común pesa el producto de sus pesos y las combinaciones que
+// comparten cartas con la mesa o entre sí se descuentan con las sumas por carta del barrido. Como cada par de
+// combinaciones es compatible con la misma cantidad de mesas, la equity es la suma de las victorias de todas
+// las mesas sobre la suma de los pesos
+// Con la mesa completa o casi completa (hasta EXACT_RUNOUT_LIMIT mesas) se recorren todas; si no, se
+// muestrean mesas estratificadas por la carta más alta que falta, con una cantidad de mesas por estrato
+// proporcional a su probabilidad. Las mesas se reparten entre las tareas de un ForkJoinPool y cada tarea
+// avisa su avance (fracción de 0 a 1) al terminar
+public final class RangeEquity {
+
+    // Mesas hasta las que calculate enumera en forma exacta (alcanza para el flop: C(47, 2) = 1081)
+    static final long EXACT_RUNOUT_LIMIT = 1081L;
+
+    // Mesas que muestrea calculate cuando no conviene enumerar
+    static final long DEFAULT_BOARDS = 2_000L;
+
+    // Mesas que evalúa cada tarea sin dividirse
+    static final int BOARDS_PER_TASK = 32;
+
+    // Mesa conocida (0 a 5 cartas) y cartas muertas
+    private final long boardMask;
+    private final long deadMask;
+
+    // Pesos de los dos rangos sin las combinaciones con cartas de la mesa o muertas
+    private final double[] heroWeights;
+    private final double[] villainWeights;
+
+    // Cartas que pueden salir en la mesa, en orden de índice
+    private final int[] deck;
+
+    private RangeEquity(double[] heroWeights, double[] villainWeights, long boardMask, long deadMask) {
+        this.boardMask = boardMask;
+        this.deadMask = deadMask;
+        this.heroWeights = heroWeights;
+        this.villainWeights = villainWeights;
+        long used = boardMask | deadMask;
+        this.deck = new int[52 - Long.bitCount(used)];
+        int count = 0;
+        for (long rest = ~used & ((1L << 52) - 1); rest != 0; rest &= rest - 1) {
+            deck[count++] = Long.numberOfTrailingZeros(rest);
+        }
+    }
+
+    // Prepara el cálculo entre los rangos dados con la mesa y las cartas muertas dadas
+    public static RangeEquity of(HandRange hero, HandRange villain, List<Card> boardCards, List<Card> deadCards) {
+        if (hero == null || villain == null) {
+            throw new IllegalArgumentException("Los rangos no pueden ser nulos");
+        }
+        if (boardCards == null || boardCards.size() > 5) {
+            throw new IllegalArgumentException("La mesa debe tener entre 0 y 5 cartas");
+        }
+        long boardMask = PokerHand.cardMask(boardCards);
+        long deadMask = deadCards == null ? 0L : PokerHand.cardMask(deadCards);
+        if (Long.bitCount(boardMask) != boardCards.size()
+                || (deadCards != null && Long.bitCount(deadMask) != deadCards.size())) {
+            throw new IllegalArgumentException("Hay cartas repetidas en la mesa o en las cartas muertas");
+        }
+        return of(hero.toWeights(), villain.toWeights(), boardMask, deadMask);
+    }
+
+    // Igual que el anterior con los rangos como pesos por combinación y las cartas como máscaras
+    public static RangeEquity of(double[] heroWeights, double[] villainWeights, long boardMask, long deadMask) {
+        if (Long.bitCount(boardMask) > 5 || (boardMask | deadMask) >>> 52 != 0) {
+            throw new IllegalArgumentException("La mesa debe tener entre 0 y 5 cartas");
+        }
+        if ((boardMask & deadMask) != 0) {
+            throw new IllegalArgumentException("Una carta muerta está en la mesa");
+        }
+        long known = boardMask | deadMask;
+        double[] hero = HandRange.ofWeights(heroWeights).withoutCards(known).toWeights();
+        double[] villain = HandRange.ofWeights(villainWeights).withoutCards(known).toWeights();
+        return new RangeEquity(hero, villain, boardMask, deadMask);
+    }
+
+    // Cantidad de mesas completas posibles
+    public long getRunoutCount() {
+        return binomial(deck.length, 5 - Long.bitCount(boardMask));
+    }
+
+    // Equity exacta si hay hasta EXACT_RUNOUT_LIMIT mesas; si no, DEFAULT_BOARDS mesas estratificadas
+    public EquityResult calculate() {
+        return calculate(progress -> { });
+    }
+
+    // Igual que el anterior avisando el avance
+    public EquityResult calculate(DoubleConsumer progress) {
+        return getRunoutCount() <= EXACT_RUNOUT_LIMIT
+                ? exact(progress)
+                : stratified(DEFAULT_BOARDS, new SplittableRandom().nextLong(), progress);
+    }
+
+    // Equity exacta: recorre todas las mesas posibles
+    public EquityResult exact() {
+        return exact(progress -> { });
+    }
+
+    // Igual que el anterior avisando el avance. El aviso llega desde los hilos del ForkJoinPool
+    public EquityResult exact(DoubleConsumer progress) {
+        int missing = 5 - Long.bitCount(boardMask);
+        long runouts = getRunoutCount();
+        Progress tracker = new Progress(runouts, progress);
+        return ForkJoinPool.commonPool().invoke(new BoardTask(0, runouts, (from, to) -> {
+            EquityTally tally = new EquityTally(2);
+            int[] positions = new int[missing];
+            EquityCalculator.unrank(from, positions);
+            for (long runout = from; runout < to; runout++) {
+                addBoard(positions, 1.0, tally);
+                EquityCalculator.nextCombination(positions);
+            }
+            tracker.done(to - from);
+            return tally;
+        })).toResult();
+    }
+
+    // Monte Carlo estratificado con la cantidad de mesas y la semilla dadas
+    public EquityResult stratified(long boards, long seed) {
+        return stratified(boards, seed, progress -> { });
+    }
+
+    // Igual que el anterior avisando el avance. Con la misma semilla el resultado es siempre el mismo
+    // El estrato j son las mesas cuya carta más alta (de las que faltan) es la j-ésima del mazo: tiene
+    // C(j, faltan - 1) mesas, recibe una parte de las mesas proporcional a esa cantidad (al menos una) y
+    // cada mesa del estrato pesa su probabilidad dividida por las mesas que recibió
+    public EquityResult stratified(long boards, long seed, DoubleConsumer progress) {
+        if (boards <= 0) {
+            throw new IllegalArgumentException("La cantidad de mesas debe ser positiva");
+        }
+        int missing = 5 - Long.bitCount(boardMask);
+        if (missing == 0) {
+            return exact(progress);
+        }
+        double runouts = getRunoutCount();
+        int strata = deck.length;
+        long[] samples = new long[strata];
+        double[] factors = new double[strata];
+        long[] seeds = new long[strata];
+        long[] firstSample = new long[strata + 1];
+        SplittableRandom master = new SplittableRandom(seed);
+        for (int stratum = 0; stratum < strata; stratum++) {
+            double probability = binomial(stratum, missing - 1) / runouts;
+            if (probability > 0) {
+                samples[stratum] = Math.max(1, Math.round(boards * probability));
+                factors[stratum] = probability / samples[stratum];
+            }
+            seeds[stratum] = master.nextLong();
+            firstSample[stratum + 1] = firstSample[stratum] + samples[stratum];
+        }
+        Progress tracker = new Progress(firstSample[strata], progress);
+        return ForkJoinPool.commonPool().invoke(new BoardTask(0, firstSample[strata], (from, to) -> {
+            EquityTally tally = new EquityTally(2);
+            int[] positions = new int[missing];
+            for (int stratum = 0; stratum < strata; stratum++) {
+                long first = Math.max(from, firstSample[stratum]);
+                long last = Math.min(to, firstSample[stratum + 1]);
+                // Cada mesa tiene su propio generador derivado del estrato, así el resultado no depende de
+                // cómo se dividen las tareas
+                for (long sample = first; sample < last; sample++) {
+                    SplittableRandom random = new SplittableRandom(seeds[stratum] + sample - firstSample[stratum]);
+                    sampleBoard(stratum, random, positions);
+                    addBoard(positions, factors[stratum], tally);
+                }
+            }
+            tracker.done(to - from);
+            return tally;
+        })).toResult();
+    }
+
+    // Elige al azar las cartas que faltan del estrato: la del estrato y el resto entre las anteriores del mazo
+    private static void sampleBoard(int stratum, SplittableRandom random, int[] positions) {
+        int last = positions.length - 1;
+        positions[last] = stratum;
+        for (int i = 0; i < last; i++) {
+            int position;
+            boolean repeated;
+            do {
+                position = random.nextInt(stratum);
+                repeated = false;
+                for (int j = 0; j < i; j++) {
+                    repeated |= positions[j] == position;
+                }
+            } while (repeated);
+            positions[i] = position;
+        }
+    }
+
+    // Enfrenta los dos rangos en la mesa formada por la mesa conocida y las posiciones del mazo dadas
+    private void addBoard(int[] positions, double factor, EquityTally tally) {
+        long board = boardMask;
+        for (int position : positions) {
+            board |= 1L << deck[position];
+        }
+        RiverEquity.of(board).addMatchup(heroWeights, villainWeights, factor, tally);
+    }
+
+    private static long binomial(int n, int k) {
+        if (k < 0 || k > n) {
+            return 0;
+        }
+        long result = 1;
+        for (int i = 1; i <= k; i++) {
+            result = result * (n - k + i) / i;
+        }
+        return result;
+    }
+
+    // Cuenta las mesas evaluadas por todas las tareas y avisa la fracción completada
+    private static final class Progress {
+        private final long total;
+        private final DoubleConsumer listener;
+        private final AtomicLong completed = new AtomicLong();
+
+        Progress(long total, DoubleConsumer listener) {
+            this.total = total;
+            this.listener = listener;
+        }
+
+        void done(long boards) {
+            listener.accept((double) completed.addAndGet(boards) / total);
+        }
+    }
+
+    // Trabajo de una tarea sin dividirse: evalúa las mesas from a to - 1 y devuelve su acumulador
+    private interface BoardWork {
+        EquityTally run(long from, long to);
+    }
+
+    // Tarea que divide el rango de mesas en mitades hasta BOARDS_PER_TASK
+    private static final class BoardTask extends RecursiveTask<EquityTally> {
+        private final long from;
+        private final long to;
+        private final BoardWork work;
+
+        BoardTask(long from, long to, BoardWork work) {
+            this.from = from;
+            this.to = to;
+            this.work = work;
+        }
+
+        @Override
+        protected EquityTally compute() {
+            if (to - from <= BOARDS_PER_TASK) {
+                return work.run(from, to);
+            }
+            long middle = from + (to - from) / 2;
+            BoardTask left = new BoardTask(from, middle, work);
+            BoardTask right = new BoardTask(middle, to, work);
+            left.fork();
+            EquityTally rightTally = right.compute();
+            EquityTally tally = left.join();
+            tally.add(rightTally);
+            return tally;
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package ar.edu.utn.frc.tup.lciii;
+
+import java.util.Arrays;
+import java.util.List;
+
+// Equity exacta en el river contra un rango de rival con pesos: con la mesa completa cada combinación de
+// 2 cartas tiene un único valor, así que se evalúan las 1081 combinaciones posibles una sola vez, se ordenan
+// por valor y un solo barrido da la equity de todas las manos propias a la vez. Las combinaciones del rival
+// que comparten cartas con la mano propia (bloqueadas) se descuentan con sumas por carta, sin comparar
+// mano contra mano. Los rangos son arreglos de PokerHand.COMBO_COUNT pesos indexados con PokerHand.comboIndex
+public final class RiverEquity {
+
+    // Máscara de la mesa (5 cartas)
+    private final long boardMask;
+
+    // Combinaciones que no usan cartas de la mesa, ordenadas por valor de menor a mayor
+    private final int[] combos;
+
+    // Valor de cada combinación de combos (formato de PokerResult.value), en el mismo orden
+    private final int[] values;
+
+    // Valor de cada combinación por índice, o -1 si usa una carta de la mesa
+    private final int[] valueByCombo = new int[PokerHand.COMBO_COUNT];
+
+    private RiverEquity(long boardMask) {
+        this.boardMask = boardMask;
+        int available = (52 - 5) * (51 - 5) / 2;
+        long[] sorted = new long[available];
+        int count = 0;
+        for (int combo = 0; combo < PokerHand.COMBO_COUNT; combo++) {
+            long holeMask = PokerHand.comboMask(combo);
+            if ((holeMask & boardMask) != 0) {
+                valueByCombo[combo] = -1;
+                continue;
+            }
+            int value = PokerHand.evaluateMask(holeMask | boardMask);
+            valueByCombo[combo] = value;
+            // Valor en la parte alta y combinación en la baja: un solo sort de long ordena por valor
+            sorted[count++] = (long) value << 32 | combo;
+        }
+        Arrays.sort(sorted);
+        this.combos = new int[available];
+        this.values = new int[available];
+        for (int i = 0; i < available; i++) {
+            combos[i] = (int) sorted[i];
+            values[i] = (int) (sorted[i] >>> 32);
+        }
+    }
+
+    // Prepara el ranking de la mesa dada (5 cartas)
+    public static RiverEquity of(List<Card> boardCards) {
+        if (boardCards == null || boardCards.size() != 5) {
+            throw new IllegalArgumentException("La mesa del river debe tener 5 cartas");
+        }
+        long boardMask = PokerHand.cardMask(boardCards);
+        if (Long.bitCount(boardMask) != 5) {
+            throw new IllegalArgumentException("La mesa tiene cartas repetidas");
+        }
+        return new RiverEquity(boardMask);
+    }
+
+    // Prepara el ranking de la mesa dada como máscara
+    public static RiverEquity of(long boardMask) {
+        if (Long.bitCount(boardMask) != 5 || boardMask >>> 52 != 0) {
+            throw new IllegalArgumentException("La mesa del river debe tener 5 cartas");
+        }
+        return new RiverEquity(boardMask);
+    }
+
+    // Rango con todas las combinaciones posibles con el mismo peso (una mano al azar)
+    public static double[] uniformRange() {
+        double[] weights = new double[PokerHand.COMBO_COUNT];
+        Arrays.fill(weights, 1.0);
+        return weights;
+    }
+
+    // Máscara de la mesa
+    public long getBoardMask() {
+        return boardMask;
+    }
+
+    // Valor de la combinación en esta mesa, o -1 si usa una carta de la mesa
+    public int getValue(int combo) {
+        return valueByCombo[combo];
+    }
+
+    // Equity (victorias más la mitad de los empates) de las cartas propias contra el rango del rival
+    public double equity(List<Card> holeCards, double[] opponentWeights) {
+        if (holeCards == null || holeCards.size() != 2) {
+            throw new IllegalArgumentException("El jugador debe tener exactamente 2 cartas");
+        }
+        return equity(PokerHand.cardMask(holeCards), opponentWeights);
+    }
+
+    // Igual que el anterior con las cartas propias como máscara. Es una sola pasada por el ranking:
+    // para una mano sola no hace falta el barrido de equities
+    public double equity(long holeMask, double[] opponentWeights) {
+        checkWeights(opponentWeights);
+        int hero = PokerHand.comboIndex(holeMask);
+        if (valueByCombo[hero] < 0) {
+            throw new IllegalArgumentException("Las cartas del jugador están en la mesa");
+        }
+        int heroValue = valueByCombo[hero];
+        double wins = 0;
+        double ties = 0;
+        double total = 0;
+        for (int i = 0; i < combos.length; i++) {
+            double weight = opponentWeights[combos[i]];
+            if (weight == 0 || (PokerHand.comboMask(combos[i]) & holeMask) != 0) {
+                continue;
+            }
+            total += weight;
+            if (values[i] < heroValue) {
+                wins += weight;
+            } else if (values[i] == heroValue) {
+                ties += weight;
+            }
+        }
+        return total == 0 ? Double.NaN : (wins + ties / 2) / total;
+    }
+
+    // Equity de cada combinación propia contra el rango del rival, indexada como el rango. Las combinaciones
+    // que usan cartas de la mesa, o contra las que el rango no tiene ninguna mano posible, quedan en NaN
+    public double[] equities(double[] opponentWeights) {
+        checkWeights(opponentWeights);
+        double[] wins = new double[PokerHand.COMBO_COUNT];
+        double[] ties = new double[PokerHand.COMBO_COUNT];
+        double[] available = new double[PokerHand.COMBO_COUNT];
+        sweep(opponentWeights, wins, ties, available);
+        double[] result = new double[PokerHand.COMBO_COUNT];
+        for (int combo = 0; combo < PokerHand.COMBO_COUNT; combo++) {
+            result[combo] = available[combo] == 0 ? Double.NaN : (wins[combo] + ties[combo] / 2) / available[combo];
+        }
+        return result;
+    }
+
+    // Suma al acumulador el enfrentamiento completo del rango propio (jugador 0) contra el del rival
+    // (jugador 1) en esta mesa: cada par de combinaciones sin cartas en común pesa el producto de sus pesos
+    // por el factor dado. Cuenta como una repartida
+    void addMatchup(double[] heroWeights, double[] opponentWeights, double factor, EquityTally tally) {
+        double[] wins = new double[PokerHand.COMBO_COUNT];
+        double[] ties = new double[PokerHand.COMBO_COUNT];
+        double[] available = new double[PokerHand.COMBO_COUNT];
+        sweep(opponentWeights, wins, ties, available);
+        double heroWins = 0;
+        double heroTies = 0;
+        double total = 0;
+        for (int combo : combos) {
+            double weight = heroWeights[combo];
+            if (weight > 0 && available[combo] > 0) {
+                heroWins += weight * wins[combo];
+                heroTies += weight * ties[combo];
+                total += weight * available[combo];
+            }
+        }
+        double villainWins = total - heroWins - heroTies;
+        tally.wins[0] += factor * heroWins;
+        tally.wins[1] += factor * villainWins;
+        tally.ties[0] += factor * heroTies;
+        tally.ties[1] += factor * heroTies;
+        tally.shares[0] += factor * (heroWins + heroTies / 2);
+        tally.shares[1] += factor * (villainWins + heroTies / 2);
+        tally.weight += factor * total;
+        tally.trials++;
+    }
+
+    // Peso de las manos del rival que pierden, que empatan y que son posibles contra cada combinación propia
+    // (0 en las tres si la combinación usa cartas de la mesa o no tiene rivales posibles)
+    // Se recorre el ranking por grupos del mismo valor acumulando el peso de las manos peores, en total y
+    // por carta; para cada mano propia se restan las combinaciones que comparten alguna de sus 2 cartas
+    private void sweep(double[] opponentWeights, double[] wins, double[] ties, double[] available) {
+        // Peso total del rango por carta (sin las combinaciones bloqueadas por la mesa)
+        double total = 0;
+        double[] totalByCard = new double[52];
+        for (int combo : combos) {
+            double weight = opponentWeights[combo];
+            total += weight;
+            addByCard(totalByCard, combo, weight);
+        }
+
+        double below = 0;
+        double[] belowByCard = new double[52];
+        double[] groupByCard = new double[52];
+        for (int start = 0; start < combos.length; ) {
+            int end = start;
+            double group = 0;
+            while (end < combos.length && values[end] == values[start]) {
+                double weight = opponentWeights[combos[end]];
+                group += weight;
+                addByCard(groupByCard, combos[end], weight);
+                end++;
+            }
+            for (int i = start; i < end; i++) {
+                int combo = combos[i];
+                long holeMask = PokerHand.comboMask(combo);
+                int first = Long.numberOfTrailingZeros(holeMask);
+                int second = 63 - Long.numberOfLeadingZeros(holeMask);
+                // La combinación propia se resta dos veces (una por carta) y se vuelve a sumar una
+                double self = opponentWeights[combo];
+                double possible = total - totalByCard[first] - totalByCard[second] + self;
+                // Con pesos no enteros la resta puede dejar un residuo de redondeo en vez de 0
+                if (possible <= total * 1e-12) {
+                    continue;
+                }
+                wins[combo] = below - belowByCard[first] - belowByCard[second];
+                ties[combo] = group - groupByCard[first] - groupByCard[second] + self;
+                available[combo] = possible;
+            }
+            // El grupo pasa a ser peor que los siguientes
+            below += group;
+            for (int i = start; i < end; i++) {
+                addByCard(belowByCard, combos[i], opponentWeights[combos[i]]);
+                long holeMask = PokerHand.comboMask(combos[i]);
+                groupByCard[Long.numberOfTrailingZeros(holeMask)] = 0;
+                groupByCard[63 - Long.numberOfLeadingZeros(holeMask)] = 0;
+            }
+            start = end;
+        }
+    }
+
+    // Equity media de un rango propio contra el del rival, ponderada por los pesos propios
+    public double rangeEquity(double[] heroWeights, double[] opponentWeights) {
+        checkWeights(heroWeights);
+        double[] equities = equities(opponentWeights);
+        double sum = 0;
+        double weights = 0;
+        for (int combo = 0; combo < PokerHand.COMBO_COUNT; combo++) {
+            if (heroWeights[combo] > 0 && !Double.isNaN(equities[combo])) {
+                sum += heroWeights[combo] * equities[combo];
+                weights += heroWeights[combo];
+            }
+        }
+        return weights == 0 ? Double.NaN : sum / weights;
+    }
+
+    // Suma el peso de la combinación a sus 2 cartas
+    private static void addByCard(double[] byCard, int combo, double weight) {
+        long holeMask = PokerHand.comboMask(combo);
+        byCard[Long.numberOfTrailingZeros(holeMask)] += weight;
+        byCard[63 - Long.numberOfLeadingZeros(holeMask)] += weight;
+    }
+
+    private static void checkWeights(double[] weights) {
+        if (weights == null || weights.length != PokerHand.COMBO_COUNT) {
+            throw new IllegalArgumentException("El rango debe tener un peso por cada una de las 1326 combinaciones");
+        }
+        for (double weight : weights) {
+            if (!(weight >= 0) || Double.isInfinite(weight)) {
+                throw new IllegalArgumentException("Los pesos del rango deben ser números no negativos");
+            }
+        }
+    }
+}
@@ -11,24 +11,55 @@ public class Table {
     // Baraja de cartas que usará la mesa para repartir
     private final Deck deck = new Deck();
 
-    // Constructor: se ejecuta al crear una nueva mesa, baraja el mazo
+    // Jugadores que recibieron cartas en la mano actual: ven cada carta comunitaria que se reparte
+    private final List<Player> dealtPlayers = new ArrayList<>();
+
+    // Modalidad de la mesa: define cuántas cartas recibe cada jugador y cómo se evalúan
+    private final PokerVariant variant;
+
+    // Análisis de la mesa de la calle actual; se calcula una vez y lo comparten las decisiones de todos los bots
+    private BoardAnalysis boardAnalysis;
+
+    // Constructor: se ejecuta al crear una nueva mesa de Texas Hold'em, baraja el mazo
     public Table() {
+        this(PokerVariant.TEXAS_HOLDEM);
+    }
+
+    // Constructor para una mesa de la modalidad indicada
+    public Table(PokerVariant variant) {
+        if (variant == null) {
+            throw new IllegalArgumentException("La modalidad no puede ser nula");
+        }
+        this.variant = variant;
         deck.shuffleCards(); // Se mezcla el mazo apenas se crea la mesa
     }
 
+    // Devuelve la modalidad de la mesa
+    public PokerVariant getVariant() {
+        return variant;
+    }
+
     // Reinicia el mazo: lo vuelve a crear, mezcla las cartas y limpia la mesa
     public void resetDeck() {
         deck.initializeDeck(); // Crea un nuevo mazo con todas las cartas
         deck.shuffleCards();   // Mezcla el mazo
         tableCards.clear();    // Limpia las cartas comunitarias de la mesa
+        dealtPlayers.clear();  // Los jugadores vuelven a anotarse al repartir la próxima mano
+        boardAnalysis = null;
     }
 
-    // Reparte 2 cartas a cada jugador para iniciar una mano
+    // Reparte las cartas propias a cada jugador para iniciar una mano (2 en Texas Hold'em, 4 en Omaha)
     public void dealHands(List<Player> players) {
+        dealtPlayers.clear();
+        dealtPlayers.addAll(players);
         for (Player player : players) {
+            if (player.getVariant() != variant) {
+                player.setVariant(variant); // El jugador adopta la modalidad de la mesa
+            }
             player.resetForNewRound(); // Limpia las cartas y estado anterior del jugador
-            player.addCard(deck.takeCard()); // Le da la primera carta del mazo
-            player.addCard(deck.takeCard()); // Le da la segunda carta del mazo
+            for (int i = 0; i < variant.getHoleCardCount(); i++) {
+                player.addCard(deck.takeCard()); // Le da la siguiente carta del mazo
+            }
         }
     }
 
@@ -36,20 +67,37 @@ public class Table {
     public void dealFlop() {
         burnCard(); // Se "quema" una carta del mazo (se descarta sin mostrar)
         for (int i = 0; i < 3; i++) {
-            tableCards.add(deck.takeCard()); // Se reparten 3 cartas a la mesa
+            addTableCard(deck.takeCard()); // Se reparten 3 cartas a la mesa
         }
     }
 
     // Reparte el turn: quema una carta y agrega una más a la mesa
     public void dealTurn() {
         burnCard(); // Se quema una carta
-        tableCards.add(deck.takeCard()); // Se agrega una carta más a la mesa
+        addTableCard(deck.takeCard()); // Se agrega una carta más a la mesa
     }
 
     // Reparte el river: igual que el turn
     public void dealRiver() {
         burnCard(); // Se quema una carta
-        tableCards.add(deck.takeCard()); // Se reparte la última carta comunitaria
+        addTableCard(deck.takeCard()); // Se reparte la última carta comunitaria
+    }
+
+    // Agrega una carta comunitaria y actualiza la evaluación incremental de cada jugador con cartas
+    private void addTableCard(Card card) {
+        tableCards.add(card);
+        boardAnalysis = null; // Cambió la calle: el análisis se vuelve a pedir la próxima vez que se use
+        for (Player player : dealtPlayers) {
+            player.seeCommunityCard(card);
+        }
+    }
+
+    // Devuelve el análisis de la mesa actual, o null antes del flop
+    public BoardAnalysis getBoardAnalysis() {
+        if (boardAnalysis == null && tableCards.size() >= 3) {
+            boardAnalysis = BoardAnalysis.of(tableCards, variant);
+        }
+        return boardAnalysis;
     }
 
     // Método privado que quema una carta (solo si el mazo no está vacío)
@@ -0,0 +1,70 @@
+package ar.edu.utn.frc.tup.lciii;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoardAnalysisTest {
+
+    // Verifica la nuts y la textura de un flop monocolor y conectado
+    @Test
+    void testMonotoneConnectedFlop() {
+        BoardAnalysis board = BoardAnalysis.of(List.of(
+                new Card(14, CardSuits.HEART), new Card(13, CardSuits.HEART), new Card(12, CardSuits.HEART)));
+
+        assertEquals(Hands.ROYAL_FLUSH, board.getNutHand());
+        assertTrue(board.isMonotone());
+        assertTrue(board.isFlushPossible());
+        assertTrue(board.isStraightPossible());
+        assertFalse(board.isPaired());
+        assertEquals(3, board.getConnectedness());
+        // Solo J-10 de corazones forma la escalera real
+        assertEquals(1, board.getCombosBeating(board.getTopHands(2).get(1).getValue()));
+    }
+
+    // Verifica una mesa pareada y desconectada de palos distintos
+    @Test
+    void testPairedRainbowFlop() {
+        BoardAnalysis board = BoardAnalysis.of(List.of(
+                new Card(9, CardSuits.HEART), new Card(9, CardSuits.CLUB), new Card(2, CardSuits.DIAMOND)));
+
+        assertTrue(board.isPaired());
+        assertFalse(board.hasTrips());
+        assertTrue(board.isRainbow());
+        assertFalse(board.isFlushPossible());
+        assertFalse(board.isStraightPossible());
+        // La nuts es el póker de nueves, que solo forma una combinación
+        assertEquals(Hands.POKER, board.getNutHand());
+        assertEquals(0, board.getHandRank(board.getNutValue()));
+        assertEquals(0, board.getCombosBeating(board.getNutValue()));
+
+        List<PokerResult> top = board.getTopHands(3);
+        assertEquals(3, top.size());
+        assertTrue(top.get(0).compareTo(top.get(1)) > 0);
+        assertTrue(top.get(1).compareTo(top.get(2)) > 0);
+    }
+
+    // Verifica que las mesas que solo difieren en los palos compartan el mismo análisis
+    @Test
+    void testSuitIsomorphicBoardsShareAnalysis() {
+        BoardAnalysis first = BoardAnalysis.of(List.of(
+                new Card(10, CardSuits.HEART), new Card(7, CardSuits.HEART), new Card(3, CardSuits.CLUB)));
+        BoardAnalysis second = BoardAnalysis.of(List.of(
+                new Card(3, CardSuits.DIAMOND), new Card(10, CardSuits.PIKE), new Card(7, CardSuits.PIKE)));
+
+        assertSame(first, second);
+        assertNotSame(first, BoardAnalysis.of(List.of(
+                new Card(10, CardSuits.HEART), new Card(7, CardSuits.CLUB), new Card(3, CardSuits.HEART))));
+    }
+
+    // Verifica que una mesa inválida lance excepción
+    @Test
+    void testInvalidBoardThrows() {
+        assertThrows(IllegalArgumentException.class, () -> BoardAnalysis.of(List.of(
+                new Card(10, CardSuits.HEART), new Card(7, CardSuits.HEART))));
+        assertThrows(IllegalArgumentException.class, () -> BoardAnalysis.of(List.of(
+                new Card(10, CardSuits.HEART), new Card(10, CardSuits.HEART), new Card(3, CardSuits.CLUB))));
+    }
+}
@@ -29,6 +29,17 @@ class DeckTest {
         assertEquals(52, deck.availableCards());
     }
 
+    // Verifica que el mazo corto tenga 36 cartas (4 palos * 9 valores) y ninguna del 2 al 5
+    @Test
+    void testInitializeShortDeck() {
+        Deck deck = new Deck();
+        deck.initializeShortDeck();
+        assertEquals(36, deck.availableCards());
+        for (Card card : deck.getCards()) {
+            assertTrue(card.getNumber() >= 6);
+        }
+    }
+
     // Verifica que getCards devuelve una copia y no la referencia interna para proteger el mazo
     @Test
     void testGetCardsDefensiveCopy() {
@@ -0,0 +1,175 @@
+package ar.edu.utn.frc.tup.lciii;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EquityCalculatorTest {
+
+    private static final List<Card> ACES = List.of(new Card(14, CardSuits.HEART), new Card(14, CardSuits.PIKE));
+    private static final List<Card> KINGS = List.of(new Card(13, CardSuits.CLUB), new Card(13, CardSuits.DIAMOND));
+
+    // Verifica la equity conocida de AA contra KK antes del flop (alrededor de 82%)
+    @Test
+    void testAcesAgainstKingsPreflop() {
+        EquityResult result = EquityCalculator.ofHands(List.of(ACES, KINGS), List.of(), List.of())
+                .monteCarlo(100_000, 42);
+
+        assertEquals(100_000, result.getTrials());
+        assertEquals(0.82, result.getEquity(0), 0.01);
+        assertEquals(1.0, result.getEquity(0) + result.getEquity(1), 1e-9);
+        assertEquals(1.0, result.getWinProbability(0) + result.getTieProbability(0)
+                + result.getLoseProbability(0), 1e-9);
+    }
+
+    // Verifica que la misma semilla da el mismo resultado
+    @Test
+    void testSeedIsReproducible() {
+        EquityCalculator calculator = EquityCalculator.ofHands(List.of(ACES, KINGS),
+                List.of(new Card(2, CardSuits.HEART), new Card(7, CardSuits.HEART), new Card(9, CardSuits.CLUB)),
+                List.of());
+
+        EquityResult first = calculator.monteCarlo(3 * EquityCalculator.TRIALS_PER_TASK + 5, 7);
+        EquityResult second = calculator.monteCarlo(3 * EquityCalculator.TRIALS_PER_TASK + 5, 7);
+        assertEquals(first.getEquity(0), second.getEquity(0));
+        assertEquals(first.getTieProbability(1), second.getTieProbability(1));
+    }
+
+    // Con la mesa completa no hay azar: la escalera de la mesa se reparte y las cartas muertas no cambian nada
+    @Test
+    void testCompleteBoardAndDeadCards() {
+        List<Card> board = List.of(new Card(10, CardSuits.HEART), new Card(11, CardSuits.PIKE),
+                new Card(12, CardSuits.CLUB), new Card(13, CardSuits.HEART), new Card(14, CardSuits.DIAMOND));
+        List<Card> low = List.of(new Card(2, CardSuits.CLUB), new Card(3, CardSuits.DIAMOND));
+        List<Card> other = List.of(new Card(4, CardSuits.CLUB), new Card(5, CardSuits.DIAMOND));
+        EquityResult result = EquityCalculator.ofHands(List.of(low, other), board,
+                List.of(new Card(9, CardSuits.PIKE))).monteCarlo(1000, 1);
+
+        assertEquals(1.0, result.getTieProbability(0));
+        assertEquals(0.5, result.getEquity(1));
+    }
+
+    // Verifica un rango contra una mano: el rango de solo ases pierde contra AA las manos bloqueadas
+    @Test
+    void testRangeAgainstHand() {
+        double[] anyAce = new double[PokerHand.COMBO_COUNT];
+        for (int combo = 0; combo < PokerHand.COMBO_COUNT; combo++) {
+            long mask = PokerHand.comboMask(combo);
+            // Al menos un As (bit 12 de cada palo)
+            if ((mask & (1L << 12 | 1L << 25 | 1L << 38 | 1L << 51)) != 0) {
+                anyAce[combo] = 1;
+            }
+        }
+        EquityResult result = EquityCalculator.ofRanges(
+                List.of(anyAce, weightsOf(ACES)), List.of(), List.of()).monteCarlo(50_000, 3);
+        assertTrue(result.getEquity(1) > 0.8);
+    }
+
+    // En el turn la enumeración recorre las 44 cartas del river: la equity exacta es una fracción de 44
+    @Test
+    void testExactOnTurn() {
+        List<Card> board = List.of(new Card(2, CardSuits.HEART), new Card(7, CardSuits.HEART),
+                new Card(9, CardSuits.CLUB), new Card(13, CardSuits.PIKE));
+        EquityCalculator calculator = EquityCalculator.ofHands(List.of(ACES, KINGS), board, List.of());
+
+        assertEquals(44, calculator.getRunoutCount());
+        EquityResult result = calculator.calculate();
+        assertEquals(44, result.getTrials());
+        // Contra el trío de reyes, los ases solo ganan con los 2 ases que quedan
+        assertEquals(2.0 / 44, result.getEquity(0), 1e-12);
+        assertEquals(42.0 / 44, result.getWinProbability(1), 1e-12);
+    }
+
+    // Verifica que la enumeración exacta en el flop (990 mesas) coincide con una simulación larga
+    // y que la numeración combinatoria recorre todas las mesas una sola vez
+    @Test
+    void testExactOnFlopMatchesMonteCarlo() {
+        List<Card> board = List.of(new Card(2, CardSuits.HEART), new Card(7, CardSuits.HEART),
+                new Card(9, CardSuits.CLUB));
+        EquityCalculator calculator = EquityCalculator.ofHands(List.of(ACES, KINGS), board, List.of());
+
+        EquityResult exact = calculator.exact();
+        assertEquals(990, exact.getTrials());
+        assertEquals(exact.getEquity(0), calculator.monteCarlo(200_000, 11).getEquity(0), 0.005);
+
+        int[] positions = new int[3];
+        EquityCalculator.unrank(0, positions);
+        for (int index = 1; index < 990; index++) {
+            EquityCalculator.nextCombination(positions);
+            int[] expected = new int[3];
+            EquityCalculator.unrank(index, expected);
+            assertArrayEquals(expected, positions);
+        }
+    }
+
+    // Verifica la enumeración con rangos: cada reparto pesa el producto de los pesos
+    @Test
+    void testExactWithRangesOnRiver() {
+        List<Card> board = List.of(new Card(2, CardSuits.HEART), new Card(7, CardSuits.HEART),
+                new Card(9, CardSuits.CLUB), new Card(13, CardSuits.PIKE), new Card(6, CardSuits.DIAMOND));
+        double[] range = new double[PokerHand.COMBO_COUNT];
+        range[PokerHand.comboIndex(PokerHand.cardMask(ACES))] = 3;
+        range[PokerHand.comboIndex(PokerHand.cardMask(List.of(new Card(8, CardSuits.CLUB),
+                new Card(5, CardSuits.CLUB))))] = 1;
+        EquityResult result = EquityCalculator.ofRanges(List.of(range, weightsOf(KINGS)), board, List.of())
+                .calculate();
+
+        // Los ases (peso 3) pierden contra el trío de reyes y 8-5 (peso 1) gana con la escalera 5-6-7-8-9
+        assertEquals(2, result.getTrials());
+        assertEquals(0.25, result.getEquity(0), 1e-12);
+    }
+
+    // Seis jugadores antes del flop: la simulación adaptativa se detiene cuando todos los intervalos
+    // son angostos, o al agotar el presupuesto de tiempo con la mejor estimación hasta ese momento
+    @Test
+    void testAdaptiveSixHanded() {
+        List<List<Card>> hands = List.of(ACES, KINGS,
+                List.of(new Card(12, CardSuits.HEART), new Card(11, CardSuits.HEART)),
+                List.of(new Card(7, CardSuits.CLUB), new Card(2, CardSuits.DIAMOND)),
+                List.of(new Card(9, CardSuits.PIKE), new Card(9, CardSuits.DIAMOND)),
+                List.of(new Card(5, CardSuits.HEART), new Card(4, CardSuits.HEART)));
+        EquityCalculator calculator = EquityCalculator.ofHands(hands, List.of(), List.of());
+
+        EquityResult precise = calculator.adaptive(0.02, 60_000, 9);
+        double equitySum = 0;
+        for (int player = 0; player < hands.size(); player++) {
+            assertTrue(precise.getConfidenceWidth(player) <= 0.02);
+            equitySum += precise.getEquity(player);
+        }
+        assertEquals(1.0, equitySum, 1e-9);
+        // Con un ancho imposible corta por tiempo, después de al menos una tanda
+        long start = System.nanoTime();
+        EquityResult timed = calculator.adaptive(1e-9, 50, 9);
+        assertTrue((System.nanoTime() - start) / 1_000_000 < 1_000);
+        assertTrue(timed.getTrials() >= EquityCalculator.ADAPTIVE_BATCH);
+        assertTrue(timed.getConfidenceWidth(0) > 1e-9);
+        assertEquals(precise.getEquity(0), timed.getEquity(0), 0.03);
+
+        // La enumeración exacta no tiene error
+        assertEquals(0.0, EquityCalculator.ofHands(List.of(ACES, KINGS), List.of(new Card(2, CardSuits.HEART),
+                new Card(7, CardSuits.HEART), new Card(9, CardSuits.CLUB)), List.of()).exact().getStandardError(0));
+        assertThrows(IllegalArgumentException.class, () -> calculator.adaptive(0, 10));
+        assertThrows(IllegalArgumentException.class, () -> calculator.adaptive(0.01, 0));
+    }
+
+    // Verifica las validaciones de la entrada
+    @Test
+    void testInvalidInput() {
+        assertThrows(IllegalArgumentException.class,
+                () -> EquityCalculator.ofHands(List.of(ACES, ACES), List.of(), List.of()));
+        assertThrows(IllegalArgumentException.class,
+                () -> EquityCalculator.ofHands(List.of(ACES), List.of(), List.of()));
+        assertThrows(IllegalArgumentException.class,
+                () -> EquityCalculator.ofHands(List.of(ACES, KINGS), List.of(ACES.get(0)), List.of()));
+        assertThrows(IllegalArgumentException.class,
+                () -> EquityCalculator.ofHands(List.of(ACES, KINGS), List.of(), List.of(KINGS.get(1))));
+    }
+
+    private static double[] weightsOf(List<Card> hand) {
+        double[] weights = new double[PokerHand.COMBO_COUNT];
+        weights[PokerHand.comboIndex(PokerHand.cardMask(hand))] = 1;
+        return weights;
+    }
+}
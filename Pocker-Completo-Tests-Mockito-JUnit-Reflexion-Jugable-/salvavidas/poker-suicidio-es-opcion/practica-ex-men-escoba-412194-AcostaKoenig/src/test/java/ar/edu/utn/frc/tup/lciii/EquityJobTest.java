@@ -0,0 +1,120 @@
+package ar.edu.utn.frc.tup.lciii;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EquityJobTest {
+
+    private static final EquityCalculator ACES_AGAINST_KINGS = EquityCalculator.ofHands(List.of(
+            List.of(new Card(14, CardSuits.HEART), new Card(14, CardSuits.PIKE)),
+            List.of(new Card(13, CardSuits.CLUB), new Card(13, CardSuits.DIAMOND))), List.of(), List.of());
+
+    // Las estimaciones llegan con cada vez más repartidas y la última es el resultado final
+    @Test
+    void testPublishesEstimatesAndFinalResult() throws Exception {
+        EquityJob job = EquityJob.of(ACES_AGAINST_KINGS, 1, 400_000, 3);
+        RecordingSubscriber subscriber = new RecordingSubscriber(Long.MAX_VALUE);
+        job.subscribe(subscriber);
+
+        assertTrue(subscriber.completed.await(30, TimeUnit.SECONDS));
+        EquityResult result = job.getResult().get();
+        assertEquals(400_000, result.getTrials());
+        assertEquals(0.82, result.getEquity(0), 0.01);
+        assertSame(result, subscriber.received.get(subscriber.received.size() - 1));
+        for (int i = 1; i < subscriber.received.size(); i++) {
+            assertTrue(subscriber.received.get(i).getTrials() > subscriber.received.get(i - 1).getTrials());
+        }
+    }
+
+    // Al cancelar se detiene antes de llegar a las repartidas pedidas y los suscriptores terminan
+    @Test
+    void testCancel() throws Exception {
+        EquityJob job = EquityJob.of(ACES_AGAINST_KINGS, 1, Long.MAX_VALUE, 3);
+        RecordingSubscriber subscriber = new RecordingSubscriber(Long.MAX_VALUE);
+        job.subscribe(subscriber);
+        assertTrue(subscriber.firstEstimate.await(30, TimeUnit.SECONDS));
+
+        job.cancel();
+        assertTrue(subscriber.completed.await(30, TimeUnit.SECONDS));
+        assertTrue(job.isDone());
+        assertTrue(job.getResult().get().getTrials() < Long.MAX_VALUE);
+    }
+
+    // Un suscriptor que pide una sola estimación recibe solo esa y no frena la simulación
+    @Test
+    void testSlowSubscriberDoesNotBlock() throws Exception {
+        EquityJob job = EquityJob.of(ACES_AGAINST_KINGS, 1, 200_000, 5);
+        RecordingSubscriber slow = new RecordingSubscriber(1);
+        job.subscribe(slow);
+
+        EquityResult result = job.getResult().get(30, TimeUnit.SECONDS);
+        assertEquals(200_000, result.getTrials());
+        // Las estimaciones que no pidió quedan en su buffer o se descartan, nunca se le entregan
+        assertTrue(slow.received.size() <= 1);
+        assertTrue(slow.subscribed.await(30, TimeUnit.SECONDS));
+        slow.subscription.cancel();
+
+        assertThrows(IllegalArgumentException.class, () -> EquityJob.of(ACES_AGAINST_KINGS, 0, 10));
+    }
+
+    // Aunque el buffer de un suscriptor lento se llene de estimaciones, el resultado final le llega cuando pide
+    @Test
+    void testSlowSubscriberReceivesFinalResult() throws Exception {
+        // Con una estimación por tanda son muchas más que las que entran en el buffer
+        EquityJob job = EquityJob.of(ACES_AGAINST_KINGS, 1,
+                (EquityJob.BUFFER_CAPACITY * 4L) * EquityCalculator.ADAPTIVE_BATCH, 7);
+        RecordingSubscriber slow = new RecordingSubscriber(0);
+        job.subscribe(slow);
+
+        EquityResult result = job.getResult().get(30, TimeUnit.SECONDS);
+        assertTrue(slow.subscribed.await(30, TimeUnit.SECONDS));
+        slow.subscription.request(Long.MAX_VALUE);
+        assertTrue(slow.completed.await(30, TimeUnit.SECONDS));
+        assertSame(result, slow.received.get(slow.received.size() - 1));
+    }
+
+    private static final class RecordingSubscriber implements Flow.Subscriber<EquityResult> {
+        final List<EquityResult> received = new CopyOnWriteArrayList<>();
+        final CountDownLatch firstEstimate = new CountDownLatch(1);
+        final CountDownLatch completed = new CountDownLatch(1);
+        final CountDownLatch subscribed = new CountDownLatch(1);
+        private final long demand;
+        volatile Flow.Subscription subscription;
+
+        RecordingSubscriber(long demand) {
+            this.demand = demand;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscribed.countDown();
+            if (demand > 0) {
+                subscription.request(demand);
+            }
+        }
+
+        @Override
+        public void onNext(EquityResult item) {
+            received.add(item);
+            firstEstimate.countDown();
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            completed.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            completed.countDown();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package ar.edu.utn.frc.tup.lciii;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FlopEquityTest {
+
+    // Genera la tabla solo con el primer flop (2-3-4 del mismo palo), la vuelve a cargar y verifica sus valores
+    @Test
+    void testGenerateAndLoad(@TempDir Path directory) throws IOException {
+        Path file = directory.resolve("flop.bin");
+        Files.write(file, FlopEquityGenerator.generate(1));
+        FlopEquity table = FlopEquity.load(file);
+
+        List<Card> flop = List.of(new Card(2, CardSuits.HEART), new Card(3, CardSuits.HEART),
+                new Card(4, CardSuits.HEART));
+        assertEquals(0, FlopIsomorphism.flopClass(flop));
+        int straight = PreflopEquity.handClass(List.of(new Card(6, CardSuits.CLUB), new Card(5, CardSuits.PIKE)));
+        int trash = PreflopEquity.handClass(List.of(new Card(8, CardSuits.CLUB), new Card(7, CardSuits.PIKE)));
+
+        // Con la escalera hecha la mano casi siempre gana; 8-7 de otro palo casi no tiene equity
+        assertTrue(table.getEquity(0, straight) > 0.8);
+        assertTrue(table.getEquity(0, trash) < 0.4);
+
+        double[] histogram = table.getHistogram(0, straight);
+        assertEquals(FlopEquity.BINS, histogram.length);
+        assertEquals(1.0, Arrays.stream(histogram).sum(), 1e-9);
+        assertTrue(histogram[FlopEquity.BINS - 1] > 0.4);
+        assertEquals(0.0, histogram[0]);
+        // La media de la tabla coincide con la enumeración exacta de RangeEquity
+        HandRange offsuit = HandRange.ofClass(trash).withoutCards(PokerHand.cardMask(flop));
+        assertEquals(RangeEquity.of(offsuit, HandRange.all(), flop, List.of()).exact().getEquity(0),
+                table.getEquity(0, trash), 1e-3);
+        // Con una mano del mismo palo que el flop, la tabla da la media de la clase y no la de esas cartas:
+        // AhKh tiene flush y AsKs no, pero las dos leen el registro de AKs
+        List<Card> suitedFlush = List.of(new Card(14, CardSuits.HEART), new Card(13, CardSuits.HEART));
+        int suited = PreflopEquity.handClass(suitedFlush);
+        HandRange suitedClass = HandRange.ofClass(suited).withoutCards(PokerHand.cardMask(flop));
+        double classEquity = RangeEquity.of(suitedClass, HandRange.all(), flop, List.of()).exact().getEquity(0);
+        double flushEquity = RangeEquity.of(HandRange.ofCards(suitedFlush), HandRange.all(), flop, List.of()).exact()
+                .getEquity(0);
+        assertEquals(classEquity, table.getEquity(0, suited), 1e-3);
+        assertTrue(flushEquity > table.getEquity(0, suited) + 0.1);
+        // Los flops que no se generaron quedan vacíos
+        assertFalse(table.isPossible(1, straight));
+        assertTrue(Double.isNaN(table.getEquity(1, straight)));
+
+        Path broken = directory.resolve("broken.bin");
+        Files.write(broken, new byte[16]);
+        assertThrows(IllegalArgumentException.class, () -> FlopEquity.load(broken));
+    }
+}
@@ -0,0 +1,50 @@
+package ar.edu.utn.frc.tup.lciii;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FlopIsomorphismTest {
+
+    private static final List<Card> FLOP = List.of(new Card(2, CardSuits.HEART), new Card(7, CardSuits.HEART),
+            new Card(9, CardSuits.CLUB));
+
+    // Las 1755 clases cubren los 22100 flops
+    @Test
+    void testClassCounts() {
+        int total = 0;
+        for (int flopClass = 0; flopClass < FlopIsomorphism.FLOP_CLASS_COUNT; flopClass++) {
+            int count = FlopIsomorphism.getFlopCount(flopClass);
+            assertTrue(count >= 4 && count <= 24);
+            total += count;
+            assertEquals(flopClass, FlopIsomorphism.flopClass(FlopIsomorphism.getFlop(flopClass)));
+        }
+        assertEquals(22100, total);
+        // Un flop de 3 palos distintos con valores distintos tiene 24 versiones; uno de un solo palo, 4
+        assertEquals(24, FlopIsomorphism.getFlopCount(FlopIsomorphism.flopClass(List.of(new Card(2, CardSuits.HEART),
+                new Card(7, CardSuits.PIKE), new Card(9, CardSuits.CLUB)))));
+        assertEquals(4, FlopIsomorphism.getFlopCount(FlopIsomorphism.flopClass(List.of(new Card(2, CardSuits.CLUB),
+                new Card(7, CardSuits.CLUB), new Card(9, CardSuits.CLUB)))));
+    }
+
+    // Cambiar los palos de todas las cartas a la vez no cambia la clase ni la forma canónica
+    @Test
+    void testSuitChangeKeepsClass() {
+        List<Card> hole = List.of(new Card(14, CardSuits.HEART), new Card(13, CardSuits.DIAMOND));
+        List<Card> swappedFlop = List.of(new Card(2, CardSuits.PIKE), new Card(7, CardSuits.PIKE),
+                new Card(9, CardSuits.HEART));
+        List<Card> swappedHole = List.of(new Card(14, CardSuits.PIKE), new Card(13, CardSuits.CLUB));
+
+        assertEquals(FlopIsomorphism.flopClass(FLOP), FlopIsomorphism.flopClass(swappedFlop));
+        assertArrayEquals(FlopIsomorphism.canonicalize(FLOP, hole), FlopIsomorphism.canonicalize(swappedFlop, swappedHole));
+        // El As del palo del proyecto de color no equivale al As de otro palo
+        List<Card> offDraw = List.of(new Card(14, CardSuits.DIAMOND), new Card(13, CardSuits.PIKE));
+        assertFalse(FlopIsomorphism.canonicalize(FLOP, hole)[1] == FlopIsomorphism.canonicalize(FLOP, offDraw)[1]);
+
+        assertThrows(IllegalArgumentException.class, () -> FlopIsomorphism.canonicalize(FLOP, List.of(FLOP.get(0),
+                new Card(3, CardSuits.CLUB))));
+        assertThrows(IllegalArgumentException.class, () -> FlopIsomorphism.getFlop(FlopIsomorphism.FLOP_CLASS_COUNT));
+    }
+}
@@ -0,0 +1,77 @@
+package ar.edu.utn.frc.tup.lciii;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HandRangeTest {
+
+    private static final List<Card> ACES = List.of(new Card(14, CardSuits.HEART), new Card(14, CardSuits.PIKE));
+
+    // Verifica la cantidad de combinaciones de cada forma de la notación
+    @Test
+    void testParseNotation() {
+        assertEquals(6, HandRange.parse("AA").size());
+        assertEquals(30, HandRange.parse("TT+").size());
+        assertEquals(24, HandRange.parse("22-55").size());
+        assertEquals(4, HandRange.parse("AKs").size());
+        assertEquals(12, HandRange.parse("KQo").size());
+        assertEquals(16, HandRange.parse("AK").size());
+        // ATs, AJs, AQs y AKs
+        assertEquals(16, HandRange.parse("ATs+").size());
+        assertEquals(16, HandRange.parse("A5s-A2s").size());
+        assertEquals(1, HandRange.parse("AhKh").size());
+        assertEquals(30 + 4 + 16 + 12, HandRange.parse("TT+, AKs, A5s-A2s, KQo").size());
+        assertEquals(PokerHand.COMBO_COUNT, HandRange.all().size());
+        assertTrue(HandRange.parse("").isEmpty());
+
+        HandRange aces = HandRange.parse("AhAs");
+        assertTrue(aces.contains(ACES));
+        assertEquals(HandRange.ofCards(ACES), aces);
+    }
+
+    // Verifica los pesos de la notación y los de la unión y la intersección
+    @Test
+    void testWeights() {
+        HandRange range = HandRange.parse("QQ+, AKs:0.5, KK:0.25");
+        assertEquals(6 * 2 + 4 * 0.5 + 6 * 0.25, range.getTotalWeight(), 1e-12);
+
+        HandRange other = HandRange.parse("KK, AKs:0.75, 22");
+        HandRange union = range.union(other);
+        assertEquals(3 * 6 + 4 + 6, union.size());
+        assertEquals(3 * 6 + 4 * 0.75 + 6, union.getTotalWeight(), 1e-12);
+
+        HandRange intersection = range.intersect(other);
+        assertEquals(6 + 4, intersection.size());
+        assertEquals(6 * 0.25 + 4 * 0.5, intersection.getTotalWeight(), 1e-12);
+
+        assertEquals(HandRange.parse("QQ, AA"), range.minus(other));
+        assertEquals(4 * 0.25, HandRange.parse("AKs:0.5").scale(0.5).getTotalWeight(), 1e-12);
+        assertArrayEquals(range.toWeights(), HandRange.ofWeights(range.toWeights()).toWeights());
+    }
+
+    // Las cartas conocidas quitan las combinaciones que las usan
+    @Test
+    void testCardRemoval() {
+        HandRange aces = HandRange.parse("AA");
+        assertEquals(3, aces.withoutCards(List.of(ACES.get(0))).size());
+        assertEquals(1, aces.withoutCards(ACES).size());
+        // Una carta bloquea 51 combinaciones y dos cartas 101
+        assertEquals(PokerHand.COMBO_COUNT - 51, HandRange.all().withoutCards(List.of(ACES.get(0))).size());
+        assertEquals(PokerHand.COMBO_COUNT - 101, HandRange.all().withoutCards(ACES).size());
+
+        HandRange board = HandRange.all().withoutCards(PokerHand.cardMask(List.of(new Card(2, CardSuits.CLUB),
+                new Card(7, CardSuits.DIAMOND), new Card(9, CardSuits.HEART))));
+        assertEquals(49 * 48 / 2, board.size());
+    }
+
+    // Verifica que la notación inválida se rechaza
+    @Test
+    void testInvalidNotation() {
+        for (String notation : List.of("AAs", "XK", "AKx", "AhAh", "A5s-K2s", "22-A5s", "AK:-1", "AK:x", "A")) {
+            assertThrows(IllegalArgumentException.class, () -> HandRange.parse(notation), notation);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package ar.edu.utn.frc.tup.lciii;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HandStateTest {
+
+    private HandState state; // Estado incremental que se prueba
+
+    @BeforeEach
+    void setUp() {
+        state = new HandState();
+    }
+
+    // Verifica que la mano se vaya actualizando carta por carta hasta formar un full
+    @Test
+    void testAddCardUpdatesBestHand() {
+        state.addCard(new Card(9, CardSuits.HEART));
+        state.addCard(new Card(9, CardSuits.CLUB));
+        assertEquals(Hands.PAIR, state.getHand());
+
+        state.addCard(new Card(4, CardSuits.DIAMOND));
+        state.addCard(new Card(9, CardSuits.PIKE));
+        assertEquals(Hands.THREE_OF_A_KIND, state.getHand());
+
+        state.addCard(new Card(4, CardSuits.HEART));
+        assertEquals(Hands.FULL_HOUSE, state.getHand());
+        assertEquals(3, state.getRankCount(9));
+        assertEquals(2, state.getRankCount(4));
+        assertEquals(5, state.getCardCount());
+    }
+
+    // Verifica que el valor incremental coincida con evaluar la lista completa desde cero
+    @Test
+    void testValueMatchesFullEvaluation() {
+        Deck deck = new Deck();
+        deck.shuffleCards();
+        List<Card> cards = new ArrayList<>();
+        PokerHand evaluator = new PokerHand();
+        for (int i = 0; i < 7; i++) {
+            Card card = deck.takeCard();
+            cards.add(card);
+            state.addCard(card);
+            assertEquals(evaluator.evaluateHand(cards).getValue(), state.getValue());
+        }
+        assertEquals(PokerHand.cardMask(cards), state.getCardMask());
+    }
+
+    // Verifica que las cartas nulas o repetidas no cambien el estado
+    @Test
+    void testAddCardIgnoresNullAndDuplicates() {
+        assertTrue(state.addCard(new Card(14, CardSuits.PIKE)));
+        assertFalse(state.addCard(new Card(14, CardSuits.PIKE)));
+        assertFalse(state.addCard(null));
+        assertEquals(1, state.getCardCount());
+        assertEquals(1 << 12, state.getSuitMask(CardSuits.PIKE));
+    }
+
+    // Verifica que clear deje el estado como recién creado
+    @Test
+    void testClear() {
+        state.addCard(new Card(14, CardSuits.PIKE));
+        state.addCard(new Card(14, CardSuits.HEART));
+        state.clear();
+        assertEquals(0, state.getCardCount());
+        assertEquals(0L, state.getCardMask());
+        assertEquals(Hands.HIGH_CARD, state.getHand());
+        assertEquals(new HandState().getValue(), state.getValue());
+    }
+}
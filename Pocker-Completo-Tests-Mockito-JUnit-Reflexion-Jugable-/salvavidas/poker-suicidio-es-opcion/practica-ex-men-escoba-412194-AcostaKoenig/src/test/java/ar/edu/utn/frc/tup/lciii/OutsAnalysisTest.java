@@ -0,0 +1,109 @@
+package ar.edu.utn.frc.tup.lciii;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OutsAnalysisTest {
+
+    // Verifica el proyecto de color en el flop: 9 cartas de corazones completan el color
+    @Test
+    void testFlushDrawOnFlop() {
+        OutsAnalysis outs = OutsAnalysis.of(
+                List.of(new Card(14, CardSuits.HEART), new Card(13, CardSuits.HEART)),
+                List.of(new Card(7, CardSuits.HEART), new Card(2, CardSuits.HEART), new Card(9, CardSuits.CLUB)));
+
+        assertEquals(47, outs.getCardsRemaining());
+        assertTrue(outs.hasDraw(OutsAnalysis.Draw.FLUSH_DRAW));
+        assertEquals(9, outs.getOuts(Hands.FLUSH));
+        assertTrue(outs.isOut(new Card(3, CardSuits.HEART)));
+        assertFalse(outs.isOut(new Card(3, CardSuits.CLUB)));
+        // Además de los 9 corazones, los 6 ases y reyes restantes forman par
+        assertEquals(15, outs.getOuts());
+        assertTrue(outs.getShowdownProbability() > outs.getNextCardProbability());
+    }
+
+    // Verifica la escalera abierta (8 outs) y el gutshot (4 outs)
+    @Test
+    void testStraightDraws() {
+        OutsAnalysis openEnded = OutsAnalysis.of(
+                List.of(new Card(8, CardSuits.CLUB), new Card(9, CardSuits.DIAMOND)),
+                List.of(new Card(10, CardSuits.PIKE), new Card(11, CardSuits.HEART), new Card(2, CardSuits.CLUB)));
+        assertTrue(openEnded.hasDraw(OutsAnalysis.Draw.OPEN_ENDED_STRAIGHT_DRAW));
+        assertEquals(8, openEnded.getOuts(Hands.STRAIGHT));
+
+        OutsAnalysis gutshot = OutsAnalysis.of(
+                List.of(new Card(8, CardSuits.CLUB), new Card(9, CardSuits.DIAMOND)),
+                List.of(new Card(11, CardSuits.HEART), new Card(12, CardSuits.PIKE), new Card(2, CardSuits.CLUB)));
+        assertTrue(gutshot.hasDraw(OutsAnalysis.Draw.GUTSHOT));
+        assertFalse(gutshot.hasDraw(OutsAnalysis.Draw.OPEN_ENDED_STRAIGHT_DRAW));
+        assertEquals(4, gutshot.getOuts(Hands.STRAIGHT));
+    }
+
+    // Verifica que no haya proyecto de escalera si la mesa sola lo arma y las cartas propias no aportan valores
+    @Test
+    void testStraightDrawNeedsHoleCard() {
+        OutsAnalysis boardDraw = OutsAnalysis.of(
+                List.of(new Card(14, CardSuits.CLUB), new Card(13, CardSuits.DIAMOND)),
+                List.of(new Card(5, CardSuits.PIKE), new Card(6, CardSuits.HEART), new Card(7, CardSuits.CLUB),
+                        new Card(8, CardSuits.DIAMOND)));
+        assertFalse(boardDraw.hasDraw(OutsAnalysis.Draw.OPEN_ENDED_STRAIGHT_DRAW));
+        assertFalse(boardDraw.hasDraw(OutsAnalysis.Draw.GUTSHOT));
+
+        // Un 8 propio repite un valor de la mesa y tampoco aporta a la escalera
+        OutsAnalysis pairedBoardDraw = OutsAnalysis.of(
+                List.of(new Card(8, CardSuits.CLUB), new Card(13, CardSuits.DIAMOND)),
+                List.of(new Card(5, CardSuits.PIKE), new Card(6, CardSuits.HEART), new Card(7, CardSuits.CLUB),
+                        new Card(8, CardSuits.DIAMOND)));
+        assertFalse(pairedBoardDraw.hasDraw(OutsAnalysis.Draw.OPEN_ENDED_STRAIGHT_DRAW));
+
+        // Con un 4 propio, 4-5-6-7 sí es un proyecto abierto
+        OutsAnalysis ownDraw = OutsAnalysis.of(
+                List.of(new Card(4, CardSuits.CLUB), new Card(13, CardSuits.DIAMOND)),
+                List.of(new Card(5, CardSuits.PIKE), new Card(6, CardSuits.HEART), new Card(7, CardSuits.CLUB),
+                        new Card(12, CardSuits.DIAMOND)));
+        assertTrue(ownDraw.hasDraw(OutsAnalysis.Draw.OPEN_ENDED_STRAIGHT_DRAW));
+    }
+
+    // Verifica el backdoor de color en el flop y que desaparezca en el turn
+    @Test
+    void testBackdoorOnlyOnFlop() {
+        List<Card> hole = List.of(new Card(14, CardSuits.HEART), new Card(13, CardSuits.HEART));
+        OutsAnalysis flop = OutsAnalysis.of(hole,
+                List.of(new Card(7, CardSuits.HEART), new Card(2, CardSuits.CLUB), new Card(9, CardSuits.DIAMOND)));
+        assertTrue(flop.hasDraw(OutsAnalysis.Draw.BACKDOOR_FLUSH));
+        assertFalse(flop.hasDraw(OutsAnalysis.Draw.FLUSH_DRAW));
+
+        OutsAnalysis turn = OutsAnalysis.of(hole, List.of(new Card(7, CardSuits.HEART), new Card(2, CardSuits.CLUB),
+                new Card(9, CardSuits.DIAMOND), new Card(4, CardSuits.PIKE)));
+        assertEquals(46, turn.getCardsRemaining());
+        assertTrue(turn.getDraws().isEmpty());
+        assertEquals(turn.getNextCardProbability(), turn.getShowdownProbability());
+    }
+
+    // Verifica la comparación con las odds del pozo: 9 outs sobre 46 cartas es un 19,6%
+    @Test
+    void testCallProfitable() {
+        OutsAnalysis outs = OutsAnalysis.of(
+                List.of(new Card(5, CardSuits.HEART), new Card(6, CardSuits.HEART)),
+                List.of(new Card(13, CardSuits.HEART), new Card(2, CardSuits.HEART),
+                        new Card(9, CardSuits.CLUB), new Card(12, CardSuits.PIKE)));
+
+        assertEquals(9, outs.getOuts(Hands.FLUSH));
+        assertTrue(outs.isCallProfitable(10, 100));
+        assertFalse(outs.isCallProfitable(100, 100));
+        assertTrue(outs.isCallProfitable(0, 100));
+    }
+
+    // Verifica que los datos inválidos lancen excepción
+    @Test
+    void testInvalidInputThrows() {
+        List<Card> hole = List.of(new Card(14, CardSuits.HEART), new Card(13, CardSuits.HEART));
+        assertThrows(IllegalArgumentException.class, () -> OutsAnalysis.of(hole,
+                List.of(new Card(7, CardSuits.HEART), new Card(2, CardSuits.CLUB))));
+        assertThrows(IllegalArgumentException.class, () -> OutsAnalysis.of(hole,
+                List.of(new Card(14, CardSuits.HEART), new Card(2, CardSuits.CLUB), new Card(9, CardSuits.DIAMOND))));
+    }
+}
@@ -44,4 +44,24 @@ class PokerResultTest {
 
         assertEquals(0, result1.compareTo(result2)); // comparación igual a 0
     }
+
+    // Verifica que con la misma categoría y carta alta desempatan los kickers siguientes
+    @Test
+    void testCompareTo_SameHandDifferentKickers() {
+        PokerResult betterKicker = new PokerResult(PokerResult.encode(Hands.PAIR, 10, 10, 14, 9, 4));
+        PokerResult worseKicker = new PokerResult(PokerResult.encode(Hands.PAIR, 10, 10, 14, 8, 7));
+
+        assertTrue(betterKicker.compareTo(worseKicker) > 0);
+        assertTrue(worseKicker.compareTo(betterKicker) < 0);
+    }
+
+    // Verifica que el valor empaquetado conserva la categoría, la carta alta y los kickers
+    @Test
+    void testPackedValueAccessors() {
+        PokerResult result = new PokerResult(PokerResult.encode(Hands.TWO_PAIR, 13, 13, 5, 5, 11));
+
+        assertEquals(Hands.TWO_PAIR, result.getHand());
+        assertEquals(13, result.getHighCard());
+        assertArrayEquals(new int[]{13, 13, 5, 5, 11}, result.getKickers());
+    }
 }
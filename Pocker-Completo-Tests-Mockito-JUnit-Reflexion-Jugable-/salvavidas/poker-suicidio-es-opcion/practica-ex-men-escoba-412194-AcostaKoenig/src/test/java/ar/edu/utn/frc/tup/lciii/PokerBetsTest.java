@@ -2,6 +2,10 @@ package ar.edu.utn.frc.tup.lciii;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -153,4 +157,75 @@ public class PokerBetsTest {
         bets.raise(player1, 100); // currentBet = 100
         bets.check(player2); // no debería permitirse
     }
+
+    // Verifica que splitPot reparte el pozo en partes iguales y entrega las fichas sobrantes de a una
+    @Test
+    void testSplitPotWithRemainder() {
+        Player player3 = new Player("Player 3", true, 1000);
+        bets.placeBlindBets(player1, player2); // pot = 150
+        bets.call(player3);                    // pot = 250
+
+        bets.splitPot(Arrays.asList(player1, player2, player3));
+
+        assertEquals(950 + 84, player1.getChips()); // 250 / 3 = 83, sobra 1 ficha para el primero
+        assertEquals(900 + 83, player2.getChips());
+        assertEquals(900 + 83, player3.getChips());
+        assertEquals(0, bets.getPot());             // el pozo queda vacío
+    }
+
+    // Verifica que un all-in corto solo pueda ganar el pozo principal y que lo que apostó un jugador que se
+    // retiró quede en los pozos que alcanzó
+    @Test
+    void testBuildPotsWithShortAllIn() {
+        Player shortStack = new Player("Short", true, 300);
+        Player player3 = new Player("Player 3", true, 1000);
+        Player folded = new Player("Folded", true, 100);
+        bets.allIn(folded);      // 100
+        bets.allIn(shortStack);  // 300
+        bets.allIn(player1);     // 1000
+        bets.allIn(player3);     // 1000
+        folded.fold();
+
+        List<PokerBets.Pot> pots = bets.buildPots(Arrays.asList(shortStack, player1, player3, folded),
+                Arrays.asList(shortStack, player1, player3));
+
+        assertEquals(2, pots.size());
+        assertEquals(100 + 3 * 300, pots.get(0).getAmount()); // pozo principal
+        assertEquals(Arrays.asList(shortStack, player1, player3), pots.get(0).getPlayers());
+        assertEquals(2 * 700, pots.get(1).getAmount());       // side pot entre los que cubrieron 1000
+        assertEquals(Arrays.asList(player1, player3), pots.get(1).getPlayers());
+
+        // El all-in corto gana el principal y player3 el side pot
+        bets.awardPot(pots.get(0), Arrays.asList(shortStack));
+        bets.awardPot(pots.get(1), Arrays.asList(player3));
+        assertEquals(1000, shortStack.getChips());
+        assertEquals(1400, player3.getChips());
+        assertEquals(0, player1.getChips());
+        assertEquals(0, bets.getPot());
+
+        // No se puede dar un pozo a quien no llegó a cubrirlo
+        assertThrows(IllegalArgumentException.class,
+                () -> bets.awardPot(pots.get(1), Arrays.asList(shortStack)));
+    }
+
+    // Verifica que la parte de una apuesta que nadie igualó quede en un pozo que solo puede ganar quien la puso
+    @Test
+    void testBuildPotsWithUncoveredBet() {
+        Player shortStack = new Player("Short", true, 300);
+        bets.allIn(player1);     // 1000
+        bets.allIn(shortStack);  // 300
+
+        List<PokerBets.Pot> pots = bets.buildPots(Arrays.asList(player1, shortStack),
+                Arrays.asList(player1, shortStack));
+
+        assertEquals(600, pots.get(0).getAmount());
+        assertEquals(700, pots.get(1).getAmount());
+        assertEquals(Arrays.asList(player1), pots.get(1).getPlayers());
+    }
+
+    // Verifica que splitPot no acepta una lista de ganadores vacía
+    @Test
+    void testSplitPotWithoutWinners() {
+        assertThrows(IllegalArgumentException.class, () -> bets.splitPot(new ArrayList<>()));
+    }
 }
@@ -165,6 +165,51 @@ public class PokerGameTest {  // Clase que contiene pruebas unitarias para la cl
         assertFalse(result, "Las apuestas no deberían ser iguales cuando un jugador apuesta distinto");  // Validar que retorna false si alguna difiere
     }
 
+    // Con tres en la mano, uno all-in y dos que siguen apostando, la equity all-in no se calcula hasta que la
+    // apuesta queda cerrada; entonces se calcula solo para los que siguen en la mano
+    @Test
+    public void testAllInEquityWaitsUntilBettingIsClosed() throws Exception {
+        Field playersField = PokerGame.class.getDeclaredField("players");
+        playersField.setAccessible(true);
+        List<Player> players = (List<Player>) playersField.get(pokerGame);
+        Field tableField = PokerGame.class.getDeclaredField("table");
+        tableField.setAccessible(true);
+        Table table = (Table) tableField.get(pokerGame);
+        Field equityField = PokerGame.class.getDeclaredField("allInEquity");
+        equityField.setAccessible(true);
+        Field allInPlayersField = PokerGame.class.getDeclaredField("allInPlayers");
+        allInPlayersField.setAccessible(true);
+
+        Method dealInitialCards = PokerGame.class.getDeclaredMethod("dealInitialCards");
+        dealInitialCards.setAccessible(true);
+        dealInitialCards.invoke(pokerGame);
+        table.dealFlop();
+        for (int i = 3; i < players.size(); i++) {
+            players.get(i).fold();
+        }
+        Player allIn = players.get(0);
+        allIn.placeBet(allIn.getChips());
+        players.get(1).placeBet(200);
+        players.get(2).placeBet(200);
+
+        // Los otros dos todavía pueden apostar o retirarse
+        Method showAllInEquity = PokerGame.class.getDeclaredMethod("showAllInEquity");
+        showAllInEquity.setAccessible(true);
+        showAllInEquity.invoke(pokerGame);
+        assertNull(equityField.get(pokerGame));
+
+        // Uno se retira: la apuesta queda cerrada y se reparte el resto de la mesa
+        players.get(2).fold();
+        Method runOutBoard = PokerGame.class.getDeclaredMethod("runOutBoard");
+        runOutBoard.setAccessible(true);
+        runOutBoard.invoke(pokerGame);
+        EquityResult equity = (EquityResult) equityField.get(pokerGame);
+        assertNotNull(equity);
+        assertEquals(List.of(allIn, players.get(1)), allInPlayersField.get(pokerGame));
+        assertEquals(1.0, equity.getEquity(0) + equity.getEquity(1), 1e-9);
+        assertEquals(5, table.getCommunityCards().size());
+    }
+
     // Si tienes métodos processHumanTurn y processBotTurn (privados)
     // los podés testear invocándolos y verificando comportamiento simple (ej: no crash, llamadas, flags)
 
@@ -96,10 +96,7 @@ class PokerHandTest {
         );
         // Mano con 5 cartas del mismo palo (diamante)
 
-        Method hasFlush = PokerHand.class.getDeclaredMethod("hasFlush", List.class);
-        hasFlush.setAccessible(true);
-
-        Hands result = (Hands) hasFlush.invoke(pokerHand, testHand);
+        Hands result = pokerHand.evaluateHand(testHand).getHand();
 
         assertEquals(Hands.FLUSH, result, "Expected a flush to be detected.");
         // Verifico que se detecte el flush correctamente
@@ -120,13 +117,10 @@ class PokerHandTest {
         );
         // Mano que no tiene 5 cartas del mismo palo
 
-        Method hasFlush = PokerHand.class.getDeclaredMethod("hasFlush", List.class);
-        hasFlush.setAccessible(true);
-
-        Hands result = (Hands) hasFlush.invoke(pokerHand, testHand);
+        Hands result = pokerHand.evaluateHand(testHand).getHand();
 
-        assertNull(result, "Expected NO flush to be detected.");
-        // Espero que no detecte flush (resultado null)
+        assertNotEquals(Hands.FLUSH, result, "Expected NO flush to be detected.");
+        // Espero que no detecte flush
     }
 
     @Test
@@ -144,14 +138,11 @@ class PokerHandTest {
         );
         // Mano de prueba con diferentes valores
 
-        Method highestCard = PokerHand.class.getDeclaredMethod("getHighestCard", List.class);
-        highestCard.setAccessible(true);
-
-        Card result = (Card) highestCard.invoke(pokerHand, testHand);
-        // Invoco el método para obtener la carta más alta
+        int[] kickers = pokerHand.evaluateHand(testHand).getKickers();
+        // Evalúo la mano: el par de cincos va primero y después las cartas más altas
 
-        assertEquals(11,result.getNumber(), "Expected to get the highest card.");
-        // Verifico que la carta más alta sea la de número 11
+        assertEquals(11, kickers[2], "Expected to get the highest card.");
+        // Verifico que la carta más alta fuera del par sea la de número 11
     }
 
     @Test
@@ -169,10 +160,7 @@ class PokerHandTest {
         );
         // Mano con un par de cincos
 
-        Method hasPair = PokerHand.class.getDeclaredMethod("returnRepeatHands", List.class);
-        hasPair.setAccessible(true);
-
-        Hands result = (Hands) hasPair.invoke(pokerHand, testHand);
+        Hands result = pokerHand.evaluateHand(testHand).getHand();
 
         assertEquals(Hands.PAIR, result);
         // Verifico que se detecte el par
@@ -193,10 +181,7 @@ class PokerHandTest {
         );
         // Mano con dos pares: cincos y ochos
 
-        Method hasTwoPair = PokerHand.class.getDeclaredMethod("returnRepeatHands", List.class);
-        hasTwoPair.setAccessible(true);
-
-        Hands result = (Hands) hasTwoPair.invoke(pokerHand, testHand);
+        Hands result = pokerHand.evaluateHand(testHand).getHand();
 
         assertEquals(Hands.TWO_PAIR, result);
         // Verifico que se detecten los dos pares
@@ -217,10 +202,7 @@ class PokerHandTest {
         );
         // Mano con tres cincos
 
-        Method hasThree = PokerHand.class.getDeclaredMethod("returnRepeatHands", List.class);
-        hasThree.setAccessible(true);
-
-        Hands result = (Hands) hasThree.invoke(pokerHand, testHand);
+        Hands result = pokerHand.evaluateHand(testHand).getHand();
 
         assertEquals(Hands.THREE_OF_A_KIND, result);
         // Verifico que se detecte el trío
@@ -241,10 +223,7 @@ class PokerHandTest {
         );
         // Mano con cuatro cincos (póker)
 
-        Method hasPair = PokerHand.class.getDeclaredMethod("returnRepeatHands", List.class);
-        hasPair.setAccessible(true);
-
-        Hands result = (Hands) hasPair.invoke(pokerHand, testHand);
+        Hands result = pokerHand.evaluateHand(testHand).getHand();
 
         assertEquals(Hands.POKER, result);
         // Verifico que se detecte el póker
@@ -265,10 +244,7 @@ class PokerHandTest {
         );
         // Mano con una secuencia consecutiva del mismo palo (diamante)
 
-        Method hasStraightFlush = PokerHand.class.getDeclaredMethod("hasStraightFlush", List.class);
-        hasStraightFlush.setAccessible(true);
-
-        Hands result = (Hands) hasStraightFlush.invoke(pokerHand, testHand);
+        Hands result = pokerHand.evaluateHand(testHand).getHand();
 
         assertEquals(Hands.STRAIGHT_FLUSH, result);
         // Verifico que se detecte el straight flush
@@ -289,12 +265,197 @@ class PokerHandTest {
         );
         // Mano con secuencia que falla por un palo distinto en medio
 
-        Method hasStraightFlush = PokerHand.class.getDeclaredMethod("hasStraightFlush", List.class);
-        hasStraightFlush.setAccessible(true);
+        Hands result = pokerHand.evaluateHand(testHand).getHand();
+
+        assertEquals(Hands.STRAIGHT, result);
+        // Espero que no detecte el straight flush: queda solo la escalera
+    }
+
+    @Test
+    void testEvaluateHand_RoyalFlush() {
+        // Test que verifica que una escalera al As del mismo palo se reconoce como escalera real
+
+        List<Card> testHand = Arrays.asList(
+            new Card(10, CardSuits.HEART),
+            new Card(11, CardSuits.HEART),
+            new Card(12, CardSuits.HEART),
+            new Card(13, CardSuits.HEART),
+            new Card(14, CardSuits.HEART),
+            new Card(2, CardSuits.CLUB),
+            new Card(9, CardSuits.HEART)
+        );
 
-        Hands result = (Hands) hasStraightFlush.invoke(pokerHand, testHand);
+        assertEquals(Hands.ROYAL_FLUSH, pokerHand.evaluateHand(testHand).getHand());
+    }
 
-        assertNull(result);
-        // Espero que no detecte el straight flush (resultado null)
+    @Test
+    void testEvaluateHand_UsesBestFiveKickers() {
+        // Test que verifica que el desempate usa los kickers de las cinco mejores cartas y no la carta más alta de las siete
+
+        List<Card> table = Arrays.asList(
+            new Card(14, CardSuits.HEART),
+            new Card(14, CardSuits.CLUB),
+            new Card(9, CardSuits.PIKE),
+            new Card(7, CardSuits.DIAMOND),
+            new Card(3, CardSuits.HEART)
+        );
+        List<Card> kingKicker = new ArrayList<>(table);
+        kingKicker.addAll(Arrays.asList(new Card(13, CardSuits.CLUB), new Card(2, CardSuits.PIKE)));
+        List<Card> queenKicker = new ArrayList<>(table);
+        queenKicker.addAll(Arrays.asList(new Card(12, CardSuits.CLUB), new Card(4, CardSuits.PIKE)));
+
+        PokerResult king = pokerHand.evaluateHand(kingKicker);
+        PokerResult queen = pokerHand.evaluateHand(queenKicker);
+
+        assertEquals(Hands.PAIR, king.getHand());
+        assertArrayEquals(new int[]{14, 14, 13, 9, 7}, king.getKickers());
+        assertTrue(king.compareTo(queen) > 0);
+    }
+
+    @Test
+    void testEvaluateHand_WheelLosesToSixHighStraight() {
+        // Test que verifica que la escalera baja A-2-3-4-5 tiene como carta alta el 5
+
+        List<Card> wheel = Arrays.asList(
+            new Card(14, CardSuits.HEART),
+            new Card(2, CardSuits.CLUB),
+            new Card(3, CardSuits.PIKE),
+            new Card(4, CardSuits.DIAMOND),
+            new Card(5, CardSuits.HEART)
+        );
+        List<Card> sixHigh = Arrays.asList(
+            new Card(6, CardSuits.HEART),
+            new Card(2, CardSuits.CLUB),
+            new Card(3, CardSuits.PIKE),
+            new Card(4, CardSuits.DIAMOND),
+            new Card(5, CardSuits.HEART)
+        );
+
+        PokerResult wheelResult = pokerHand.evaluateHand(wheel);
+
+        assertEquals(Hands.STRAIGHT, wheelResult.getHand());
+        assertEquals(5, wheelResult.getHighCard());
+        assertTrue(wheelResult.compareTo(pokerHand.evaluateHand(sixHigh)) < 0);
+        assertArrayEquals(new int[]{5, 4, 3, 2, 1}, wheelResult.getKickers());
+    }
+
+    @Test
+    void testEvaluateHand_FiveCardTiebreak() {
+        // Test que verifica que el valor guarda las cinco cartas de la jugada en orden de importancia
+
+        List<Card> fullHouse = Arrays.asList(
+            new Card(10, CardSuits.HEART),
+            new Card(10, CardSuits.CLUB),
+            new Card(10, CardSuits.PIKE),
+            new Card(9, CardSuits.DIAMOND),
+            new Card(9, CardSuits.HEART),
+            new Card(14, CardSuits.HEART)
+        );
+        List<Card> quads = Arrays.asList(
+            new Card(7, CardSuits.HEART),
+            new Card(7, CardSuits.CLUB),
+            new Card(7, CardSuits.PIKE),
+            new Card(7, CardSuits.DIAMOND),
+            new Card(12, CardSuits.HEART),
+            new Card(13, CardSuits.HEART)
+        );
+
+        assertArrayEquals(new int[]{10, 10, 10, 9, 9}, pokerHand.evaluateHand(fullHouse).getKickers());
+        assertArrayEquals(new int[]{7, 7, 7, 7, 13}, pokerHand.evaluateHand(quads).getKickers());
+    }
+
+    @Test
+    void testReturnWinners_SplitPot() {
+        // Test que verifica que returnWinners devuelve todos los índices empatados cuando la mesa juega
+
+        List<Card> table = Arrays.asList(
+            new Card(10, CardSuits.HEART),
+            new Card(11, CardSuits.CLUB),
+            new Card(12, CardSuits.PIKE),
+            new Card(13, CardSuits.DIAMOND),
+            new Card(14, CardSuits.HEART)
+        );
+        List<List<Card>> hands = Arrays.asList(
+            Arrays.asList(new Card(2, CardSuits.CLUB), new Card(3, CardSuits.PIKE)),
+            Arrays.asList(new Card(4, CardSuits.CLUB), new Card(5, CardSuits.DIAMOND)),
+            Arrays.asList(new Card(14, CardSuits.CLUB), new Card(14, CardSuits.PIKE))
+        );
+
+        assertEquals(Arrays.asList(0, 1, 2), pokerHand.returnWinners(hands, table));
+        assertEquals(0, pokerHand.returnWinner(hands, table));
+    }
+
+    @Test
+    void testReturnWinners_SingleWinner() {
+        // Test que verifica que una mano mejor descarta a las anteriores
+
+        List<Card> table = Arrays.asList(
+            new Card(2, CardSuits.HEART),
+            new Card(7, CardSuits.CLUB),
+            new Card(9, CardSuits.PIKE),
+            new Card(12, CardSuits.DIAMOND),
+            new Card(13, CardSuits.HEART)
+        );
+        List<List<Card>> hands = Arrays.asList(
+            Arrays.asList(new Card(14, CardSuits.CLUB), new Card(3, CardSuits.PIKE)),
+            Arrays.asList(new Card(9, CardSuits.CLUB), new Card(4, CardSuits.DIAMOND)),
+            Arrays.asList(new Card(12, CardSuits.CLUB), new Card(8, CardSuits.PIKE))
+        );
+
+        assertEquals(Arrays.asList(2), pokerHand.returnWinners(hands, table));
+    }
+
+    @Test
+    void testEvaluateOmahaHand_UsesExactlyTwoHoleCards() {
+        // Test que verifica que en Omaha no se puede usar una sola carta propia:
+        // con un solo corazón en la mano no hay color aunque la mesa tenga cuatro
+
+        List<Card> table = Arrays.asList(
+            new Card(2, CardSuits.HEART),
+            new Card(7, CardSuits.HEART),
+            new Card(9, CardSuits.HEART),
+            new Card(12, CardSuits.HEART),
+            new Card(13, CardSuits.CLUB)
+        );
+        List<Card> hole = Arrays.asList(
+            new Card(14, CardSuits.HEART),
+            new Card(13, CardSuits.PIKE),
+            new Card(5, CardSuits.CLUB),
+            new Card(3, CardSuits.DIAMOND)
+        );
+
+        PokerResult result = pokerHand.evaluateOmahaHand(hole, table);
+
+        assertEquals(Hands.PAIR, result.getHand());
+        assertEquals(13, result.getHighCard());
+
+        // Con las reglas de Texas Hold'em (mesa más el As de corazones) sí sería color
+        List<Card> holdemCards = new ArrayList<>(table);
+        holdemCards.add(hole.get(0));
+        holdemCards.add(hole.get(1));
+        assertEquals(Hands.FLUSH, pokerHand.evaluateHand(holdemCards).getHand());
+    }
+
+    @Test
+    void testReturnWinners_Omaha() {
+        // Test que verifica que returnWinners aplica las reglas de Omaha cuando se le indica la modalidad
+
+        List<Card> table = Arrays.asList(
+            new Card(2, CardSuits.HEART),
+            new Card(7, CardSuits.HEART),
+            new Card(9, CardSuits.HEART),
+            new Card(12, CardSuits.HEART),
+            new Card(13, CardSuits.CLUB)
+        );
+        List<List<Card>> hands = Arrays.asList(
+            // Un solo corazón en la mano: no hay color, solo par de K
+            Arrays.asList(new Card(14, CardSuits.HEART), new Card(13, CardSuits.PIKE),
+                    new Card(5, CardSuits.CLUB), new Card(3, CardSuits.DIAMOND)),
+            // Par de 9 en la mano: trío con el 9 de la mesa
+            Arrays.asList(new Card(9, CardSuits.CLUB), new Card(9, CardSuits.DIAMOND),
+                    new Card(3, CardSuits.PIKE), new Card(4, CardSuits.CLUB))
+        );
+
+        assertEquals(Arrays.asList(1), pokerHand.returnWinners(hands, table, PokerVariant.OMAHA));
     }
 }
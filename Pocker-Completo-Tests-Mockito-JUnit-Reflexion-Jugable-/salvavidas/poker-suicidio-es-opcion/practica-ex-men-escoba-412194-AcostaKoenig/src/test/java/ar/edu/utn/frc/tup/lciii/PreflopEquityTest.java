@@ -0,0 +1,68 @@
+package ar.edu.utn.frc.tup.lciii;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PreflopEquityTest {
+
+    private static final List<Card> ACES = List.of(new Card(14, CardSuits.HEART), new Card(14, CardSuits.PIKE));
+    private static final List<Card> KINGS = List.of(new Card(13, CardSuits.CLUB), new Card(13, CardSuits.DIAMOND));
+
+    // Verifica la clasificación de las 1326 combinaciones en las 169 clases
+    @Test
+    void testHandClasses() {
+        assertEquals("AA", PreflopEquity.className(PreflopEquity.handClass(ACES)));
+        assertEquals("AKs", PreflopEquity.className(PreflopEquity.handClass(
+                List.of(new Card(13, CardSuits.HEART), new Card(14, CardSuits.HEART)))));
+        assertEquals("T9o", PreflopEquity.className(PreflopEquity.handClass(
+                List.of(new Card(10, CardSuits.HEART), new Card(9, CardSuits.CLUB)))));
+
+        int[] counts = new int[PreflopEquity.CLASS_COUNT];
+        for (int combo = 0; combo < PokerHand.COMBO_COUNT; combo++) {
+            counts[PreflopEquity.handClass(PokerHand.comboMask(combo))]++;
+        }
+        for (int handClass = 0; handClass < PreflopEquity.CLASS_COUNT; handClass++) {
+            assertEquals(PreflopEquity.comboCount(handClass), counts[handClass], PreflopEquity.className(handClass));
+        }
+    }
+
+    // Verifica valores conocidos de la tabla incluida en el programa
+    @Test
+    void testDefaultTable() {
+        PreflopEquity table = PreflopEquity.getDefault();
+        assertEquals(0.82, table.getEquity(ACES, KINGS), 0.01);
+        assertEquals(0.85, table.getEquityVsRandom(ACES, 1), 0.01);
+
+        int aces = PreflopEquity.handClass(ACES);
+        int kings = PreflopEquity.handClass(KINGS);
+        assertEquals(1.0, table.getEquity(aces, kings) + table.getEquity(kings, aces), 1e-4);
+        assertEquals(0.5, table.getEquity(aces, aces), 1e-4);
+        // Cuantos más rivales, menos equity
+        for (int opponents = 2; opponents <= PreflopEquity.MAX_OPPONENTS; opponents++) {
+            assertTrue(table.getEquityVsRandom(aces, opponents) < table.getEquityVsRandom(aces, opponents - 1));
+        }
+        assertThrows(IllegalArgumentException.class, () -> table.getEquityVsRandom(aces, 6));
+    }
+
+    // Verifica que el generador escribe un archivo que se puede volver a cargar con FileChannel.map
+    @Test
+    void testGenerateAndLoad(@TempDir Path directory) throws IOException {
+        Path file = directory.resolve("preflop.bin");
+        Files.write(file, PreflopEquityGenerator.generate(20, 20, 1));
+
+        PreflopEquity table = PreflopEquity.load(file);
+        assertEquals(0.5, table.getEquity(0, 0), 1e-4);
+        assertTrue(table.getEquityVsRandom(PreflopEquity.handClass(ACES), 1) > 0.5);
+
+        Path broken = directory.resolve("broken.bin");
+        Files.write(broken, new byte[16]);
+        assertThrows(IllegalArgumentException.class, () -> PreflopEquity.load(broken));
+    }
+}
@@ -0,0 +1,75 @@
+package ar.edu.utn.frc.tup.lciii;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RangeEquityTest {
+
+    private static final List<Card> TURN = List.of(new Card(2, CardSuits.HEART), new Card(7, CardSuits.HEART),
+            new Card(9, CardSuits.CLUB), new Card(13, CardSuits.PIKE));
+
+    // Verifica que la enumeración por mesas coincide con la de EquityCalculator, que recorre par por par
+    @Test
+    void testExactMatchesPairEnumeration() {
+        HandRange hero = HandRange.parse("AA, KQs, 98s:0.5");
+        HandRange villain = HandRange.parse("TT+, AKo, 7h6h:0.25");
+        for (List<Card> board : List.of(TURN, TURN.subList(0, 3))) {
+            EquityResult ranges = RangeEquity.of(hero, villain, board, List.of()).exact();
+            EquityResult pairs = EquityCalculator.ofRanges(List.of(hero.toWeights(), villain.toWeights()),
+                    board, List.of()).exact();
+
+            for (int player = 0; player < 2; player++) {
+                assertEquals(pairs.getEquity(player), ranges.getEquity(player), 1e-9);
+                assertEquals(pairs.getWinProbability(player), ranges.getWinProbability(player), 1e-9);
+                assertEquals(pairs.getTieProbability(player), ranges.getTieProbability(player), 1e-9);
+            }
+        }
+    }
+
+    // Las 1326 combinaciones contra las 1326 en el river: una sola mesa, mucho menos de un segundo
+    @Test
+    void testFullRangesOnRiver() {
+        List<Card> river = List.of(TURN.get(0), TURN.get(1), TURN.get(2), TURN.get(3), new Card(5, CardSuits.DIAMOND));
+        RangeEquity calculator = RangeEquity.of(HandRange.all(), HandRange.all(), river, List.of());
+        assertEquals(1, calculator.getRunoutCount());
+
+        EquityResult result = assertTimeoutPreemptively(Duration.ofSeconds(1), () -> calculator.calculate());
+        assertEquals(0.5, result.getEquity(0), 1e-12);
+        assertEquals(result.getWinProbability(0), result.getLoseProbability(0), 1e-12);
+    }
+
+    // Antes del flop se muestrea: AA contra KK da alrededor de 82%, con la misma semilla el mismo resultado
+    // y el avance llega a 1
+    @Test
+    void testStratifiedPreflop() {
+        RangeEquity calculator = RangeEquity.of(HandRange.parse("AA"), HandRange.parse("KK"), List.of(), List.of());
+        assertTrue(calculator.getRunoutCount() > RangeEquity.EXACT_RUNOUT_LIMIT);
+
+        AtomicReference<Double> progress = new AtomicReference<>(0.0);
+        EquityResult result = calculator.stratified(2_000, 5, value -> progress.accumulateAndGet(value, Math::max));
+        assertEquals(0.82, result.getEquity(0), 0.015);
+        assertEquals(1.0, progress.get(), 1e-12);
+        assertEquals(result.getEquity(0), calculator.stratified(2_000, 5).getEquity(0));
+    }
+
+    // Las cartas muertas quitan combinaciones de los rangos y no salen en la mesa
+    @Test
+    void testDeadCards() {
+        List<Card> dead = List.of(new Card(14, CardSuits.HEART), new Card(14, CardSuits.PIKE),
+                new Card(14, CardSuits.DIAMOND));
+        // Sin 3 de los ases solo queda AcKc: los reyes ganan salvo que salga color o escalera
+        RangeEquity calculator = RangeEquity.of(HandRange.parse("AKs"), HandRange.parse("KK"), TURN, dead);
+        assertEquals(52 - 4 - 3, calculator.getRunoutCount());
+        EquityResult result = calculator.exact();
+        assertEquals(RangeEquity.of(HandRange.parse("AcKc"), HandRange.parse("KK"), TURN, dead).exact().getEquity(0),
+                result.getEquity(0), 1e-12);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> RangeEquity.of(HandRange.all(), HandRange.all(), TURN, List.of(TURN.get(0))));
+    }
+}
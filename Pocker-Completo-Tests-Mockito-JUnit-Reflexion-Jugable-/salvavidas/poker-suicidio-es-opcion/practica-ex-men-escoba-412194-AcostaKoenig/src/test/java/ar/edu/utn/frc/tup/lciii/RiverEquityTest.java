@@ -0,0 +1,89 @@
+package ar.edu.utn.frc.tup.lciii;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RiverEquityTest {
+
+    private static final List<Card> BOARD = List.of(
+            new Card(14, CardSuits.HEART), new Card(13, CardSuits.HEART), new Card(7, CardSuits.CLUB),
+            new Card(7, CardSuits.DIAMOND), new Card(2, CardSuits.PIKE));
+
+    // Verifica la numeración de las 1326 combinaciones
+    @Test
+    void testComboIndex() {
+        assertEquals(0, PokerHand.comboIndex(0, 1));
+        assertEquals(PokerHand.COMBO_COUNT - 1, PokerHand.comboIndex(51, 50));
+        assertEquals(PokerHand.comboIndex(3, 40), PokerHand.comboIndex(40, 3));
+        assertEquals(1L << 3 | 1L << 40, PokerHand.comboMask(PokerHand.comboIndex(3, 40)));
+        assertEquals(PokerHand.comboIndex(3, 40), PokerHand.comboIndex(1L << 3 | 1L << 40));
+        assertThrows(IllegalArgumentException.class, () -> PokerHand.comboIndex(5, 5));
+    }
+
+    // Verifica que la mejor mano posible gana siempre y que el peor par de la mesa pierde casi siempre
+    @Test
+    void testEquityAgainstRandomHand() {
+        RiverEquity river = RiverEquity.of(BOARD);
+        // Con 7-7 nadie más puede tener poker de sietes: cuatro sietes es la nuts
+        double quads = river.equity(List.of(new Card(7, CardSuits.HEART), new Card(7, CardSuits.PIKE)),
+                RiverEquity.uniformRange());
+        assertEquals(1.0, quads, 1e-12);
+
+        double weak = river.equity(List.of(new Card(3, CardSuits.CLUB), new Card(4, CardSuits.DIAMOND)),
+                RiverEquity.uniformRange());
+        assertTrue(weak < 0.1);
+        assertThrows(IllegalArgumentException.class, () -> river.equity(
+                List.of(new Card(14, CardSuits.HEART), new Card(4, CardSuits.DIAMOND)), RiverEquity.uniformRange()));
+    }
+
+    // Compara el barrido de todas las manos con la comparación mano contra mano, con un rango al azar
+    @Test
+    void testEquitiesMatchPairwiseComparison() {
+        RiverEquity river = RiverEquity.of(BOARD);
+        Random random = new Random(17);
+        double[] range = new double[PokerHand.COMBO_COUNT];
+        for (int combo = 0; combo < range.length; combo++) {
+            range[combo] = random.nextInt(4) == 0 ? 0 : random.nextInt(5);
+        }
+
+        double[] equities = river.equities(range);
+        for (int hero = 0; hero < PokerHand.COMBO_COUNT; hero++) {
+            long heroMask = PokerHand.comboMask(hero);
+            if ((heroMask & river.getBoardMask()) != 0) {
+                assertTrue(Double.isNaN(equities[hero]));
+                continue;
+            }
+            double score = 0;
+            double total = 0;
+            for (int villain = 0; villain < PokerHand.COMBO_COUNT; villain++) {
+                long villainMask = PokerHand.comboMask(villain);
+                if ((villainMask & (heroMask | river.getBoardMask())) != 0) {
+                    continue;
+                }
+                int compare = Integer.compare(river.getValue(hero), river.getValue(villain));
+                score += range[villain] * (compare > 0 ? 1 : compare == 0 ? 0.5 : 0);
+                total += range[villain];
+            }
+            assertEquals(score / total, equities[hero], 1e-9);
+            assertEquals(equities[hero], river.equity(heroMask, range), 1e-9);
+        }
+    }
+
+    // Verifica que un rango bloqueado por completo por las cartas propias no da equity
+    @Test
+    void testFullyBlockedRange() {
+        RiverEquity river = RiverEquity.of(BOARD);
+        double[] range = new double[PokerHand.COMBO_COUNT];
+        int hero = PokerHand.comboIndex(0, 1);
+        range[PokerHand.comboIndex(0, 2)] = 1;
+        range[PokerHand.comboIndex(1, 3)] = 1;
+
+        assertTrue(Double.isNaN(river.equities(range)[hero]));
+        assertTrue(Double.isNaN(river.equity(PokerHand.comboMask(hero), range)));
+        assertThrows(IllegalArgumentException.class, () -> river.equities(new double[3]));
+    }
+}
@@ -64,6 +64,41 @@ class TableTest {
         // Verifica que sean 5 cartas (3 flop + 1 turn + 1 river).
     }
 
+    @Test
+    void testCommunityCardsUpdateHandState() {
+        // Prueba que cada carta comunitaria repartida actualice la evaluación incremental de los jugadores.
+        table.dealHands(players);
+        table.dealFlop();
+        table.dealTurn();
+        table.dealRiver();
+
+        PokerHand evaluator = new PokerHand();
+        for (Player player : players) {
+            List<Card> fullHand = new ArrayList<>(player.getHand());
+            fullHand.addAll(table.getCommunityCards());
+            assertEquals(7, player.getHandState().getCardCount());
+            assertEquals(evaluator.evaluateHand(fullHand).getValue(), player.getHandState().getValue(),
+                    "La mano incremental de " + player.getName() + " debería coincidir con la evaluación completa.");
+        }
+    }
+
+    @Test
+    void testDealHandsOmaha() {
+        // Prueba que una mesa de Omaha reparta 4 cartas a cada jugador y evalúe con las reglas de Omaha.
+        Table omahaTable = new Table(PokerVariant.OMAHA);
+        omahaTable.dealHands(players);
+        omahaTable.dealFlop();
+        omahaTable.dealTurn();
+        omahaTable.dealRiver();
+
+        PokerHand evaluator = new PokerHand();
+        for (Player player : players) {
+            assertEquals(4, player.getHand().size(), player.getName() + " debería tener 4 cartas.");
+            assertEquals(evaluator.evaluateOmahaHand(player.getHand(), omahaTable.getCommunityCards()).getValue(),
+                    player.getHandState().getValue());
+        }
+    }
+
     @Test
     void testResetDeck() {
         // Prueba que al resetear la mesa se limpien las cartas comunitarias.
@@ -84,4 +119,19 @@ class TableTest {
         assertDoesNotThrow(() -> table.dealRiver(), "No debería lanzar excepción al repartir con mazo vacío."); 
         // Asegura que el método dealRiver no lanza error cuando el mazo está vacío.
     }
+
+    @Test
+    void testBoardAnalysisComputedOncePerStreet() {
+        // Prueba que el análisis de la mesa no exista antes del flop y se reutilice durante toda la calle.
+        assertNull(table.getBoardAnalysis());
+
+        table.dealFlop();
+        BoardAnalysis flop = table.getBoardAnalysis();
+        assertNotNull(flop);
+        assertSame(flop, table.getBoardAnalysis());
+        assertEquals(3, flop.getCardCount());
+
+        table.dealTurn();
+        assertEquals(4, table.getBoardAnalysis().getCardCount());
+    }
 }
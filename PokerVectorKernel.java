@@ -0,0 +1,281 @@
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Kernel vectorial de {@link PokerUtils#evaluateBatch(long[], int[], int, int)}.
+ * Procesa tantas manos a la vez como carriles de 64 bits tenga la CPU (4 con AVX2, 8 con AVX-512)
+ * en todos los pasos de {@link PokerUtils#evaluate(long)}: separación por palos, conteo de rangos con
+ * AND/OR, detección de color con {@code BIT_COUNT}, detección de escaleras con desplazamientos y también el
+ * armado del valor. Las decisiones de {@link PokerUtils#composeHandValue} se reemplazan por máscaras: cada
+ * carril calcula su tipo de mano, el prefijo fijo del valor (categoría y grupos repetidos) y de qué rangos
+ * salen los kickers, y los 5 kickers se extraen igual para todos los carriles con {@code LEADING_ZEROS_COUNT};
+ * después cada carril se queda con los que le corresponden con un desplazamiento propio.
+ * <p>
+ * Las manos se procesan en bloques de {@value #BLOCK} y cada paso recorre el bloque completo dejando sus
+ * resultados en columnas intermedias. Si todo se hace en un único ciclo, C2 corta el inlining por cantidad
+ * de nodos y los vectores terminan materializados como objetos, lo que es más lento que el código escalar.
+ * <p>
+ * Necesita el módulo {@code jdk.incubator.vector} (JDK 19 o superior) tanto al compilar como al ejecutar
+ * ({@code --add-modules jdk.incubator.vector}). PokerUtils lo carga por reflexión y, si no está
+ * disponible, usa la versión escalar, por lo que esta clase es opcional.
+ */
+final class PokerVectorKernel implements PokerUtils.BatchEvaluator {
+
+    private static final VectorSpecies<Long> SPECIES = LongVector.SPECIES_PREFERRED;
+
+    /** Manos por bloque; múltiplo de cualquier cantidad de carriles y chico para quedar en la caché L1. */
+    private static final int BLOCK = 256;
+
+    private static final int RANKS_PER_SUIT = 13;
+    private static final long SUIT_BITS = (1L << RANKS_PER_SUIT) - 1;
+    private static final int ACE = 12;
+    private static final int FIVE = 3;
+
+    /** Formato de valor de PokerUtils: la categoría va en los bits 20-23, de 0 (carta alta) a 9 (escalera real). */
+    private static final int CATEGORY_SHIFT = 20;
+    private static final long HIGH_CARD = category(PokerUtils.HandRank.HIGH_CARD);
+    private static final long ONE_PAIR = category(PokerUtils.HandRank.ONE_PAIR);
+    private static final long TWO_PAIR = category(PokerUtils.HandRank.TWO_PAIR);
+    private static final long THREE_OF_A_KIND = category(PokerUtils.HandRank.THREE_OF_A_KIND);
+    private static final long STRAIGHT = category(PokerUtils.HandRank.STRAIGHT);
+    private static final long FLUSH = category(PokerUtils.HandRank.FLUSH);
+    private static final long FULL_HOUSE = category(PokerUtils.HandRank.FULL_HOUSE);
+    private static final long FOUR_OF_A_KIND = category(PokerUtils.HandRank.FOUR_OF_A_KIND);
+    private static final long STRAIGHT_FLUSH = category(PokerUtils.HandRank.STRAIGHT_FLUSH);
+    private static final long ROYAL_FLUSH = category(PokerUtils.HandRank.ROYAL_FLUSH);
+
+    /** Kickers de la escalera al 5: [FIVE, FOUR, THREE, TWO, ACE]. */
+    private static final long WHEEL_KICKERS = 0x5432E;
+
+    /** Desplazamiento que descarta los 5 kickers extraídos, para los tipos de mano que no los usan. */
+    private static final long NO_KICKERS = 63;
+
+    /** Columnas intermedias de un bloque: una posición por mano. */
+    private static final class Block {
+        final long[] ranks = new long[BLOCK];
+        final long[] pairs = new long[BLOCK];
+        final long[] trips = new long[BLOCK];
+        final long[] quads = new long[BLOCK];
+        final long[] flush = new long[BLOCK];
+        final long[] straight = new long[BLOCK];
+        final long[] straightFlush = new long[BLOCK];
+        final long[] prefix = new long[BLOCK];
+        final long[] kickerSource = new long[BLOCK];
+        final long[] kickerShift = new long[BLOCK];
+        final long[] values = new long[BLOCK];
+    }
+
+    /** Bloque de cada hilo: se reutiliza entre llamadas para no reservar ~22 KB por lote. */
+    private static final ThreadLocal<Block> BLOCKS = ThreadLocal.withInitial(Block::new);
+
+    @Override
+    public void evaluate(long[] cardMasks, int[] handValues, int from, int to) {
+        Block block = BLOCKS.get();
+        int vectorTo = from + SPECIES.loopBound(to - from);
+        for (int start = from; start < vectorTo; start += BLOCK) {
+            int count = Math.min(BLOCK, vectorTo - start);
+            countRanks(cardMasks, start, count, block);
+            findFlushes(cardMasks, start, count, block);
+            findStraights(count, block);
+            classify(count, block);
+            packKickers(count, block);
+            for (int i = 0; i < count; i++) {
+                handValues[start + i] = (int) block.values[i];
+            }
+        }
+        for (int i = vectorTo; i < to; i++) {
+            handValues[i] = PokerUtils.evaluate(cardMasks[i]);
+        }
+    }
+
+    /** Valida la cantidad de cartas y calcula los rangos presentes y los que tienen 2, 3 y 4 cartas. */
+    private static void countRanks(long[] cardMasks, int start, int count, Block block) {
+        for (int i = 0; i < count; i += SPECIES.length()) {
+            LongVector masks = LongVector.fromArray(SPECIES, cardMasks, start + i);
+            LongVector cardCount = masks.lanewise(VectorOperators.BIT_COUNT);
+            if (cardCount.compare(VectorOperators.LT, 5).or(cardCount.compare(VectorOperators.GT, 7)).anyTrue()) {
+                throw new IllegalArgumentException("Se requieren entre 5 y 7 cartas para evaluar una mano.");
+            }
+            LongVector s0 = masks.and(SUIT_BITS);
+            LongVector s1 = masks.lanewise(VectorOperators.LSHR, RANKS_PER_SUIT).and(SUIT_BITS);
+            LongVector s2 = masks.lanewise(VectorOperators.LSHR, 2 * RANKS_PER_SUIT).and(SUIT_BITS);
+            LongVector s3 = masks.lanewise(VectorOperators.LSHR, 3 * RANKS_PER_SUIT).and(SUIT_BITS);
+
+            s0.or(s1).or(s2).or(s3).intoArray(block.ranks, i);
+            s0.and(s1).or(s0.and(s2)).or(s0.and(s3)).or(s1.and(s2)).or(s1.and(s3)).or(s2.and(s3))
+                    .intoArray(block.pairs, i);
+            s0.and(s1).and(s2).or(s0.and(s1).and(s3)).or(s0.and(s2).and(s3)).or(s1.and(s2).and(s3))
+                    .intoArray(block.trips, i);
+            s0.and(s1).and(s2).and(s3).intoArray(block.quads, i);
+        }
+    }
+
+    /** Rangos del palo con 5 o más cartas; con 7 cartas como máximo solo un palo puede llegar a 5. */
+    private static void findFlushes(long[] cardMasks, int start, int count, Block block) {
+        for (int i = 0; i < count; i += SPECIES.length()) {
+            LongVector masks = LongVector.fromArray(SPECIES, cardMasks, start + i);
+            LongVector flush = LongVector.zero(SPECIES);
+            for (int suit = 0; suit < 4; suit++) {
+                LongVector suitRanks = masks.lanewise(VectorOperators.LSHR, suit * RANKS_PER_SUIT).and(SUIT_BITS);
+                flush = flush.blend(suitRanks, hasFive(suitRanks));
+            }
+            flush.intoArray(block.flush, i);
+        }
+    }
+
+    /** Carta alta de la mejor escalera y de la mejor escalera de color (-1 si no hay). */
+    private static void findStraights(int count, Block block) {
+        for (int i = 0; i < count; i += SPECIES.length()) {
+            straightHigh(LongVector.fromArray(SPECIES, block.ranks, i)).intoArray(block.straight, i);
+            straightHigh(LongVector.fromArray(SPECIES, block.flush, i)).intoArray(block.straightFlush, i);
+        }
+    }
+
+    /**
+     * Equivalente sin saltos de {@link PokerUtils#composeHandValue}: elige el tipo de mano de cada carril con
+     * máscaras exclusivas, de la mejor a la peor, y deja el prefijo del valor, los rangos de donde salen los
+     * kickers y cuántos de los 5 kickers extraídos se descartan (4 bits por kicker).
+     */
+    private static void classify(int count, Block block) {
+        for (int i = 0; i < count; i += SPECIES.length()) {
+            LongVector ranks = LongVector.fromArray(SPECIES, block.ranks, i);
+            LongVector pairs = LongVector.fromArray(SPECIES, block.pairs, i);
+            LongVector trips = LongVector.fromArray(SPECIES, block.trips, i);
+            LongVector quads = LongVector.fromArray(SPECIES, block.quads, i);
+            LongVector flush = LongVector.fromArray(SPECIES, block.flush, i);
+            LongVector straight = LongVector.fromArray(SPECIES, block.straight, i);
+            LongVector straightFlush = LongVector.fromArray(SPECIES, block.straightFlush, i);
+
+            LongVector quad = highestRank(quads);
+            LongVector trio = highestRank(trips);
+            LongVector highPair = highestRank(pairs);
+            LongVector lowPairs = pairs.and(rankBit(highPair).not());
+            LongVector lowPair = highestRank(lowPairs);
+            LongVector fullPairs = pairs.and(rankBit(trio).not());
+
+            VectorMask<Long> taken = straightFlush.compare(VectorOperators.GE, 0);
+            VectorMask<Long> isQuads = quads.compare(VectorOperators.NE, 0).andNot(taken);
+            taken = taken.or(isQuads);
+            VectorMask<Long> isFullHouse = trips.compare(VectorOperators.NE, 0)
+                    .and(fullPairs.compare(VectorOperators.NE, 0)).andNot(taken);
+            taken = taken.or(isFullHouse);
+            VectorMask<Long> isFlush = flush.compare(VectorOperators.NE, 0).andNot(taken);
+            taken = taken.or(isFlush);
+            VectorMask<Long> isStraight = straight.compare(VectorOperators.GE, 0).andNot(taken);
+            taken = taken.or(isStraight);
+            VectorMask<Long> isTrips = trips.compare(VectorOperators.NE, 0).andNot(taken);
+            taken = taken.or(isTrips);
+            VectorMask<Long> isTwoPair = lowPairs.compare(VectorOperators.NE, 0).andNot(taken);
+            taken = taken.or(isTwoPair);
+            VectorMask<Long> isPair = pairs.compare(VectorOperators.NE, 0).andNot(taken);
+
+            // Carta alta por defecto: los 5 rangos más altos.
+            LongVector prefix = LongVector.broadcast(SPECIES, HIGH_CARD);
+            LongVector source = ranks;
+            LongVector shift = LongVector.zero(SPECIES);
+
+            prefix = prefix.blend(repeat(highPair, 0x11000).or(ONE_PAIR), isPair);
+            source = source.blend(ranks.and(rankBit(highPair).not()), isPair);
+            shift = shift.blend(8, isPair);
+
+            prefix = prefix.blend(repeat(highPair, 0x11000).or(repeat(lowPair, 0x110)).or(TWO_PAIR), isTwoPair);
+            source = source.blend(ranks.and(rankBit(highPair).or(rankBit(lowPair)).not()), isTwoPair);
+            shift = shift.blend(16, isTwoPair);
+
+            prefix = prefix.blend(repeat(trio, 0x11100).or(THREE_OF_A_KIND), isTrips);
+            source = source.blend(ranks.and(rankBit(trio).not()), isTrips);
+            shift = shift.blend(12, isTrips);
+
+            prefix = prefix.blend(straightKickers(straight).or(STRAIGHT), isStraight);
+            shift = shift.blend(NO_KICKERS, isStraight);
+
+            prefix = prefix.blend(FLUSH, isFlush);
+            source = source.blend(flush, isFlush);
+
+            prefix = prefix.blend(repeat(trio, 0x11100).or(repeat(highestRank(fullPairs), 0x11)).or(FULL_HOUSE),
+                    isFullHouse);
+            shift = shift.blend(NO_KICKERS, isFullHouse);
+
+            prefix = prefix.blend(repeat(quad, 0x11110).or(FOUR_OF_A_KIND), isQuads);
+            source = source.blend(ranks.and(rankBit(quad).not()), isQuads);
+            shift = shift.blend(16, isQuads);
+
+            VectorMask<Long> isStraightFlush = straightFlush.compare(VectorOperators.GE, 0);
+            LongVector straightFlushCategory = LongVector.broadcast(SPECIES, STRAIGHT_FLUSH)
+                    .blend(ROYAL_FLUSH, straightFlush.compare(VectorOperators.EQ, ACE));
+            prefix = prefix.blend(straightKickers(straightFlush).or(straightFlushCategory), isStraightFlush);
+            shift = shift.blend(NO_KICKERS, isStraightFlush);
+
+            prefix.intoArray(block.prefix, i);
+            source.intoArray(block.kickerSource, i);
+            shift.intoArray(block.kickerShift, i);
+        }
+    }
+
+    /**
+     * Extrae los 5 rangos más altos de los rangos de kickers de cada carril (4 bits cada uno, como
+     * {@code topRanks} de PokerUtils) y los combina con el prefijo, descartando los que el carril no usa.
+     */
+    private static void packKickers(int count, Block block) {
+        for (int i = 0; i < count; i += SPECIES.length()) {
+            LongVector source = LongVector.fromArray(SPECIES, block.kickerSource, i);
+            LongVector kickers = LongVector.zero(SPECIES);
+            for (int k = 0; k < 5; k++) {
+                LongVector rank = highestRank(source);
+                kickers = kickers.lanewise(VectorOperators.LSHL, 4).or(rank.add(2));
+                source = source.and(rankBit(rank).not());
+            }
+            LongVector shift = LongVector.fromArray(SPECIES, block.kickerShift, i);
+            LongVector.fromArray(SPECIES, block.prefix, i)
+                    .or(kickers.lanewise(VectorOperators.LSHR, shift))
+                    .intoArray(block.values, i);
+        }
+    }
+
+    private static VectorMask<Long> hasFive(LongVector suitRanks) {
+        return suitRanks.lanewise(VectorOperators.BIT_COUNT).compare(VectorOperators.GE, 5);
+    }
+
+    /** Ordinal del rango más alto de cada carril; -1 si no hay ninguno, igual que {@code highestRank} de PokerUtils. */
+    private static LongVector highestRank(LongVector ranks) {
+        return ranks.lanewise(VectorOperators.LEADING_ZEROS_COUNT).neg().add(63);
+    }
+
+    /** Bit de cada ordinal; con -1 queda el bit 63, que no está en ninguna máscara de rangos. */
+    private static LongVector rankBit(LongVector rank) {
+        return LongVector.broadcast(SPECIES, 1).lanewise(VectorOperators.LSHL, rank);
+    }
+
+    /** Valor del rango (ordinal + 2) repetido en los grupos de 4 bits de {@code pattern} (por ejemplo 0x11000). */
+    private static LongVector repeat(LongVector rank, long pattern) {
+        return rank.add(2).mul(pattern);
+    }
+
+    /** Kickers de una escalera con carta alta {@code high}: los 5 valores consecutivos, con el As al final en la del 5. */
+    private static LongVector straightKickers(LongVector high) {
+        return repeat(high, 0x11111).sub(0x01234).blend(WHEEL_KICKERS, high.compare(VectorOperators.EQ, FIVE));
+    }
+
+    private static long category(PokerUtils.HandRank handRank) {
+        return (long) (PokerUtils.HandRank.values().length - 1 - handRank.ordinal()) << CATEGORY_SHIFT;
+    }
+
+    /**
+     * Ordinal del rango más alto de la mejor escalera, o -1 si no hay. Se agrega el As como bit 0
+     * (por debajo del TWO) y se buscan 5 bits consecutivos encendidos con desplazamientos.
+     */
+    private static LongVector straightHigh(LongVector ranks) {
+        LongVector withLowAce = ranks.lanewise(VectorOperators.LSHL, 1)
+                .or(ranks.lanewise(VectorOperators.LSHR, ACE).and(1));
+        LongVector runs = withLowAce
+                .and(withLowAce.lanewise(VectorOperators.LSHR, 1))
+                .and(withLowAce.lanewise(VectorOperators.LSHR, 2))
+                .and(withLowAce.lanewise(VectorOperators.LSHR, 3))
+                .and(withLowAce.lanewise(VectorOperators.LSHR, 4));
+        // El bit más bajo de la escalera más alta está en la posición b; su carta alta es el ordinal b + 3.
+        LongVector high = runs.lanewise(VectorOperators.LEADING_ZEROS_COUNT).neg().add(63 + 3);
+        return high.blend(-1, runs.compare(VectorOperators.EQ, 0));
+    }
+}
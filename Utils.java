@@ -1,13 +1,34 @@
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.EnumMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongFunction;
 import java.util.stream.Collectors;
+import java.util.zip.CRC32;
 
 /**
  * PokerUtils es una clase de utilidad que proporciona funciones para manejar
@@ -97,6 +118,29 @@ public final class PokerUtils {
             return rank.getShortName() + suit.getSymbol();
         }
 
+        /**
+         * Obtiene el índice de la carta dentro del mazo (0-51), calculado como
+         * {@code suit.ordinal() * 13 + rank.ordinal()}.
+         * Es la posición del bit que ocupa la carta en una máscara de cartas (ver {@link PokerUtils#cardMask(List)}).
+         * @return El índice de la carta.
+         */
+        public int index() {
+            return suit.ordinal() * 13 + rank.ordinal();
+        }
+
+        /**
+         * Obtiene la carta correspondiente a un índice de mazo, sin crear objetos nuevos.
+         * @param index Índice de la carta (0-51).
+         * @return La {@link Card} con ese índice.
+         * @throws IllegalArgumentException si el índice está fuera de rango.
+         */
+        public static Card fromIndex(int index) {
+            if (index < 0 || index >= CARDS_BY_INDEX.length) {
+                throw new IllegalArgumentException("Índice de carta fuera de rango: " + index);
+            }
+            return CARDS_BY_INDEX[index];
+        }
+
         /**
          * Compara esta carta con otra carta, primariamente por rango (descendente).
          * Este método es útil para ordenar listas de cartas.
@@ -158,7 +202,7 @@ public final class PokerUtils {
                  throw new IllegalArgumentException("kickerRanks debe contener exactamente 5 rangos.");
             }
             // Asegurar inmutabilidad de la lista de kickers
-            this.kickerRanks = List.copyOf(kickerRanks);
+            kickerRanks = List.copyOf(kickerRanks);
         }
         
         /**
@@ -202,6 +246,22 @@ public final class PokerUtils {
         return deck;
     }
 
+    /**
+     * Crea un mazo corto (6+) de 36 cartas: el mazo estándar sin los rangos del 2 al 5.
+     * El mazo retornado no está barajado.
+     *
+     * @return Una lista de 36 objetos {@link Card}.
+     */
+    public static List<Card> createShortDeck() {
+        List<Card> deck = new ArrayList<>(36);
+        for (Suit suit : Suit.values()) {
+            for (int rank = Rank.SIX.ordinal(); rank < RANKS.length; rank++) {
+                deck.add(new Card(RANKS[rank], suit));
+            }
+        }
+        return deck;
+    }
+
     /**
      * Baraja un mazo de cartas "in-place".
      * Modifica la lista original.
@@ -236,22 +296,38 @@ public final class PokerUtils {
     /**
      * Evalúa la mejor mano de poker de 5 cartas posible a partir de las cartas del jugador
      * y las cartas comunitarias.
+     * Es un adaptador sobre {@link #evaluate(long)}: las cartas se convierten en una máscara
+     * de bits y el valor entero resultante se traduce a un {@link HandEvaluationResult}.
+     * Los resultados se guardan en {@link #evaluationCache()}, compartida por todas las permutaciones de palos.
      *
      * @param playerCards   Una lista de 2 cartas en mano del jugador. No debe ser nula y debe contener 2 cartas.
      * @param communityCards Una lista de 3 a 5 cartas comunitarias (Flop, Turn, o River). No debe ser nula y debe contener de 3 a 5 cartas.
      * @return El {@link HandEvaluationResult} de la mejor mano de 5 cartas encontrada.
-     * @throws IllegalArgumentException si las entradas no cumplen los requisitos de tamaño.
+     * @throws IllegalArgumentException si las entradas no cumplen los requisitos de tamaño o hay cartas repetidas.
      */
     public static HandEvaluationResult evaluateHand(List<Card> playerCards, List<Card> communityCards) {
-        Objects.requireNonNull(playerCards, "playerCards no puede ser nulo.");
-        Objects.requireNonNull(communityCards, "communityCards no puede ser nulo.");
+        validateHoldemInput(playerCards, communityCards);
 
-        if (playerCards.size() != 2) {
-            throw new IllegalArgumentException("El jugador debe tener exactamente 2 cartas.");
-        }
-        if (communityCards.size() < 3 || communityCards.size() > 5) {
-            throw new IllegalArgumentException("Debe haber entre 3 y 5 cartas comunitarias.");
+        long mask = cardMask(playerCards) | cardMask(communityCards);
+        if (Long.bitCount(mask) != playerCards.size() + communityCards.size()) {
+            throw new IllegalArgumentException("Hay cartas repetidas entre el jugador y la mesa.");
         }
+        return EVALUATION_CACHE.get(mask, cards -> toEvaluationResult(evaluate(cards)));
+    }
+
+    /**
+     * Evalúa la mejor mano generando explícitamente las combinaciones de 5 cartas y
+     * comparándolas una por una.
+     * Es la implementación de referencia, mucho más lenta que {@link #evaluateHand(List, List)};
+     * se conserva para verificar el evaluador por máscaras de bits.
+     *
+     * @param playerCards   Una lista de 2 cartas en mano del jugador.
+     * @param communityCards Una lista de 3 a 5 cartas comunitarias.
+     * @return El {@link HandEvaluationResult} de la mejor mano de 5 cartas encontrada.
+     * @throws IllegalArgumentException si las entradas no cumplen los requisitos de tamaño.
+     */
+    public static HandEvaluationResult evaluateHandByCombinations(List<Card> playerCards, List<Card> communityCards) {
+        validateHoldemInput(playerCards, communityCards);
 
         List<Card> allCards = new ArrayList<>(playerCards.size() + communityCards.size());
         allCards.addAll(playerCards);
@@ -278,6 +354,19 @@ public final class PokerUtils {
         return bestHandResult;
     }
 
+    /** Valida el tamaño de las cartas del jugador y de la mesa para Texas Hold'em. */
+    private static void validateHoldemInput(List<Card> playerCards, List<Card> communityCards) {
+        Objects.requireNonNull(playerCards, "playerCards no puede ser nulo.");
+        Objects.requireNonNull(communityCards, "communityCards no puede ser nulo.");
+
+        if (playerCards.size() != 2) {
+            throw new IllegalArgumentException("El jugador debe tener exactamente 2 cartas.");
+        }
+        if (communityCards.size() < 3 || communityCards.size() > 5) {
+            throw new IllegalArgumentException("Debe haber entre 3 y 5 cartas comunitarias.");
+        }
+    }
+
     /**
      * Genera todas las combinaciones de k cartas a partir de una lista de cartas.
      * Método auxiliar recursivo.
@@ -318,7 +407,7 @@ public final class PokerUtils {
 
     /**
      * Evalúa una mano específica de 5 cartas.
-     * Este es un método interno llamado por {@link #evaluateHand(List, List)}.
+     * Este es un método interno llamado por {@link #evaluateHandByCombinations(List, List)}.
      *
      * @param fiveCardHand Una lista de exactamente 5 cartas.
      * @return El {@link HandEvaluationResult} para esta mano de 5 cartas.
@@ -657,7 +746,1621 @@ public final class PokerUtils {
 
         return 0; // Empate perfecto (mismo HandRank y mismos kickerRanks)
     }
-    
+
+
+    // --- E. Evaluación Rápida por Máscaras de Bits ---
+    // Una mano se representa como un long donde el bit Card.index() está encendido si la carta
+    // está presente. Cada palo ocupa 13 bits (bit 0 = TWO, ..., bit 12 = ACE).
+    // El resultado de la evaluación es un int "valor de mano" donde un número mayor es una mano mejor:
+    //   bits 20-23: categoría (0 = HIGH_CARD, ..., 9 = ROYAL_FLUSH)
+    //   bits 0-19 : los 5 rangos de kickerRanks (valores 2-14), 4 bits cada uno, el primero en los bits 16-19.
+    // Así dos manos se comparan con una sola comparación de enteros, y el orden coincide con compareHands.
+
+    /** Cantidad de bits por palo en una máscara de cartas. */
+    private static final int RANKS_PER_SUIT = 13;
+    /** Máscara de los 13 bits de rango de un palo. */
+    private static final int SUIT_BITS = (1 << RANKS_PER_SUIT) - 1;
+    /** Desplazamiento de la categoría dentro del valor de mano. */
+    private static final int CATEGORY_SHIFT = 20;
+
+    private static final Rank[] RANKS = Rank.values();
+    private static final HandRank[] HAND_RANKS = HandRank.values();
+
+    /** Las 52 cartas indexadas por {@link Card#index()}, para no crear objetos al decodificar. */
+    private static final Card[] CARDS_BY_INDEX = new Card[52];
+
+    /**
+     * Para cada máscara de 13 rangos, el ordinal del rango más alto de la mejor escalera
+     * contenida (3 = escalera A-2-3-4-5), o -1 si no hay escalera.
+     */
+    private static final byte[] STRAIGHT_HIGH = new byte[1 << RANKS_PER_SUIT];
+
+    static {
+        for (Suit suit : Suit.values()) {
+            for (Rank rank : RANKS) {
+                Card card = new Card(rank, suit);
+                CARDS_BY_INDEX[card.index()] = card;
+            }
+        }
+        int wheel = (1 << Rank.ACE.ordinal()) | 0b1111; // A-2-3-4-5
+        for (int ranks = 0; ranks < STRAIGHT_HIGH.length; ranks++) {
+            STRAIGHT_HIGH[ranks] = -1;
+            for (int high = Rank.ACE.ordinal(); high >= Rank.SIX.ordinal(); high--) {
+                int straight = 0b11111 << (high - 4);
+                if ((ranks & straight) == straight) {
+                    STRAIGHT_HIGH[ranks] = (byte) high;
+                    break;
+                }
+            }
+            if (STRAIGHT_HIGH[ranks] < 0 && (ranks & wheel) == wheel) {
+                STRAIGHT_HIGH[ranks] = (byte) Rank.FIVE.ordinal();
+            }
+        }
+    }
+
+    /**
+     * Construye la máscara de bits de una lista de cartas.
+     *
+     * @param cards Las cartas a incluir. No debe ser nula.
+     * @return Un long con el bit {@link Card#index()} encendido para cada carta.
+     */
+    public static long cardMask(List<Card> cards) {
+        Objects.requireNonNull(cards, "cards no puede ser nulo.");
+        long mask = 0L;
+        for (int i = 0; i < cards.size(); i++) {
+            mask |= 1L << cards.get(i).index();
+        }
+        return mask;
+    }
+
+    /**
+     * Evalúa la mejor mano de 5 cartas contenida en una máscara de 5, 6 o 7 cartas.
+     * No genera combinaciones ni crea objetos: trabaja con las máscaras de rango de cada palo.
+     *
+     * @param cardMask Máscara de cartas (ver {@link PokerUtils#cardMask(List)}).
+     * @return El valor de la mano; un valor mayor representa una mano mejor.
+     * @throws IllegalArgumentException si la máscara no contiene entre 5 y 7 cartas.
+     */
+    public static int evaluate(long cardMask) {
+        int cardCount = Long.bitCount(cardMask);
+        if (cardCount < 5 || cardCount > 7) {
+            throw new IllegalArgumentException("Se requieren entre 5 y 7 cartas para evaluar una mano.");
+        }
+        return evaluateCards(cardMask);
+    }
+
+    /** Cuerpo de {@link #evaluate(long)} sin validar la cantidad de cartas. */
+    private static int evaluateCards(long cardMask) {
+        int s0 = (int) cardMask & SUIT_BITS;
+        int s1 = (int) (cardMask >>> RANKS_PER_SUIT) & SUIT_BITS;
+        int s2 = (int) (cardMask >>> (2 * RANKS_PER_SUIT)) & SUIT_BITS;
+        int s3 = (int) (cardMask >>> (3 * RANKS_PER_SUIT)) & SUIT_BITS;
+
+        // Color: con 7 cartas como máximo, solo un palo puede tener 5 o más cartas.
+        int flush = Integer.bitCount(s0) >= 5 ? s0
+                  : Integer.bitCount(s1) >= 5 ? s1
+                  : Integer.bitCount(s2) >= 5 ? s2
+                  : Integer.bitCount(s3) >= 5 ? s3 : 0;
+
+        // Conteo de rangos en paralelo: cada máscara indica los rangos con al menos 2, 3 o 4 cartas.
+        int ranks = s0 | s1 | s2 | s3;
+        int pairs = (s0 & s1) | (s0 & s2) | (s0 & s3) | (s1 & s2) | (s1 & s3) | (s2 & s3);
+        int trips = (s0 & s1 & s2) | (s0 & s1 & s3) | (s0 & s2 & s3) | (s1 & s2 & s3);
+        int quads = s0 & s1 & s2 & s3;
+
+        return composeHandValue(ranks, pairs, trips, quads, flush, STRAIGHT_HIGH[ranks], STRAIGHT_HIGH[flush]);
+    }
+
+    /**
+     * Arma el valor de mano a partir de las máscaras de rango ya calculadas. Es la parte con decisiones de
+     * {@link #evaluate(long)}; PokerVectorKernel hace lo mismo sin saltos, con máscaras por carril.
+     *
+     * @param ranks Rangos presentes.
+     * @param pairs Rangos con al menos 2 cartas.
+     * @param trips Rangos con al menos 3 cartas.
+     * @param quads Rangos con 4 cartas.
+     * @param flush Rangos del palo con 5 o más cartas, o 0 si no hay color.
+     * @param straightHigh Ordinal de la carta alta de la mejor escalera de {@code ranks}, o -1.
+     * @param straightFlushHigh Ordinal de la carta alta de la mejor escalera de {@code flush}, o -1.
+     */
+    static int composeHandValue(int ranks, int pairs, int trips, int quads, int flush,
+                                int straightHigh, int straightFlushHigh) {
+        if (straightFlushHigh == Rank.ACE.ordinal()) {
+            return handValue(HandRank.ROYAL_FLUSH, straightKickers(straightFlushHigh));
+        }
+        if (straightFlushHigh >= 0) {
+            return handValue(HandRank.STRAIGHT_FLUSH, straightKickers(straightFlushHigh));
+        }
+        if (quads != 0) {
+            int quad = highestRank(quads);
+            return handValue(HandRank.FOUR_OF_A_KIND,
+                    repeat(quad, 4) << 4 | highestRank(ranks & ~(1 << quad)) + 2);
+        }
+        if (trips != 0) {
+            int trio = highestRank(trips);
+            int otherPairs = pairs & ~(1 << trio);
+            if (otherPairs != 0) {
+                return handValue(HandRank.FULL_HOUSE, repeat(trio, 3) << 8 | repeat(highestRank(otherPairs), 2));
+            }
+        }
+        if (flush != 0) {
+            return handValue(HandRank.FLUSH, topRanks(flush, 5));
+        }
+        if (straightHigh >= 0) {
+            return handValue(HandRank.STRAIGHT, straightKickers(straightHigh));
+        }
+        if (trips != 0) {
+            int trio = highestRank(trips);
+            return handValue(HandRank.THREE_OF_A_KIND, repeat(trio, 3) << 8 | topRanks(ranks & ~(1 << trio), 2));
+        }
+        if (pairs != 0) {
+            int highPair = highestRank(pairs);
+            int lowPairs = pairs & ~(1 << highPair);
+            if (lowPairs != 0) {
+                int lowPair = highestRank(lowPairs);
+                int kicker = highestRank(ranks & ~(1 << highPair) & ~(1 << lowPair));
+                return handValue(HandRank.TWO_PAIR, repeat(highPair, 2) << 12 | repeat(lowPair, 2) << 4 | kicker + 2);
+            }
+            return handValue(HandRank.ONE_PAIR, repeat(highPair, 2) << 12 | topRanks(ranks & ~(1 << highPair), 3));
+        }
+        return handValue(HandRank.HIGH_CARD, topRanks(ranks, 5));
+    }
+
+    /**
+     * Obtiene el tipo de mano codificado en un valor de mano.
+     * @param handValue Valor devuelto por {@link #evaluate(long)}.
+     * @return El {@link HandRank} correspondiente.
+     */
+    public static HandRank handRankOf(int handValue) {
+        return HAND_RANKS[HAND_RANKS.length - 1 - (handValue >>> CATEGORY_SHIFT)];
+    }
+
+    /**
+     * Convierte un valor de mano en el {@link HandEvaluationResult} equivalente.
+     * Es el único punto del camino rápido que crea objetos.
+     *
+     * @param handValue Valor devuelto por {@link #evaluate(long)}.
+     * @return El resultado con su tipo de mano y sus 5 kickerRanks.
+     */
+    public static HandEvaluationResult toEvaluationResult(int handValue) {
+        List<Rank> kickerRanks = new ArrayList<>(5);
+        for (int shift = 16; shift >= 0; shift -= 4) {
+            kickerRanks.add(RANKS[((handValue >>> shift) & 0xF) - 2]);
+        }
+        return new HandEvaluationResult(handRankOf(handValue), kickerRanks);
+    }
+
+    /** Combina la categoría y los 20 bits de kickers en un valor de mano. */
+    private static int handValue(HandRank handRank, int kickers) {
+        return (HAND_RANKS.length - 1 - handRank.ordinal()) << CATEGORY_SHIFT | kickers;
+    }
+
+    /** Ordinal del rango más alto presente en una máscara de 13 bits (no vacía). */
+    private static int highestRank(int ranks) {
+        return 31 - Integer.numberOfLeadingZeros(ranks);
+    }
+
+    /** Repite el valor de un rango (ordinal) en {@code times} grupos de 4 bits. */
+    private static int repeat(int rankOrdinal, int times) {
+        int value = rankOrdinal + 2;
+        int packed = 0;
+        for (int i = 0; i < times; i++) {
+            packed = packed << 4 | value;
+        }
+        return packed;
+    }
+
+    /** Empaqueta los {@code count} rangos más altos de la máscara, de mayor a menor, 4 bits cada uno. */
+    private static int topRanks(int ranks, int count) {
+        int packed = 0;
+        for (int i = 0; i < count; i++) {
+            int rank = highestRank(ranks);
+            ranks &= ~(1 << rank);
+            packed = packed << 4 | rank + 2;
+        }
+        return packed;
+    }
+
+    /** Kickers de una escalera cuyo rango más alto es {@code high}; la escalera al 5 termina con el As. */
+    private static int straightKickers(int high) {
+        if (high == Rank.FIVE.ordinal()) {
+            return 0x5432E; // [FIVE, FOUR, THREE, TWO, ACE]
+        }
+        int value = high + 2;
+        return value << 16 | (value - 1) << 12 | (value - 2) << 8 | (value - 3) << 4 | value - 4;
+    }
+
+    // --- F. Tabla de Estados de 7 Cartas (Memoria Mapeada) ---
+    // Cada estado representa las cartas vistas hasta el momento y ocupa una fila de 53 ints:
+    //   fila[0]      : valor de mano del estado si tiene 5 o 6 cartas (0 en otro caso)
+    //   fila[1 + c]  : desplazamiento de la fila siguiente al agregar la carta de índice c,
+    //                  o directamente el valor de mano final si el estado ya tenía 6 cartas.
+    // Evaluar una mano de 7 cartas son 7 lecturas encadenadas, partiendo de la fila del estado vacío.
+    // Los palos que ya no pueden formar color se descartan del estado, lo que reduce las filas a unas 600 mil.
+
+    /**
+     * Evaluador de manos de 5 a 7 cartas basado en una tabla de estados precalculada.
+     * <p>
+     * La tabla (~130 MB) se genera una sola vez, se guarda en un archivo con un encabezado de
+     * versión y checksum, y se mapea fuera del heap con un {@link TableStore}, de modo que no suma
+     * trabajo al GC y varias JVMs del mismo equipo comparten la copia del page cache. Si el archivo
+     * falta, está incompleto o fue generado por otra versión, se regenera automáticamente al abrirlo.
+     * <p>
+     * Los valores devueltos son los mismos que los de {@link PokerUtils#evaluate(long)}.
+     * Las instancias pueden usarse desde varios hilos hasta que se llama a {@link #close()}, que libera
+     * el mapeo; para recargar la tabla se vuelve a llamar a {@link #open(Path)}.
+     */
+    public static final class StateTable implements AutoCloseable {
+
+        /** Versión del formato; cambiarla invalida los archivos generados anteriormente. */
+        public static final int VERSION = 1;
+        /** Archivo usado por {@link #openDefault()}, configurable con la propiedad {@code pokerutils.stateTable}. */
+        public static final Path DEFAULT_FILE = Path.of(System.getProperty("pokerutils.stateTable",
+                Path.of(System.getProperty("java.io.tmpdir"), "pokerutils-7cards-v" + VERSION + ".dat").toString()));
+
+        private static final int MAGIC = 0x50553753; // "PU7S"
+        private static final int HEADER_BYTES = 16;  // magic, versión, cantidad de filas, CRC32
+        private static final int ROW_SIZE = 53;
+        /** Desplazamiento de la fila del estado vacío (la fila 0 queda reservada para los estados inválidos). */
+        private static final int START = ROW_SIZE;
+        private static final int WRITE_BUFFER_ROWS = 4096;
+
+        private final TableStore table;
+
+        private StateTable(TableStore table) {
+            this.table = table;
+        }
+
+        /**
+         * Abre la tabla del archivo por defecto, generándola si hace falta.
+         * @return La tabla lista para evaluar.
+         * @throws IOException si no se puede leer ni generar el archivo.
+         */
+        public static StateTable openDefault() throws IOException {
+            return open(DEFAULT_FILE);
+        }
+
+        /**
+         * Abre la tabla guardada en {@code file}. Si el archivo no existe o su encabezado o checksum
+         * no son válidos, se vuelve a generar antes de mapearlo.
+         *
+         * @param file Ruta del archivo de la tabla. No debe ser nula.
+         * @return La tabla lista para evaluar.
+         * @throws IOException si no se puede leer ni generar el archivo.
+         */
+        public static StateTable open(Path file) throws IOException {
+            Objects.requireNonNull(file, "file no puede ser nulo.");
+            TableStore table = Files.exists(file) ? map(file) : null;
+            if (table == null) {
+                generate(file);
+                table = map(file);
+                if (table == null) {
+                    throw new IOException("La tabla de estados generada en " + file + " no es válida.");
+                }
+            }
+            return new StateTable(table);
+        }
+
+        /**
+         * Genera la tabla y la escribe en {@code file}. Se escribe primero en un archivo temporal del
+         * mismo directorio y luego se reemplaza el destino con un movimiento atómico, para que otro
+         * proceso nunca mapee un archivo a medio escribir.
+         *
+         * @param file Ruta del archivo a generar. No debe ser nula.
+         * @throws IOException si no se puede escribir el archivo.
+         */
+        public static void generate(Path file) throws IOException {
+            Objects.requireNonNull(file, "file no puede ser nulo.");
+            long[] states = enumerateStates();
+            Path directory = file.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            Path temp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+            try {
+                try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                    int crc = writeRows(channel, states);
+                    ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+                    header.putInt(MAGIC).putInt(VERSION).putInt(states.length + 1).putInt(crc).flip();
+                    channel.write(header, 0);
+                    channel.force(true);
+                }
+                Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        }
+
+        /**
+         * Evalúa la mejor mano contenida en una máscara de 5, 6 o 7 cartas.
+         *
+         * @param cardMask Máscara de cartas (ver {@link PokerUtils#cardMask(List)}).
+         * @return El valor de la mano, igual al de {@link PokerUtils#evaluate(long)}.
+         * @throws IllegalArgumentException si la máscara no contiene entre 5 y 7 cartas.
+         */
+        public int evaluate(long cardMask) {
+            int cardCount = Long.bitCount(cardMask);
+            if (cardCount < 5 || cardCount > 7) {
+                throw new IllegalArgumentException("Se requieren entre 5 y 7 cartas para evaluar una mano.");
+            }
+            int state = START;
+            for (long cards = cardMask; cards != 0; cards &= cards - 1) {
+                state = table.getInt(state + 1 + Long.numberOfTrailingZeros(cards));
+            }
+            return cardCount == 7 ? state : table.getInt(state);
+        }
+
+        /**
+         * Evalúa 7 cartas distintas dadas por su índice (ver {@link Card#index()}) con 7 lecturas.
+         * No valida los índices: es el camino pensado para simulaciones.
+         *
+         * @return El valor de la mano, igual al de {@link PokerUtils#evaluate(long)}.
+         */
+        public int evaluate(int c1, int c2, int c3, int c4, int c5, int c6, int c7) {
+            TableStore t = table;
+            return t.getInt(t.getInt(t.getInt(t.getInt(t.getInt(t.getInt(t.getInt(START + 1 + c1) + 1 + c2)
+                    + 1 + c3) + 1 + c4) + 1 + c5) + 1 + c6) + 1 + c7);
+        }
+
+        /**
+         * Avanza un estado con una carta, para evaluar manos de forma incremental (por ejemplo,
+         * calcular una vez el estado de la mesa y completarlo con las cartas de cada jugador).
+         * El estado inicial es {@link #initialState()}; con 7 cartas el resultado ya es el valor de mano.
+         *
+         * @param state Estado actual.
+         * @param cardIndex Índice de la carta a agregar (0-51).
+         * @return El nuevo estado, o el valor de mano si se agregó la séptima carta.
+         */
+        public int next(int state, int cardIndex) {
+            return table.getInt(state + 1 + cardIndex);
+        }
+
+        /** @return El estado sin cartas, punto de partida de {@link #next(int, int)}. */
+        public int initialState() {
+            return START;
+        }
+
+        /**
+         * Valor de mano de un estado de 5 o 6 cartas obtenido con {@link #next(int, int)}.
+         * @param state Estado con 5 o 6 cartas.
+         * @return El valor de la mano, igual al de {@link PokerUtils#evaluate(long)}.
+         */
+        public int valueOf(int state) {
+            return table.getInt(state);
+        }
+
+        /** @return false si ya se llamó a {@link #close()}. */
+        public boolean isOpen() {
+            return table.isOpen();
+        }
+
+        /**
+         * Libera la tabla. Las evaluaciones posteriores (incluidas las que estén en curso en otros
+         * hilos) lanzan {@link IllegalStateException}. Llamarlo más de una vez no tiene efecto.
+         */
+        @Override
+        public void close() {
+            table.close();
+        }
+
+        /** Valida el encabezado y el checksum y mapea los datos; devuelve null si la tabla no sirve. */
+        private static TableStore map(Path file) throws IOException {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                long size = channel.size();
+                // Los desplazamientos de fila se guardan como int, así que la tabla nunca pasa de 2 GB.
+                if (size < HEADER_BYTES || size > Integer.MAX_VALUE) {
+                    return null;
+                }
+                ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+                while (header.hasRemaining()) {
+                    if (channel.read(header, header.position()) < 0) {
+                        return null;
+                    }
+                }
+                int rows = header.getInt(8);
+                if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION || rows <= 0
+                        || size != HEADER_BYTES + (long) rows * ROW_SIZE * Integer.BYTES
+                        || !checksumMatches(channel, header.getInt(12))) {
+                    return null;
+                }
+                // El mapeo sigue vigente después de cerrar el canal.
+                return mapTable(channel, HEADER_BYTES, (long) rows * ROW_SIZE);
+            }
+        }
+
+        /** Calcula el CRC32 de los datos leyendo el archivo por bloques, sin mapearlo. */
+        private static boolean checksumMatches(FileChannel channel, int expected) throws IOException {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(WRITE_BUFFER_ROWS * ROW_SIZE * Integer.BYTES);
+            CRC32 crc = new CRC32();
+            long position = HEADER_BYTES;
+            int read;
+            while ((read = channel.read(buffer.clear(), position)) > 0) {
+                position += read;
+                crc.update(buffer.flip());
+            }
+            return (int) crc.getValue() == expected;
+        }
+
+        /** Escribe todas las filas a partir del encabezado y devuelve el CRC32 de los datos. */
+        private static int writeRows(FileChannel channel, long[] states) throws IOException {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(WRITE_BUFFER_ROWS * ROW_SIZE * Integer.BYTES)
+                    .order(ByteOrder.LITTLE_ENDIAN);
+            CRC32 crc = new CRC32();
+            long position = HEADER_BYTES;
+            for (int row = 0; row <= states.length; row++) {
+                if (row == 0) {
+                    for (int i = 0; i < ROW_SIZE; i++) {
+                        buffer.putInt(0); // estado inválido
+                    }
+                } else {
+                    fillRow(buffer, states, states[row - 1]);
+                }
+                if (!buffer.hasRemaining() || row == states.length) {
+                    buffer.flip();
+                    crc.update(buffer.duplicate());
+                    while (buffer.hasRemaining()) {
+                        position += channel.write(buffer, position);
+                    }
+                    buffer.clear();
+                }
+            }
+            return (int) crc.getValue();
+        }
+
+        /** Escribe la fila de un estado: su valor (si corresponde) y la transición para cada carta. */
+        private static void fillRow(ByteBuffer buffer, long[] states, long state) {
+            int cardCount = cardCountOf(state);
+            buffer.putInt(cardCount >= 5 ? stateValue(state) : 0);
+            for (int card = 0; card < 52; card++) {
+                long next = nextState(state, card);
+                if (next == 0) {
+                    buffer.putInt(0);
+                } else if (cardCount == 6) {
+                    buffer.putInt(stateValue(next));
+                } else {
+                    buffer.putInt((Arrays.binarySearch(states, next) + 1) * ROW_SIZE);
+                }
+            }
+        }
+
+        /** Todos los estados alcanzables de 0 a 6 cartas, ordenados para poder buscarlos. */
+        private static long[] enumerateStates() {
+            Set<Long> all = new HashSet<>();
+            all.add(0L);
+            Set<Long> level = Set.of(0L);
+            for (int cards = 1; cards <= 6; cards++) {
+                Set<Long> nextLevel = new HashSet<>();
+                for (long state : level) {
+                    for (int card = 0; card < 52; card++) {
+                        long next = nextState(state, card);
+                        if (next != 0) {
+                            nextLevel.add(next);
+                        }
+                    }
+                }
+                all.addAll(nextLevel);
+                level = nextLevel;
+            }
+            long[] states = new long[all.size()];
+            int i = 0;
+            for (long state : all) {
+                states[i++] = state;
+            }
+            Arrays.sort(states);
+            return states;
+        }
+
+        // Un estado se codifica como un long con hasta 7 bytes, uno por carta, ordenados de mayor a menor.
+        // Cada byte es (rango + 1) << 4 | (palo + 1), o solo (rango + 1) << 4 si el palo ya no puede formar color.
+
+        /** Agrega una carta a un estado; devuelve 0 si la carta ya estaba o el rango supera las 4 cartas. */
+        private static long nextState(long state, int cardIndex) {
+            int[] cards = new int[7];
+            int count = 0;
+            for (long rest = state; rest != 0; rest >>>= 8) {
+                cards[count++] = (int) (rest & 0xFF);
+            }
+            if (count == 7) {
+                return 0;
+            }
+            int newCard = (cardIndex % RANKS_PER_SUIT + 1) << 4 | (cardIndex / RANKS_PER_SUIT + 1);
+            int sameRank = 0;
+            for (int i = 0; i < count; i++) {
+                if (cards[i] == newCard) {
+                    return 0;
+                }
+                if (cards[i] >>> 4 == newCard >>> 4) {
+                    sameRank++;
+                }
+            }
+            if (sameRank == 4) {
+                return 0;
+            }
+            cards[count++] = newCard;
+
+            // Un palo solo puede formar color si sus cartas más las que faltan llegan a 5.
+            int[] suitCounts = new int[5];
+            for (int i = 0; i < count; i++) {
+                suitCounts[cards[i] & 0xF]++;
+            }
+            int needed = count - 2;
+            for (int i = 0; i < count; i++) {
+                if (suitCounts[cards[i] & 0xF] < needed) {
+                    cards[i] &= 0xF0;
+                }
+            }
+
+            Arrays.sort(cards, 0, count);
+            long next = 0;
+            for (int i = 0; i < count; i++) {
+                next |= (long) cards[i] << (8 * i);
+            }
+            return next;
+        }
+
+        private static int cardCountOf(long state) {
+            return (64 - Long.numberOfLeadingZeros(state) + 7) / 8;
+        }
+
+        /**
+         * Valor de mano de un estado de 5 a 7 cartas. Las cartas sin palo se reparten entre palos
+         * distintos del color (si lo hay) sin repetir cartas, así que nunca forman un color nuevo.
+         */
+        private static int stateValue(long state) {
+            int[] suitCounts = new int[5];
+            for (long rest = state; rest != 0; rest >>>= 8) {
+                suitCounts[(int) (rest & 0xF)]++;
+            }
+            int flushSuit = 0;
+            for (int suit = 1; suit <= 4; suit++) {
+                if (suitCounts[suit] >= 5) {
+                    flushSuit = suit;
+                }
+            }
+            long mask = 0L;
+            int nextSuit = 0;
+            for (long rest = state; rest != 0; rest >>>= 8) {
+                int card = (int) (rest & 0xFF);
+                int rank = (card >>> 4) - 1;
+                int suit = card & 0xF;
+                if (flushSuit == 0 || suit != flushSuit) {
+                    // Las cartas del mismo rango son consecutivas, así que reciben palos distintos.
+                    do {
+                        suit = nextSuit % 4 + 1;
+                        nextSuit++;
+                    } while (suit == flushSuit || (mask & 1L << ((suit - 1) * RANKS_PER_SUIT + rank)) != 0);
+                }
+                mask |= 1L << ((suit - 1) * RANKS_PER_SUIT + rank);
+            }
+            return PokerUtils.evaluate(mask);
+        }
+    }
+
+    // --- G. Evaluación por Lotes ---
+    // Las simulaciones evalúan millones de manos seguidas: en lugar de una llamada por mano, reciben un
+    // arreglo columnar de máscaras de cartas y escriben los valores de mano en otro arreglo.
+    // Si el módulo jdk.incubator.vector está presente se usa PokerVectorKernel, que evalúa varias manos
+    // por instrucción; si no, o si el kernel no pasa la verificación inicial, se usa el ciclo escalar.
+
+    /**
+     * Estrategia de evaluación de un rango de manos en arreglos columnares.
+     * Debe escribir en {@code handValues[i]} el mismo valor que {@link PokerUtils#evaluate(long)}
+     * devuelve para {@code cardMasks[i]}, para cada {@code i} en {@code [from, to)}.
+     */
+    @FunctionalInterface
+    public interface BatchEvaluator {
+        void evaluate(long[] cardMasks, int[] handValues, int from, int to);
+    }
+
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+    private static final String VECTOR_KERNEL = "PokerVectorKernel";
+    private static final BatchEvaluator SCALAR_BATCH = PokerUtils::evaluateScalar;
+    private static final BatchEvaluator BATCH_EVALUATOR = loadBatchEvaluator();
+
+    /**
+     * Evalúa todas las manos de {@code cardMasks}.
+     *
+     * @param cardMasks Máscaras de 5 a 7 cartas (ver {@link PokerUtils#cardMask(List)}). No debe ser nulo.
+     * @param handValues Arreglo destino, al menos tan largo como {@code cardMasks}. No debe ser nulo.
+     * @throws IllegalArgumentException si alguna máscara no contiene entre 5 y 7 cartas.
+     */
+    public static void evaluateBatch(long[] cardMasks, int[] handValues) {
+        Objects.requireNonNull(cardMasks, "cardMasks no puede ser nulo.");
+        evaluateBatch(cardMasks, handValues, 0, cardMasks.length);
+    }
+
+    /**
+     * Evalúa las manos {@code cardMasks[from..to)} y deja cada valor en la misma posición de {@code handValues}.
+     *
+     * @param cardMasks Máscaras de 5 a 7 cartas. No debe ser nulo.
+     * @param handValues Arreglo destino. No debe ser nulo.
+     * @param from Primera posición a evaluar (inclusive).
+     * @param to Última posición a evaluar (exclusive).
+     * @throws IllegalArgumentException si alguna máscara no contiene entre 5 y 7 cartas.
+     * @throws IndexOutOfBoundsException si el rango no entra en alguno de los arreglos.
+     */
+    public static void evaluateBatch(long[] cardMasks, int[] handValues, int from, int to) {
+        Objects.requireNonNull(cardMasks, "cardMasks no puede ser nulo.");
+        Objects.requireNonNull(handValues, "handValues no puede ser nulo.");
+        Objects.checkFromToIndex(from, to, cardMasks.length);
+        Objects.checkFromToIndex(from, to, handValues.length);
+        BATCH_EVALUATOR.evaluate(cardMasks, handValues, from, to);
+    }
+
+    /**
+     * Indica si {@link #evaluateBatch(long[], int[], int, int)} usa el kernel vectorial.
+     * @return true si se cargó PokerVectorKernel.
+     */
+    public static boolean isBatchVectorized() {
+        return BATCH_EVALUATOR != SCALAR_BATCH;
+    }
+
+    /** Versión escalar del lote, usada como respaldo y para verificar el kernel vectorial. */
+    private static void evaluateScalar(long[] cardMasks, int[] handValues, int from, int to) {
+        for (int i = from; i < to; i++) {
+            handValues[i] = evaluate(cardMasks[i]);
+        }
+    }
+
+    /** Carga el kernel vectorial si el módulo está disponible y da los mismos resultados que el escalar. */
+    private static BatchEvaluator loadBatchEvaluator() {
+        if (ModuleLayer.boot().findModule(VECTOR_MODULE).isEmpty()) {
+            return SCALAR_BATCH;
+        }
+        try {
+            BatchEvaluator kernel = Class.forName(VECTOR_KERNEL)
+                    .asSubclass(BatchEvaluator.class)
+                    .getDeclaredConstructor()
+                    .newInstance();
+            long[] sample = sampleMasks(1024);
+            int[] expected = new int[sample.length];
+            int[] actual = new int[sample.length];
+            evaluateScalar(sample, expected, 0, sample.length);
+            kernel.evaluate(sample, actual, 0, sample.length);
+            return Arrays.equals(expected, actual) ? kernel : SCALAR_BATCH;
+        } catch (ReflectiveOperationException | LinkageError | RuntimeException e) {
+            return SCALAR_BATCH;
+        }
+    }
+
+    /** Manos de 5 a 7 cartas generadas con una semilla fija, para la verificación del kernel. */
+    private static long[] sampleMasks(int count) {
+        SplittableRandom random = new SplittableRandom(count);
+        long[] masks = new long[count];
+        for (int i = 0; i < count; i++) {
+            int cards = 5 + i % 3;
+            while (Long.bitCount(masks[i]) < cards) {
+                masks[i] |= 1L << random.nextInt(52);
+            }
+        }
+        return masks;
+    }
+
+    // --- H. Almacenamiento de Tablas Fuera del Heap ---
+    // Las tablas grandes (como la de estados de 7 cartas) se leen a través de un TableStore en lugar de un int[],
+    // así no ocupan el heap ni alargan las pausas del GC. Si la API de memoria foránea (java.lang.foreign,
+    // JDK 22 o superior) está disponible se usa ForeignTableStore, que mapea el archivo en un Arena compartido
+    // y permite liberarlo en el momento; si no, se usa un IntBuffer mapeado, que el sistema libera recién
+    // cuando el GC recolecta el buffer.
+
+    /**
+     * Tabla de ints de solo lectura guardada fuera del heap, con un ciclo de vida explícito.
+     * Las lecturas son seguras desde varios hilos; las que empiezan después de que {@link #close()} terminó
+     * lanzan {@link IllegalStateException}, en cualquier hilo.
+     * <p>
+     * Solo ForeignTableStore (JDK 22 o superior) libera la memoria al cerrar. En el respaldo con un buffer
+     * mapeado el cierre es orientativo: la tabla deja de poder leerse, pero el archivo sigue mapeado hasta que
+     * el GC recolecta el buffer, y una lectura que ya había empezado en otro hilo termina normalmente.
+     */
+    public interface TableStore extends AutoCloseable {
+
+        /**
+         * @param index Posición del int (0 es el primero de la tabla).
+         * @return El valor guardado en esa posición.
+         * @throws IndexOutOfBoundsException si la posición está fuera de la tabla.
+         * @throws IllegalStateException si la tabla ya fue cerrada.
+         */
+        int getInt(long index);
+
+        /** @return La cantidad de ints de la tabla. */
+        long intCount();
+
+        /** @return false si ya se llamó a {@link #close()}. */
+        boolean isOpen();
+
+        /**
+         * Cierra la tabla y, con ForeignTableStore, libera su memoria en el momento; con el respaldo de buffer
+         * mapeado la libera el GC más adelante. Llamarlo más de una vez no tiene efecto.
+         */
+        @Override
+        void close();
+    }
+
+    private static final String FOREIGN_STORE = "ForeignTableStore";
+    private static final Constructor<? extends TableStore> FOREIGN_STORE_CONSTRUCTOR = findForeignStore();
+
+    /**
+     * Mapea {@code intCount} ints little-endian de un archivo, empezando en el byte {@code offset}.
+     * El mapeo sigue vigente después de cerrar el canal, hasta que se cierra la tabla devuelta.
+     *
+     * @param channel Canal abierto para lectura. No debe ser nulo.
+     * @param offset Posición en bytes del primer int.
+     * @param intCount Cantidad de ints a mapear.
+     * @return La tabla mapeada.
+     * @throws IOException si no se puede mapear el archivo.
+     */
+    public static TableStore mapTable(FileChannel channel, long offset, long intCount) throws IOException {
+        Objects.requireNonNull(channel, "channel no puede ser nulo.");
+        if (offset < 0 || intCount < 0) {
+            throw new IllegalArgumentException("offset e intCount no pueden ser negativos.");
+        }
+        if (FOREIGN_STORE_CONSTRUCTOR == null) {
+            return new BufferTableStore(channel, offset, intCount);
+        }
+        try {
+            return FOREIGN_STORE_CONSTRUCTOR.newInstance(channel, offset, intCount);
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof IOException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("No se pudo mapear la tabla.", e.getCause());
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("No se pudo mapear la tabla.", e);
+        }
+    }
+
+    /**
+     * Indica si {@link #mapTable(FileChannel, long, long)} usa la API de memoria foránea.
+     * @return true si se cargó ForeignTableStore.
+     */
+    public static boolean usesForeignMemory() {
+        return FOREIGN_STORE_CONSTRUCTOR != null;
+    }
+
+    /** Busca ForeignTableStore; devuelve null si la clase no está o la JVM no soporta java.lang.foreign. */
+    private static Constructor<? extends TableStore> findForeignStore() {
+        try {
+            return Class.forName(FOREIGN_STORE)
+                    .asSubclass(TableStore.class)
+                    .getDeclaredConstructor(FileChannel.class, long.class, long.class);
+        } catch (ReflectiveOperationException | LinkageError | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /** Respaldo sin java.lang.foreign: un IntBuffer mapeado, limitado a 2 GB. */
+    private static final class BufferTableStore implements TableStore {
+
+        // volatile para que un cierre desde otro hilo se vea en la lectura siguiente; getInt lee el campo una
+        // sola vez por llamada.
+        private volatile IntBuffer ints;
+
+        BufferTableStore(FileChannel channel, long offset, long intCount) throws IOException {
+            if (intCount > Integer.MAX_VALUE / Integer.BYTES) {
+                throw new IllegalArgumentException("La tabla no entra en un buffer mapeado de 2 GB.");
+            }
+            ints = channel.map(FileChannel.MapMode.READ_ONLY, offset, intCount * Integer.BYTES)
+                    .order(ByteOrder.LITTLE_ENDIAN)
+                    .asIntBuffer();
+        }
+
+        @Override
+        public int getInt(long index) {
+            IntBuffer current = ints;
+            if (current == null) {
+                throw new IllegalStateException("La tabla ya fue cerrada.");
+            }
+            return current.get(Math.toIntExact(index));
+        }
+
+        @Override
+        public long intCount() {
+            IntBuffer current = ints;
+            return current == null ? 0 : current.capacity();
+        }
+
+        @Override
+        public boolean isOpen() {
+            return ints != null;
+        }
+
+        @Override
+        public void close() {
+            // Un MappedByteBuffer no se puede desmapear a mano: se suelta la referencia y lo libera el GC.
+            ints = null;
+        }
+    }
+
+    // --- I. Caché de Evaluaciones por Isomorfismo de Palos ---
+    // El valor de una mano no depende de qué palo es cuál: A♠K♠ con mesa de picas vale lo mismo que A♥K♥ con
+    // la misma mesa de corazones. La clave canónica ordena las máscaras de los cuatro palos de mayor a menor,
+    // así todas las permutaciones de palos de una mano comparten una entrada.
+    // La caché acota su tamaño con W-TinyLFU: una ventana LRU chica recibe las entradas nuevas y, para pasar
+    // a la zona principal (LRU segmentada en período de prueba y protegida), una entrada tiene que haber sido
+    // pedida más veces que la que desplazaría, según un count-min sketch de frecuencias.
+
+    /**
+     * Clave canónica de una máscara de cartas: las máscaras de los palos ordenadas de mayor a menor,
+     * empaquetadas en 52 bits. Dos máscaras tienen la misma clave si y solo si una es una permutación
+     * de palos de la otra.
+     *
+     * @param cardMask Máscara de cartas (ver {@link PokerUtils#cardMask(List)}).
+     * @return La clave canónica, que también es una máscara de cartas válida con la misma cantidad de cartas.
+     */
+    public static long canonicalKey(long cardMask) {
+        long a = cardMask & SUIT_BITS;
+        long b = cardMask >>> RANKS_PER_SUIT & SUIT_BITS;
+        long c = cardMask >>> 2 * RANKS_PER_SUIT & SUIT_BITS;
+        long d = cardMask >>> 3 * RANKS_PER_SUIT & SUIT_BITS;
+        long t;
+        // Red de ordenamiento de 4 elementos: 5 comparaciones, sin ciclos.
+        if (a < b) { t = a; a = b; b = t; }
+        if (c < d) { t = c; c = d; d = t; }
+        if (a < c) { t = a; a = c; c = t; }
+        if (b < d) { t = b; b = d; d = t; }
+        if (b < c) { t = b; b = c; c = t; }
+        return a << 3 * RANKS_PER_SUIT | b << 2 * RANKS_PER_SUIT | c << RANKS_PER_SUIT | d;
+    }
+
+    /** Entradas de la caché de {@link #evaluateHand(List, List)}. */
+    private static final int EVALUATION_CACHE_SIZE = 1 << 16;
+    private static final HandCache<HandEvaluationResult> EVALUATION_CACHE = new HandCache<>(EVALUATION_CACHE_SIZE);
+
+    /**
+     * Caché usada por {@link #evaluateHand(List, List)}, para consultar sus contadores o vaciarla.
+     * @return La caché compartida de resultados de evaluación.
+     */
+    public static HandCache<HandEvaluationResult> evaluationCache() {
+        return EVALUATION_CACHE;
+    }
+
+    /**
+     * Caché concurrente y acotada de resultados de evaluación, indexada por {@link #canonicalKey(long)}.
+     * Los valores guardados tienen que ser iguales para todas las permutaciones de palos de una mano
+     * (por ejemplo, el valor de mano o un {@link HandEvaluationResult}, que solo guarda rangos).
+     * <p>
+     * Las lecturas no toman ningún lock: consultan un {@link ConcurrentHashMap} y anotan el acceso en un
+     * buffer por hilo que se descarta si está lleno. Los accesos anotados se aplican a la política de
+     * desalojo en lote, bajo un único lock, cuando se inserta una entrada o se llena un buffer.
+     *
+     * @param <V> Tipo de los valores guardados.
+     */
+    public static final class HandCache<V> {
+
+        private static final int UNLINKED = -1;
+        private static final int WINDOW = 0;
+        private static final int PROBATION = 1;
+        private static final int PROTECTED = 2;
+        private static final int REMOVED = 3;
+
+        private final int maximumSize;
+        private final int windowMaximum;
+        private final int protectedMaximum;
+        private final ConcurrentHashMap<Long, Node<V>> map;
+        private final FrequencySketch sketch;
+        private final ReadBuffer<V>[] readBuffers;
+        private final ReentrantLock evictionLock = new ReentrantLock();
+
+        // Listas LRU circulares con centinela: el primero es el menos usado, el último el más reciente.
+        // Solo se modifican con evictionLock tomado, igual que los tamaños.
+        private final Node<V> window = Node.sentinel();
+        private final Node<V> probation = Node.sentinel();
+        private final Node<V> protectedQueue = Node.sentinel();
+        private int windowSize;
+        private int mainSize;
+        private int protectedSize;
+
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder evictions = new LongAdder();
+
+        /**
+         * @param maximumSize Cantidad máxima de entradas. Debe ser positiva.
+         * @throws IllegalArgumentException si {@code maximumSize} no es positivo.
+         */
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        public HandCache(int maximumSize) {
+            if (maximumSize <= 0) {
+                throw new IllegalArgumentException("maximumSize debe ser positivo.");
+            }
+            this.maximumSize = maximumSize;
+            this.windowMaximum = Math.max(1, maximumSize / 100);
+            this.protectedMaximum = (maximumSize - windowMaximum) * 4 / 5;
+            this.map = new ConcurrentHashMap<>(Math.min(maximumSize, 1 << 16));
+            this.sketch = new FrequencySketch(maximumSize);
+            int stripes = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors()) * 4 - 1);
+            this.readBuffers = new ReadBuffer[stripes];
+            for (int i = 0; i < stripes; i++) {
+                readBuffers[i] = new ReadBuffer<>();
+            }
+        }
+
+        /**
+         * Devuelve el valor guardado para la mano o lo calcula con {@code loader} y lo guarda.
+         * Si dos hilos calculan la misma mano a la vez, ambos devuelven el valor que quedó guardado.
+         *
+         * @param cardMask Máscara de cartas de la mano.
+         * @param loader Función que evalúa la máscara si no está en la caché; no debe devolver null.
+         * @return El valor de la mano (o de cualquier permutación de palos de ella).
+         */
+        public V get(long cardMask, LongFunction<? extends V> loader) {
+            Objects.requireNonNull(loader, "loader no puede ser nulo.");
+            long key = canonicalKey(cardMask);
+            Node<V> node = map.get(key);
+            if (node != null) {
+                hits.increment();
+                afterRead(node);
+                return node.value;
+            }
+            misses.increment();
+            return insert(key, Objects.requireNonNull(loader.apply(cardMask), "loader no puede devolver null."));
+        }
+
+        /**
+         * @param cardMask Máscara de cartas de la mano.
+         * @return El valor guardado para la mano o una permutación de palos de ella, o null si no está.
+         */
+        public V getIfPresent(long cardMask) {
+            Node<V> node = map.get(canonicalKey(cardMask));
+            if (node == null) {
+                misses.increment();
+                return null;
+            }
+            hits.increment();
+            afterRead(node);
+            return node.value;
+        }
+
+        /**
+         * Guarda el valor de una mano si todavía no había uno para su clave canónica.
+         *
+         * @param cardMask Máscara de cartas de la mano.
+         * @param value Valor a guardar. No debe ser nulo.
+         * @return El valor que quedó guardado.
+         */
+        public V put(long cardMask, V value) {
+            return insert(canonicalKey(cardMask), Objects.requireNonNull(value, "value no puede ser nulo."));
+        }
+
+        /** @return La cantidad de entradas guardadas. */
+        public int size() {
+            return map.size();
+        }
+
+        /** @return La cantidad máxima de entradas. */
+        public int maximumSize() {
+            return maximumSize;
+        }
+
+        /** @return Consultas que encontraron la mano en la caché. */
+        public long hitCount() {
+            return hits.sum();
+        }
+
+        /** @return Consultas que no encontraron la mano en la caché. */
+        public long missCount() {
+            return misses.sum();
+        }
+
+        /** @return Entradas descartadas para respetar el tamaño máximo. */
+        public long evictionCount() {
+            return evictions.sum();
+        }
+
+        /** @return Proporción de consultas que encontraron la mano (0 si no hubo consultas). */
+        public double hitRate() {
+            long hitCount = hits.sum();
+            long total = hitCount + misses.sum();
+            return total == 0 ? 0.0 : (double) hitCount / total;
+        }
+
+        /** Vacía la caché y reinicia los contadores. */
+        public void clear() {
+            evictionLock.lock();
+            try {
+                drainReadBuffers();
+                for (Node<V> queue : List.of(window, probation, protectedQueue)) {
+                    while (queue.next != queue) {
+                        Node<V> node = queue.next;
+                        node.unlink();
+                        node.queue = REMOVED;
+                    }
+                }
+                map.clear();
+                windowSize = 0;
+                mainSize = 0;
+                protectedSize = 0;
+                sketch.clear();
+                hits.reset();
+                misses.reset();
+                evictions.reset();
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+
+        private V insert(long key, V value) {
+            Node<V> created = new Node<>(key, value);
+            Node<V> existing = map.putIfAbsent(key, created);
+            if (existing != null) {
+                afterRead(existing);
+                return existing.value;
+            }
+            evictionLock.lock();
+            try {
+                drainReadBuffers();
+                sketch.increment(key);
+                // Un clear() entre putIfAbsent y el lock ya la sacó del mapa: no se agrega a las listas.
+                if (map.get(key) == created) {
+                    created.linkLast(window, WINDOW);
+                    windowSize++;
+                    evict();
+                }
+            } finally {
+                evictionLock.unlock();
+            }
+            return value;
+        }
+
+        /** Anota el acceso; si el buffer del hilo se llenó y nadie está drenando, aplica los accesos pendientes. */
+        private void afterRead(Node<V> node) {
+            ReadBuffer<V> buffer = readBuffers[System.identityHashCode(Thread.currentThread()) & (readBuffers.length - 1)];
+            if (!buffer.offer(node) && evictionLock.tryLock()) {
+                try {
+                    drainReadBuffers();
+                } finally {
+                    evictionLock.unlock();
+                }
+            }
+        }
+
+        private void drainReadBuffers() {
+            for (ReadBuffer<V> buffer : readBuffers) {
+                Node<V> node;
+                while ((node = buffer.poll()) != null) {
+                    onAccess(node);
+                }
+            }
+        }
+
+        /** Actualiza la frecuencia y la posición de una entrada leída (con evictionLock tomado). */
+        private void onAccess(Node<V> node) {
+            if (node.queue == REMOVED) {
+                return;
+            }
+            sketch.increment(node.key);
+            if (node.queue == UNLINKED) {
+                return; // leída por otro hilo antes de que insert() la agregue a la ventana
+            }
+            if (node.queue == WINDOW) {
+                node.unlink();
+                node.linkLast(window, WINDOW);
+            } else if (node.queue == PROBATION) {
+                node.unlink();
+                node.linkLast(protectedQueue, PROTECTED);
+                protectedSize++;
+                while (protectedSize > protectedMaximum) {
+                    Node<V> demoted = protectedQueue.next;
+                    demoted.unlink();
+                    demoted.linkLast(probation, PROBATION);
+                    protectedSize--;
+                }
+            } else {
+                node.unlink();
+                node.linkLast(protectedQueue, PROTECTED);
+            }
+        }
+
+        /**
+         * Pasa las entradas que sobran de la ventana a la zona principal. Cuando la zona principal está llena,
+         * cada candidata compite con la menos usada del período de prueba y queda la de mayor frecuencia.
+         */
+        private void evict() {
+            while (windowSize > windowMaximum) {
+                Node<V> candidate = window.next;
+                candidate.unlink();
+                windowSize--;
+                if (windowSize + mainSize < maximumSize) {
+                    candidate.linkLast(probation, PROBATION);
+                    mainSize++;
+                    continue;
+                }
+                Node<V> victim = probation.next != probation ? probation.next : protectedQueue.next;
+                if (victim == protectedQueue || sketch.frequency(candidate.key) <= sketch.frequency(victim.key)) {
+                    remove(candidate);
+                } else {
+                    if (victim.queue == PROTECTED) {
+                        protectedSize--;
+                    }
+                    victim.unlink();
+                    remove(victim);
+                    candidate.linkLast(probation, PROBATION);
+                }
+            }
+        }
+
+        private void remove(Node<V> node) {
+            node.queue = REMOVED;
+            map.remove(node.key, node);
+            evictions.increment();
+        }
+
+        /** Entrada de la caché y nodo de una de las listas LRU. */
+        private static final class Node<V> {
+            final long key;
+            final V value;
+            int queue = UNLINKED;
+            Node<V> prev = this;
+            Node<V> next = this;
+
+            Node(long key, V value) {
+                this.key = key;
+                this.value = value;
+            }
+
+            static <V> Node<V> sentinel() {
+                return new Node<>(0L, null);
+            }
+
+            void linkLast(Node<V> sentinel, int newQueue) {
+                prev = sentinel.prev;
+                next = sentinel;
+                sentinel.prev.next = this;
+                sentinel.prev = this;
+                queue = newQueue;
+            }
+
+            void unlink() {
+                prev.next = next;
+                next.prev = prev;
+                prev = this;
+                next = this;
+            }
+        }
+
+        /**
+         * Buffer circular de accesos con varios productores y un único consumidor (quien tiene el lock).
+         * Si está lleno, el acceso se descarta: perder algunas muestras de frecuencia no cambia la política.
+         */
+        private static final class ReadBuffer<V> {
+            private static final int SIZE = 32;
+            private final AtomicReferenceArray<Node<V>> slots = new AtomicReferenceArray<>(SIZE);
+            private final AtomicLong writeCount = new AtomicLong();
+            private volatile long readCount;
+
+            /** @return false si el buffer está lleno. */
+            boolean offer(Node<V> node) {
+                long write = writeCount.get();
+                if (write - readCount >= SIZE) {
+                    return false;
+                }
+                if (writeCount.compareAndSet(write, write + 1)) {
+                    slots.lazySet((int) write & (SIZE - 1), node);
+                }
+                return true;
+            }
+
+            /** @return El siguiente acceso anotado, o null si no hay (o todavía no terminó de publicarse). */
+            Node<V> poll() {
+                long read = readCount;
+                if (read == writeCount.get()) {
+                    return null;
+                }
+                int index = (int) read & (SIZE - 1);
+                Node<V> node = slots.get(index);
+                if (node != null) {
+                    slots.lazySet(index, null);
+                    readCount = read + 1;
+                }
+                return node;
+            }
+        }
+
+        /**
+         * Count-min sketch de 4 filas con contadores de 4 bits (16 por long). Cuando la cantidad de
+         * incrementos llega a 10 veces el tamaño de la caché, todos los contadores se dividen por 2 para que
+         * las manos que dejaron de aparecer pierdan peso. Solo se usa con evictionLock tomado.
+         */
+        private static final class FrequencySketch {
+            private static final long[] SEEDS = {
+                0x97CB3127L, 0xB9F8AE25L, 0xD1B54A32D192ED03L, 0x9E3779B97F4A7C15L
+            };
+            private static final long HALF_MASK = 0x7777_7777_7777_7777L;
+
+            private final long[] table;
+            private final int sampleSize;
+            private int additions;
+
+            FrequencySketch(int maximumSize) {
+                table = new long[Math.max(8, Integer.highestOneBit(Math.min(maximumSize, 1 << 26) - 1) << 1)];
+                sampleSize = (int) Math.min(Integer.MAX_VALUE, 10L * maximumSize);
+            }
+
+            int frequency(long key) {
+                int frequency = 15;
+                for (long seed : SEEDS) {
+                    long hash = hash(key, seed);
+                    frequency = Math.min(frequency, (int) (table[index(hash)] >>> shift(hash)) & 0xF);
+                }
+                return frequency;
+            }
+
+            void increment(long key) {
+                boolean added = false;
+                for (long seed : SEEDS) {
+                    long hash = hash(key, seed);
+                    int index = index(hash);
+                    int shift = shift(hash);
+                    if ((table[index] >>> shift & 0xF) < 15) {
+                        table[index] += 1L << shift;
+                        added = true;
+                    }
+                }
+                if (added && ++additions >= sampleSize) {
+                    for (int i = 0; i < table.length; i++) {
+                        table[i] = table[i] >>> 1 & HALF_MASK;
+                    }
+                    additions /= 2;
+                }
+            }
+
+            void clear() {
+                Arrays.fill(table, 0L);
+                additions = 0;
+            }
+
+            private static long hash(long key, long seed) {
+                long hash = (key + seed) * 0x9E3779B97F4A7C15L;
+                return hash ^ hash >>> 29;
+            }
+
+            private int index(long hash) {
+                return (int) (hash >>> 32) & (table.length - 1);
+            }
+
+            private static int shift(long hash) {
+                return ((int) hash & 0xF) << 2;
+            }
+        }
+    }
+
+    // --- J. Evaluación de Omaha ---
+    // En Omaha cada jugador recibe 4 cartas y debe usar exactamente 2 de ellas y exactamente 3 de la mesa:
+    // 6 pares propios por 10 tríos de la mesa son 60 manos de 5 cartas. Los pares y tríos se recorren
+    // directamente sobre los bits de las máscaras, sin arreglos auxiliares: cada par se resume una vez en un
+    // conteo de rangos (4 bits por rango) y un palo, y el conteo del trío se arma carta por carta en los ciclos
+    // anidados. Si la mano no puede ser color, su valor depende solo de los rangos y se obtiene sumando los dos
+    // conteos y buscándolo en una tabla hash con las 6175 combinaciones de rangos.
+
+    private static final int RANK_COUNT_TABLE_BITS = 14;
+    /** Conteo de rangos de 5 cartas (4 bits por rango) de cada posición; 0 = posición libre. */
+    private static final long[] RANK_COUNT_KEYS = new long[1 << RANK_COUNT_TABLE_BITS];
+    /** Valor de mano sin color para el conteo de la misma posición. */
+    private static final int[] RANK_COUNT_VALUES = new int[1 << RANK_COUNT_TABLE_BITS];
+
+    static {
+        addRankCounts(0, 0L, 0L, 5);
+    }
+
+    /**
+     * Evalúa la mejor mano de Omaha de un jugador.
+     *
+     * @param holeCards Las 4 cartas del jugador. No debe ser nula.
+     * @param communityCards Las 3 a 5 cartas comunitarias. No debe ser nula.
+     * @return El {@link HandEvaluationResult} de la mejor mano con 2 cartas propias y 3 de la mesa.
+     * @throws IllegalArgumentException si las cantidades no son válidas o hay cartas repetidas.
+     */
+    public static HandEvaluationResult evaluateOmahaHand(List<Card> holeCards, List<Card> communityCards) {
+        Objects.requireNonNull(holeCards, "holeCards no puede ser nulo.");
+        Objects.requireNonNull(communityCards, "communityCards no puede ser nulo.");
+        long holeMask = cardMask(holeCards);
+        long boardMask = cardMask(communityCards);
+        if (Long.bitCount(holeMask) != holeCards.size() || Long.bitCount(boardMask) != communityCards.size()) {
+            throw new IllegalArgumentException("Hay cartas repetidas en la mano o en la mesa.");
+        }
+        return toEvaluationResult(evaluateOmaha(holeMask, boardMask));
+    }
+
+    /**
+     * Evalúa la mejor mano de Omaha a partir de máscaras de cartas.
+     *
+     * @param holeMask Máscara con las 4 cartas del jugador.
+     * @param boardMask Máscara con las 3 a 5 cartas comunitarias.
+     * @return El valor de la mejor mano con exactamente 2 cartas propias y 3 de la mesa,
+     *         comparable con los de {@link #evaluate(long)}.
+     * @throws IllegalArgumentException si las cantidades no son válidas o las máscaras comparten cartas.
+     */
+    public static int evaluateOmaha(long holeMask, long boardMask) {
+        if (Long.bitCount(holeMask) != 4) {
+            throw new IllegalArgumentException("En Omaha el jugador debe tener exactamente 4 cartas.");
+        }
+        int boardCount = Long.bitCount(boardMask);
+        if (boardCount < 3 || boardCount > 5) {
+            throw new IllegalArgumentException("Debe haber entre 3 y 5 cartas comunitarias.");
+        }
+        if ((holeMask & boardMask) != 0) {
+            throw new IllegalArgumentException("Hay cartas repetidas entre el jugador y la mesa.");
+        }
+        // Cada par se resume una vez: conteo de rangos, palo común (-1 si son de palos distintos) y máscara.
+        int best = 0;
+        for (long firstHole = holeMask; firstHole != 0; firstHole &= firstHole - 1) {
+            int holeA = Long.numberOfTrailingZeros(firstHole);
+            for (long secondHole = firstHole & (firstHole - 1); secondHole != 0; secondHole &= secondHole - 1) {
+                int holeB = Long.numberOfTrailingZeros(secondHole);
+                long pairCount = rankCount(holeA) + rankCount(holeB);
+                int pairSuit = holeA / RANKS_PER_SUIT == holeB / RANKS_PER_SUIT ? holeA / RANKS_PER_SUIT : -1;
+                long pairMask = 1L << holeA | 1L << holeB;
+                best = Math.max(best, bestWithBoardTriple(pairCount, pairSuit, pairMask, boardMask));
+            }
+        }
+        return best;
+    }
+
+    /** Mejor valor de un par propio ya resumido con cada trío de la mesa. */
+    private static int bestWithBoardTriple(long pairCount, int pairSuit, long pairMask, long boardMask) {
+        int best = 0;
+        for (long firstBoard = boardMask; firstBoard != 0; firstBoard &= firstBoard - 1) {
+            int first = Long.numberOfTrailingZeros(firstBoard);
+            int suit = first / RANKS_PER_SUIT;
+            for (long secondBoard = firstBoard & (firstBoard - 1); secondBoard != 0; secondBoard &= secondBoard - 1) {
+                int second = Long.numberOfTrailingZeros(secondBoard);
+                long twoCount = rankCount(first) + rankCount(second);
+                boolean twoSuited = suit == second / RANKS_PER_SUIT;
+                for (long thirdBoard = secondBoard & (secondBoard - 1); thirdBoard != 0; thirdBoard &= thirdBoard - 1) {
+                    int third = Long.numberOfTrailingZeros(thirdBoard);
+                    int value;
+                    if (twoSuited && suit == third / RANKS_PER_SUIT && suit == pairSuit) {
+                        // Las 5 cartas son del mismo palo: color o escalera de color.
+                        value = evaluateCards(pairMask | 1L << first | 1L << second | 1L << third);
+                    } else {
+                        value = rankCountValue(pairCount + twoCount + rankCount(third));
+                    }
+                    best = Math.max(best, value);
+                }
+            }
+        }
+        return best;
+    }
+
+    /** Conteo de rangos de una sola carta: un 1 en los 4 bits de su rango. */
+    private static long rankCount(int cardIndex) {
+        return 1L << (4 * (cardIndex % RANKS_PER_SUIT));
+    }
+
+    /** Valor sin color de 5 cartas a partir de su conteo de rangos. */
+    private static int rankCountValue(long counts) {
+        int mask = (1 << RANK_COUNT_TABLE_BITS) - 1;
+        int slot = rankCountSlot(counts);
+        while (RANK_COUNT_KEYS[slot] != counts) {
+            slot = (slot + 1) & mask;
+        }
+        return RANK_COUNT_VALUES[slot];
+    }
+
+    private static int rankCountSlot(long counts) {
+        return (int) ((counts * 0x9E3779B97F4A7C15L) >>> (64 - RANK_COUNT_TABLE_BITS));
+    }
+
+    /**
+     * Carga en la tabla hash todas las combinaciones de {@code remaining} rangos más, desde {@code rank},
+     * con a lo sumo 4 cartas por rango. Cada una se evalúa con palos repartidos en ronda, que nunca forman color.
+     */
+    private static void addRankCounts(int rank, long counts, long cardMask, int remaining) {
+        if (remaining == 0) {
+            int slot = rankCountSlot(counts);
+            while (RANK_COUNT_KEYS[slot] != 0) {
+                slot = (slot + 1) & ((1 << RANK_COUNT_TABLE_BITS) - 1);
+            }
+            RANK_COUNT_KEYS[slot] = counts;
+            RANK_COUNT_VALUES[slot] = evaluateCards(cardMask);
+            return;
+        }
+        if (rank == RANKS_PER_SUIT) {
+            return;
+        }
+        long cards = cardMask;
+        for (int copies = 0; copies <= Math.min(4, remaining); copies++) {
+            addRankCounts(rank + 1, counts + ((long) copies << (4 * rank)), cards, remaining - copies);
+            cards |= 1L << ((Long.bitCount(cards) % 4) * RANKS_PER_SUIT + rank);
+        }
+    }
+
+    // --- K. Evaluación de Mazo Corto (6+) ---
+    // El mazo corto quita los rangos del 2 al 5 y deja 36 cartas. Con menos cartas bajas el color es más raro
+    // que el full, así que el color le gana al full, y el As también cierra la escalera baja A-6-7-8-9.
+    // Los valores de mano usan el mismo formato que la sección E, pero la categoría es la posición en
+    // SHORT_DECK_ORDER: dos valores de mazo corto se comparan con una sola comparación de enteros,
+    // aunque no son comparables con los de evaluate(long).
+    // La evaluación no ordena ni prueba categorías una por una: cada palo se reduce a 9 bits, los colores salen
+    // de una tabla de 512 entradas y el resto de una tabla hash de conteos de rangos; juntas ocupan unos 130 KB.
+
+    /** Cantidad de rangos del mazo corto (SIX a ACE). */
+    private static final int SHORT_DECK_RANKS = 9;
+    /** Bits de los rangos TWO a FIVE de los cuatro palos, que no existen en el mazo corto. */
+    private static final long SHORT_DECK_MISSING_RANKS = 0b1111L * 0x0008004002001L;
+
+    /** Tipos de mano de peor a mejor según las reglas del mazo corto; el índice es la categoría del valor. */
+    private static final HandRank[] SHORT_DECK_ORDER = {
+        HandRank.HIGH_CARD, HandRank.ONE_PAIR, HandRank.TWO_PAIR, HandRank.THREE_OF_A_KIND, HandRank.STRAIGHT,
+        HandRank.FULL_HOUSE, HandRank.FLUSH, HandRank.FOUR_OF_A_KIND, HandRank.STRAIGHT_FLUSH, HandRank.ROYAL_FLUSH
+    };
+
+    /**
+     * Para cada máscara de 9 rangos (bit 0 = SIX), el ordinal de {@link Rank} del rango más alto de la mejor
+     * escalera (7 = escalera A-6-7-8-9), o -1 si no hay escalera.
+     */
+    private static final byte[] SHORT_STRAIGHT_HIGH = new byte[1 << SHORT_DECK_RANKS];
+    /** Valor de color o escalera de color de cada máscara de 9 rangos de un mismo palo; 0 si tiene menos de 5. */
+    private static final int[] SHORT_FLUSH_VALUES = new int[1 << SHORT_DECK_RANKS];
+    /** Conteo de rangos (3 bits por rango) de cada máscara de 9 rangos, para sumar los cuatro palos. */
+    private static final int[] SHORT_RANK_COUNTS = new int[1 << SHORT_DECK_RANKS];
+
+    private static final int SHORT_COUNT_TABLE_BITS = 14;
+    /**
+     * Tabla hash de las 10230 combinaciones de 5 a 7 rangos: el conteo en los 32 bits altos y el valor
+     * sin color en los bajos, en un único long para que cada búsqueda toque una sola línea de caché.
+     */
+    private static final long[] SHORT_COUNT_TABLE = new long[1 << SHORT_COUNT_TABLE_BITS];
+
+    static {
+        int wheel = 1 << (SHORT_DECK_RANKS - 1) | 0b1111; // A-6-7-8-9
+        for (int ranks = 0; ranks < SHORT_STRAIGHT_HIGH.length; ranks++) {
+            int high = STRAIGHT_HIGH[ranks << Rank.SIX.ordinal()];
+            if (high < 0 && (ranks & wheel) == wheel) {
+                high = Rank.NINE.ordinal();
+            }
+            SHORT_STRAIGHT_HIGH[ranks] = (byte) high;
+            for (int rank = 0; rank < SHORT_DECK_RANKS; rank++) {
+                SHORT_RANK_COUNTS[ranks] += (ranks >>> rank & 1) << (3 * rank);
+            }
+            if (Integer.bitCount(ranks) >= 5) {
+                SHORT_FLUSH_VALUES[ranks] = shortDeckFlushValue(ranks);
+            }
+        }
+        for (int cards = 5; cards <= 7; cards++) {
+            addShortRankCounts(0, 0, 0, 0, 0, 0, cards);
+        }
+    }
+
+    /**
+     * Evalúa la mejor mano de Texas Hold'em con mazo corto.
+     *
+     * @param playerHand Las 2 cartas del jugador. No debe ser nula.
+     * @param communityCards Las 3 a 5 cartas comunitarias. No debe ser nula.
+     * @return El {@link HandEvaluationResult} de la mejor mano. Su tipo y sus kickers son los de la mano, pero para
+     *         comparar manos de mazo corto debe usarse {@link #evaluateShortDeck(long)}, porque
+     *         {@link HandEvaluationResult#compareTo} sigue el orden del mazo completo.
+     * @throws IllegalArgumentException si las cantidades no son válidas, hay cartas repetidas
+     *         o alguna carta no pertenece al mazo corto.
+     */
+    public static HandEvaluationResult evaluateShortDeckHand(List<Card> playerHand, List<Card> communityCards) {
+        validateHoldemInput(playerHand, communityCards);
+        long mask = cardMask(playerHand) | cardMask(communityCards);
+        if (Long.bitCount(mask) != playerHand.size() + communityCards.size()) {
+            throw new IllegalArgumentException("Hay cartas repetidas en la mano o en la mesa.");
+        }
+        return toShortDeckEvaluationResult(evaluateShortDeck(mask));
+    }
+
+    /**
+     * Evalúa una mano de 5 a 7 cartas del mazo corto.
+     *
+     * @param cardMask Máscara de cartas como la de {@link #cardMask(List)}.
+     * @return Valor de mano según las reglas del mazo corto: un número mayor es una mano mejor.
+     * @throws IllegalArgumentException si la máscara no tiene entre 5 y 7 cartas o incluye rangos del 2 al 5.
+     */
+    public static int evaluateShortDeck(long cardMask) {
+        int count = Long.bitCount(cardMask);
+        if (count < 5 || count > 7) {
+            throw new IllegalArgumentException("Se requieren entre 5 y 7 cartas para evaluar una mano.");
+        }
+        if ((cardMask & SHORT_DECK_MISSING_RANKS) != 0) {
+            throw new IllegalArgumentException("El mazo corto no tiene cartas del 2 al 5.");
+        }
+        int shortSuitBits = (1 << SHORT_DECK_RANKS) - 1;
+        int s0 = (int) (cardMask >>> Rank.SIX.ordinal()) & shortSuitBits;
+        int s1 = (int) (cardMask >>> (RANKS_PER_SUIT + Rank.SIX.ordinal())) & shortSuitBits;
+        int s2 = (int) (cardMask >>> (2 * RANKS_PER_SUIT + Rank.SIX.ordinal())) & shortSuitBits;
+        int s3 = (int) (cardMask >>> (3 * RANKS_PER_SUIT + Rank.SIX.ordinal())) & shortSuitBits;
+        int value = shortCountValue(SHORT_RANK_COUNTS[s0] + SHORT_RANK_COUNTS[s1]
+                + SHORT_RANK_COUNTS[s2] + SHORT_RANK_COUNTS[s3]);
+        // Con 7 cartas a lo sumo un palo llega a 5; los demás valen 0 en la tabla de colores.
+        int flush = Math.max(Math.max(SHORT_FLUSH_VALUES[s0], SHORT_FLUSH_VALUES[s1]),
+                Math.max(SHORT_FLUSH_VALUES[s2], SHORT_FLUSH_VALUES[s3]));
+        return Math.max(value, flush);
+    }
+
+    /**
+     * Obtiene el tipo de mano codificado en un valor de mazo corto.
+     * @param handValue Valor devuelto por {@link #evaluateShortDeck(long)}.
+     * @return El {@link HandRank} correspondiente.
+     */
+    public static HandRank shortDeckHandRankOf(int handValue) {
+        return SHORT_DECK_ORDER[handValue >>> CATEGORY_SHIFT];
+    }
+
+    /**
+     * Convierte un valor de mazo corto en el {@link HandEvaluationResult} equivalente.
+     * @param handValue Valor devuelto por {@link #evaluateShortDeck(long)}.
+     * @return El resultado con su tipo de mano y sus 5 kickerRanks.
+     */
+    public static HandEvaluationResult toShortDeckEvaluationResult(int handValue) {
+        return new HandEvaluationResult(shortDeckHandRankOf(handValue),
+                toEvaluationResult(handValue).kickerRanks());
+    }
+
+    /** Valor sin color a partir del conteo de rangos de la mano. */
+    private static int shortCountValue(int counts) {
+        int mask = (1 << SHORT_COUNT_TABLE_BITS) - 1;
+        int slot = shortCountSlot(counts);
+        long entry;
+        while ((int) ((entry = SHORT_COUNT_TABLE[slot]) >>> 32) != counts) {
+            slot = (slot + 1) & mask;
+        }
+        return (int) entry;
+    }
+
+    private static int shortCountSlot(int counts) {
+        return (counts * 0x9E3779B9) >>> (32 - SHORT_COUNT_TABLE_BITS);
+    }
+
+    /**
+     * Carga en la tabla hash todas las combinaciones de {@code remaining} rangos más del mazo corto, desde
+     * {@code rank}, con a lo sumo 4 cartas por rango. Las escaleras se buscan en la tabla del mazo corto y el
+     * resto de las categorías sale de {@link #composeHandValue}, que sin color ni escalera no depende del mazo.
+     */
+    private static void addShortRankCounts(int rank, int counts, int ranks, int pairs, int trips, int quads,
+                                           int remaining) {
+        if (remaining == 0) {
+            int value = composeHandValue(ranks, pairs, trips, quads, 0, -1, -1);
+            HandRank handRank = handRankOf(value);
+            int high = SHORT_STRAIGHT_HIGH[ranks >>> Rank.SIX.ordinal()];
+            if (high >= 0 && handRank.ordinal() > HandRank.STRAIGHT.ordinal()) {
+                value = shortDeckValue(HandRank.STRAIGHT, shortStraightKickers(high));
+            } else {
+                value = shortDeckValue(handRank, value & ((1 << CATEGORY_SHIFT) - 1));
+            }
+            int slot = shortCountSlot(counts);
+            while (SHORT_COUNT_TABLE[slot] != 0) {
+                slot = (slot + 1) & ((1 << SHORT_COUNT_TABLE_BITS) - 1);
+            }
+            SHORT_COUNT_TABLE[slot] = (long) counts << 32 | value;
+            return;
+        }
+        if (rank == SHORT_DECK_RANKS) {
+            return;
+        }
+        int bit = 1 << (rank + Rank.SIX.ordinal());
+        for (int copies = 0; copies <= Math.min(4, remaining); copies++) {
+            addShortRankCounts(rank + 1, counts + (copies << (3 * rank)),
+                    copies >= 1 ? ranks | bit : ranks, copies >= 2 ? pairs | bit : pairs,
+                    copies >= 3 ? trips | bit : trips, copies == 4 ? quads | bit : quads, remaining - copies);
+        }
+    }
+
+    /** Valor de mazo corto de un tipo de mano y sus 20 bits de kickers. */
+    private static int shortDeckValue(HandRank handRank, int kickers) {
+        return Arrays.asList(SHORT_DECK_ORDER).indexOf(handRank) << CATEGORY_SHIFT | kickers;
+    }
+
+    /** Kickers de una escalera del mazo corto; la escalera al 9 es A-6-7-8-9 y termina con el As. */
+    private static int shortStraightKickers(int high) {
+        return high == Rank.NINE.ordinal() ? 0x9876E : straightKickers(high);
+    }
+
+    /** Valor de color o escalera de color de 5 o más rangos de un mismo palo (bit 0 = SIX). */
+    private static int shortDeckFlushValue(int shortRanks) {
+        int high = SHORT_STRAIGHT_HIGH[shortRanks];
+        if (high == Rank.ACE.ordinal()) {
+            return shortDeckValue(HandRank.ROYAL_FLUSH, straightKickers(high));
+        }
+        if (high >= 0) {
+            return shortDeckValue(HandRank.STRAIGHT_FLUSH, shortStraightKickers(high));
+        }
+        return shortDeckValue(HandRank.FLUSH, topRanks(shortRanks << Rank.SIX.ordinal(), 5));
+    }
+
     /*
     // --- Ejemplo de uso (opcional, puede ser eliminado o movido a una clase Main) ---
     public static void main(String[] args) {
@@ -451,6 +451,7 @@ enum HandRankValue {
 class PokerHand implements Comparable<PokerHand> {
     private final HandRankValue handRankValue;
     private final List<Card> bestFiveCards; // Las 5 cartas que forman la mano, ordenadas por importancia para desempate.
+    private final int equivalenceClass;     // Clase de equivalencia (1-7462), usada para comparar manos.
 
     /**
      * Constructor para una mano de poker evaluada.
@@ -471,6 +472,7 @@ class PokerHand implements Comparable<PokerHand> {
         this.handRankValue = handRankValue;
         // Se guarda una copia inmutable para asegurar la integridad de la mano evaluada.
         this.bestFiveCards = Collections.unmodifiableList(new ArrayList<>(bestFiveCards));
+        this.equivalenceClass = HandRankTables.rank(bestFiveCards);
     }
 
     /**
@@ -490,11 +492,18 @@ class PokerHand implements Comparable<PokerHand> {
         return bestFiveCards;
     }
 
+    /**
+     * Obtiene la clase de equivalencia de la mano según {@link HandRankTables}.
+     * @return Un entero de 1 (peor mano posible) a {@value HandRankTables#CLASS_COUNT} (Escalera Real).
+     */
+    public int getEquivalenceClass() {
+        return equivalenceClass;
+    }
+
     /**
      * Compara esta mano de poker con otra para determinar cuál es más fuerte.
-     * La comparación se basa primero en el {@link HandRankValue} (tipo de mano).
-     * Si los tipos de mano son iguales, se comparan los rangos de las cartas en {@code bestFiveCards}
-     * una por una, en el orden en que están almacenadas, para resolver empates.
+     * La comparación usa la clase de equivalencia calculada por {@link HandRankTables}, que ya
+     * contempla el tipo de mano, todos los desempates y la escalera con As bajo (A-2-3-4-5).
      * @param other La otra {@link PokerHand} a comparar.
      * @return Un valor negativo si esta mano es peor que {@code other},
      *         un valor positivo si esta mano es mejor que {@code other},
@@ -502,60 +511,7 @@ class PokerHand implements Comparable<PokerHand> {
      */
     @Override
     public int compareTo(PokerHand other) {
-        // Primero, comparar por el tipo de mano (HandRankValue).
-        // El ordinal del enum se usa aquí, asumiendo que los enums están definidos de menor a mayor valor.
-        int rankComparison = Integer.compare(this.handRankValue.ordinal(), other.handRankValue.ordinal());
-        if (rankComparison != 0) {
-            return rankComparison;
-        }
-
-        // Si el tipo de mano es el mismo, comparar por los valores de las cartas en bestFiveCards.
-        // Se asume que bestFiveCards están ordenadas por importancia para el desempate
-        // (ej. para Dos Pares AA KK Q, las cartas estarían ordenadas como [A,A,K,K,Q]).
-        for (int i = 0; i < this.bestFiveCards.size(); i++) {
-            // Para la escalera A-2-3-4-5, el As tiene valor bajo. La lista bestFiveCards
-            // para A-2-3-4-5 debe ser [5,4,3,2,A]. El getRankValue() del As es 14.
-            // Esto requiere un manejo especial si getRankValue() se usa directamente.
-            // Asumimos que el orden en bestFiveCards y los valores de Rank son consistentes.
-            // Para A-2-3-4-5, la carta 'AS' (valor 14) está al final y es la más baja en esa escalera.
-            // Si una carta es As y la mano es Escalera A-5, su valor efectivo para esta comparación debe ser 1.
-            // Esta lógica de "valor efectivo" se puede encapsular en la construcción de bestFiveCards.
-            // Por ahora, usamos getRankValue() directamente.
-            // Para la escalera As-bajo (5,4,3,2,A), el As (valor 14) es la última carta.
-            // Esto funciona si comparamos con otra escalera 5-alta. ej. 5,4,3,2,A vs 5,4,3,2,A.
-            // Pero si comparamos 6,5,4,3,2 vs 5,4,3,2,A (As-low), el As (14) parecería más alto que el 2.
-            // Solución: La lista bestFiveCards para A-2-3-4-5 debe ser ordenada como [5,4,3,2,A],
-            // y en la comparación, el As en esta posición debe tratarse como el valor más bajo (1).
-            // Sin embargo, una forma más simple es que Rank.AS.getValor() siempre sea 14, y
-            // la lista para A-2-3-4-5 se ordene así: [Card(5), Card(4), Card(3), Card(2), Card(AS)].
-            // El comparador de PokerHand debe ser consciente de esto para Escaleras con AS bajo.
-            // La implementación actual es genérica y depende de que bestFiveCards esté bien ordenada.
-            // Por simplicidad, esta plantilla asume que los `getRankValue()` son directamente comparables
-            // tras el ordenamiento de `bestFiveCards` realizado por los `detect...` métodos.
-
-            int cardComparison = Integer.compare(
-                this.bestFiveCards.get(i).getRankValue(),
-                other.bestFiveCards.get(i).getRankValue()
-            );
-            // Excepción: Si la mano es una escalera A-5 (ej. 5,4,3,2,A) y la carta es un As, tratarla como valor 1.
-            // Esta lógica es compleja y podría requerir que PokerHand almacene el valor efectivo de la escalera.
-            // Para el template, nos mantenemos simples.
-            // El orden de `bestFiveCards` es clave. Para A-2-3-4-5 (5-high straight), la lista es [5,4,3,2,A].
-            // Si A es el último, su valor 14 es mayor que un 2 en un 6-high straight [6,5,4,3,2].
-            // Esto es incorrecto. La comparación de A-low straights necesita un tratamiento especial.
-            // Una solución es que las cartas en bestFiveCards para A-low straight tengan un valor efectivo para 'A' de 1.
-            // Esta plantilla no implementa esa fineza, pero lo anota como un punto importante.
-            // Los detectores deben poner las cartas en el orden correcto:
-            // Straight 6,5,4,3,2. bestFiveCards: [6,5,4,3,2]
-            // Straight A,K,Q,J,T. bestFiveCards: [A,K,Q,J,T]
-            // Straight 5,4,3,2,A. bestFiveCards: [5,4,3,2,A] (el A es el más bajo de este grupo)
-            // El comparador general funciona si el orden es estrictamente el de la "fuerza" de la carta en esa mano.
-
-            if (cardComparison != 0) {
-                return cardComparison;
-            }
-        }
-        return 0; // Las manos son idénticas en valor.
+        return Integer.compare(this.equivalenceClass, other.equivalenceClass);
     }
 
     @Override
@@ -567,6 +523,327 @@ class PokerHand implements Comparable<PokerHand> {
     }
 }
 
+/**
+ * Tablas precalculadas que asignan a cualquier mano de 5 cartas su clase de equivalencia.
+ * Existen exactamente 7462 manos de 5 cartas distintas en valor; se numeran de 1 (7-5-4-3-2 sin color,
+ * la peor) a 7462 (Escalera Real, la mejor), de modo que comparar dos manos es comparar dos enteros.
+ *
+ * Cada carta se codifica en un entero (ver {@link #cardCode(Card)}) con el formato:
+ * <pre>
+ *   xxxbbbbb bbbbbbbb cdhsrrrr xxpppppp
+ *   b = bit del rango (uno de 13), cdhs = bit del palo, r = ordinal del rango, p = primo del rango (2..41)
+ * </pre>
+ * La búsqueda usa tres tablas:
+ * <ul>
+ *   <li>Color: el OR de los bits de rango de las 5 cartas indexa {@code FLUSH}.</li>
+ *   <li>Cinco rangos distintos sin color (escaleras y carta alta): el mismo índice en {@code UNIQUE_FIVE}.</li>
+ *   <li>Rangos repetidos: el producto de los primos identifica el multiconjunto de rangos y un hash
+ *       perfecto (con desplazamientos por cubeta) lo lleva a una posición única de {@code HASH_VALUES}.</li>
+ * </ul>
+ */
+final class HandRankTables {
+    /** Cantidad de clases de equivalencia de manos de 5 cartas. */
+    static final int CLASS_COUNT = 7462;
+
+    private static final int[] PRIMES = {2, 3, 5, 7, 11, 13, 17, 19, 23, 29, 31, 37, 41};
+    private static final int RANK_COUNT = 13;
+
+    private static final int HASH_TABLE_BITS = 13;
+    private static final int HASH_BUCKET_BITS = 9;
+    private static final long HASH_MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+    /** Cantidad de posiciones del hash perfecto de rangos repetidos. */
+    static final int REPEATED_SLOTS = 1 << HASH_TABLE_BITS;
+
+    private static final short[] FLUSH = new short[1 << RANK_COUNT];
+    private static final short[] UNIQUE_FIVE = new short[1 << RANK_COUNT];
+    private static final short[] HASH_VALUES = new short[1 << HASH_TABLE_BITS];
+    private static final short[] HASH_DISPLACEMENTS = new short[1 << HASH_BUCKET_BITS];
+
+    /**
+     * Primera clase de cada {@link HandRankValue}, en orden de ordinal (CARTA_ALTA primero).
+     * La Escalera Real es la única mano de la última categoría.
+     */
+    private static final int[] FIRST_CLASS_OF_CATEGORY = new int[HandRankValue.values().length];
+
+    static {
+        buildTables();
+    }
+
+    private HandRankTables() {
+        // Clase de utilidad, no instanciable
+    }
+
+    /**
+     * Codifica una carta en el formato usado por las tablas.
+     * @param card La carta a codificar.
+     * @return El código de 32 bits de la carta.
+     */
+    static int cardCode(Card card) {
+        int rank = card.getRank().ordinal();
+        return (1 << (16 + rank)) | (1 << (12 + card.getSuit().ordinal())) | (rank << 8) | PRIMES[rank];
+    }
+
+    /**
+     * Obtiene la clase de equivalencia de una mano de 5 cartas codificadas con {@link #cardCode(Card)}.
+     * No crea objetos: son a lo sumo dos accesos a tablas y un cálculo de hash.
+     * @return La clase de equivalencia, de 1 (peor) a {@value #CLASS_COUNT} (Escalera Real).
+     */
+    static int rank(int c1, int c2, int c3, int c4, int c5) {
+        int rankBits = (c1 | c2 | c3 | c4 | c5) >>> 16;
+        if ((c1 & c2 & c3 & c4 & c5 & 0xF000) != 0) {
+            return FLUSH[rankBits];
+        }
+        int unique = UNIQUE_FIVE[rankBits];
+        if (unique != 0) {
+            return unique;
+        }
+        int product = (c1 & 0xFF) * (c2 & 0xFF) * (c3 & 0xFF) * (c4 & 0xFF) * (c5 & 0xFF);
+        return HASH_VALUES[hashSlot(product)];
+    }
+
+    /**
+     * Igual que {@link #rank(int, int, int, int, int)} pero a partir de las partes ya combinadas de las
+     * 5 cartas, para quien precalcula las de un subconjunto (ver {@link ShowdownBoard}).
+     * @param rankBits OR de los bits de rango (bits 16-28 del código, ya desplazados a 0-12).
+     * @param commonSuit AND de los bits de palo (distinto de 0 solo si las 5 cartas son del mismo palo).
+     * @param product Producto de los primos de los 5 rangos.
+     * @return La clase de equivalencia de la mano.
+     */
+    static int rankOfParts(int rankBits, int commonSuit, int product) {
+        if (commonSuit != 0) {
+            return FLUSH[rankBits];
+        }
+        int unique = UNIQUE_FIVE[rankBits];
+        if (unique != 0) {
+            return unique;
+        }
+        return HASH_VALUES[hashSlot(product)];
+    }
+
+    /**
+     * Posición del hash perfecto que corresponde a un producto de primos con rangos repetidos.
+     * Permite que otras tablas guarden un valor propio por multiconjunto de rangos en la misma posición
+     * (ver {@link LowHandEvaluator}).
+     * @param product Producto de los primos de 5 rangos con al menos uno repetido.
+     * @return Posición entre 0 y {@link #REPEATED_SLOTS} - 1.
+     */
+    static int repeatedSlot(int product) {
+        return hashSlot(product);
+    }
+
+    /**
+     * Obtiene la clase de equivalencia de una lista de exactamente 5 cartas.
+     * @param fiveCards Las 5 cartas de la mano.
+     * @return La clase de equivalencia de la mano.
+     */
+    static int rank(List<Card> fiveCards) {
+        return rank(cardCode(fiveCards.get(0)), cardCode(fiveCards.get(1)), cardCode(fiveCards.get(2)),
+                cardCode(fiveCards.get(3)), cardCode(fiveCards.get(4)));
+    }
+
+    /**
+     * Obtiene el tipo de mano al que pertenece una clase de equivalencia.
+     * @param equivalenceClass Clase de equivalencia (1 a {@value #CLASS_COUNT}).
+     * @return El {@link HandRankValue} correspondiente.
+     */
+    static HandRankValue handRankValueOf(int equivalenceClass) {
+        HandRankValue[] values = HandRankValue.values();
+        for (int i = values.length - 1; i > 0; i--) {
+            if (equivalenceClass >= FIRST_CLASS_OF_CATEGORY[i]) {
+                return values[i];
+            }
+        }
+        return values[0];
+    }
+
+    /**
+     * Hash perfecto de un producto de primos. Un único producto de 64 bits aporta la cubeta,
+     * la posición base y el paso (impar); el desplazamiento propio de la cubeta elige cuántos pasos avanzar.
+     */
+    private static int hashSlot(int product) {
+        long mixed = product * HASH_MULTIPLIER;
+        int bucket = (int) (mixed >>> (64 - HASH_BUCKET_BITS));
+        return slotFor(mixed, HASH_DISPLACEMENTS[bucket]);
+    }
+
+    private static int slotFor(long mixed, int displacement) {
+        int base = (int) (mixed >>> 20);
+        int step = (int) (mixed >>> 36) | 1;
+        return (base + displacement * step) & ((1 << HASH_TABLE_BITS) - 1);
+    }
+
+    // --- Generación de las tablas ---
+
+    /**
+     * Enumera las 7462 clases de la peor a la mejor y las vuelca en las tablas.
+     * Las manos con rangos repetidos se acumulan como (producto de primos, clase) y luego
+     * se construye el hash perfecto sobre esos productos.
+     */
+    private static void buildTables() {
+        List<Integer> distinctFive = new ArrayList<>();   // máscaras de 5 rangos que no forman escalera
+        List<Integer> straights = new ArrayList<>();      // de la escalera al 5 a la escalera al As
+        int wheel = (1 << 12) | 0b1111;
+        straights.add(wheel);
+        for (int high = 4; high <= 12; high++) {
+            straights.add(0b11111 << (high - 4));
+        }
+        for (int mask = 0; mask < (1 << RANK_COUNT); mask++) {
+            if (Integer.bitCount(mask) == 5 && !straights.contains(mask)) {
+                distinctFive.add(mask); // en orden ascendente, que es el orden de fuerza de la carta alta
+            }
+        }
+
+        List<int[]> repeated = new ArrayList<>(); // pares {producto, clase}
+        int next = 1;
+        HandRankValue[] categories = HandRankValue.values();
+
+        FIRST_CLASS_OF_CATEGORY[HandRankValue.CARTA_ALTA.ordinal()] = next;
+        for (int mask : distinctFive) {
+            UNIQUE_FIVE[mask] = (short) next++;
+        }
+        FIRST_CLASS_OF_CATEGORY[HandRankValue.PAR.ordinal()] = next;
+        for (int pair = 0; pair < RANK_COUNT; pair++) {
+            for (int kickers : masksWithout(3, 1 << pair)) {
+                repeated.add(new int[] {productOf(pair, 2, kickers), next++});
+            }
+        }
+        FIRST_CLASS_OF_CATEGORY[HandRankValue.DOBLE_PAR.ordinal()] = next;
+        for (int high = 1; high < RANK_COUNT; high++) {
+            for (int low = 0; low < high; low++) {
+                for (int kicker : masksWithout(1, (1 << high) | (1 << low))) {
+                    repeated.add(new int[] {PRIMES[high] * PRIMES[high] * PRIMES[low] * PRIMES[low] * productOf(kicker), next++});
+                }
+            }
+        }
+        FIRST_CLASS_OF_CATEGORY[HandRankValue.TRIO.ordinal()] = next;
+        for (int trio = 0; trio < RANK_COUNT; trio++) {
+            for (int kickers : masksWithout(2, 1 << trio)) {
+                repeated.add(new int[] {productOf(trio, 3, kickers), next++});
+            }
+        }
+        FIRST_CLASS_OF_CATEGORY[HandRankValue.ESCALERA.ordinal()] = next;
+        for (int straight : straights) {
+            UNIQUE_FIVE[straight] = (short) next++;
+        }
+        FIRST_CLASS_OF_CATEGORY[HandRankValue.COLOR.ordinal()] = next;
+        for (int mask : distinctFive) {
+            FLUSH[mask] = (short) next++;
+        }
+        FIRST_CLASS_OF_CATEGORY[HandRankValue.FULL_HOUSE.ordinal()] = next;
+        for (int trio = 0; trio < RANK_COUNT; trio++) {
+            for (int pair = 0; pair < RANK_COUNT; pair++) {
+                if (pair != trio) {
+                    repeated.add(new int[] {productOf(trio, 3, 0) * PRIMES[pair] * PRIMES[pair], next++});
+                }
+            }
+        }
+        FIRST_CLASS_OF_CATEGORY[HandRankValue.POKER.ordinal()] = next;
+        for (int quad = 0; quad < RANK_COUNT; quad++) {
+            for (int kicker = 0; kicker < RANK_COUNT; kicker++) {
+                if (kicker != quad) {
+                    repeated.add(new int[] {productOf(quad, 4, 1 << kicker), next++});
+                }
+            }
+        }
+        FIRST_CLASS_OF_CATEGORY[HandRankValue.ESCALERA_COLOR.ordinal()] = next;
+        for (int straight : straights) {
+            FLUSH[straight] = (short) next++;
+        }
+        FIRST_CLASS_OF_CATEGORY[categories.length - 1] = next - 1; // Escalera Real: la última escalera de color
+
+        if (next - 1 != CLASS_COUNT) {
+            throw new IllegalStateException("Se esperaban " + CLASS_COUNT + " clases y se generaron " + (next - 1));
+        }
+        buildPerfectHash(repeated);
+    }
+
+    /**
+     * Construye el hash perfecto: agrupa los productos por cubeta y, empezando por las cubetas
+     * más pobladas, busca para cada una un desplazamiento que ubique todas sus claves en posiciones libres.
+     */
+    private static void buildPerfectHash(List<int[]> entries) {
+        List<List<int[]>> buckets = new ArrayList<>();
+        for (int i = 0; i < HASH_DISPLACEMENTS.length; i++) {
+            buckets.add(new ArrayList<>());
+        }
+        for (int[] entry : entries) {
+            buckets.get((int) ((entry[0] * HASH_MULTIPLIER) >>> (64 - HASH_BUCKET_BITS))).add(entry);
+        }
+        List<Integer> order = new ArrayList<>();
+        for (int i = 0; i < buckets.size(); i++) {
+            order.add(i);
+        }
+        order.sort(Comparator.comparingInt((Integer b) -> buckets.get(b).size()).reversed());
+
+        boolean[] used = new boolean[HASH_VALUES.length];
+        for (int bucket : order) {
+            List<int[]> keys = buckets.get(bucket);
+            if (keys.isEmpty()) {
+                break;
+            }
+            int displacement = findDisplacement(keys, used);
+            HASH_DISPLACEMENTS[bucket] = (short) displacement;
+            for (int[] key : keys) {
+                int slot = slotFor(key[0] * HASH_MULTIPLIER, displacement);
+                used[slot] = true;
+                HASH_VALUES[slot] = (short) key[1];
+            }
+        }
+    }
+
+    /** Busca el primer desplazamiento que no produce colisiones para las claves de una cubeta. */
+    private static int findDisplacement(List<int[]> keys, boolean[] used) {
+        int[] slots = new int[keys.size()];
+        for (int displacement = 0; displacement < used.length; displacement++) {
+            boolean fits = true;
+            for (int k = 0; k < keys.size() && fits; k++) {
+                int slot = slotFor(keys.get(k)[0] * HASH_MULTIPLIER, displacement);
+                fits = !used[slot];
+                for (int j = 0; j < k && fits; j++) {
+                    fits = slots[j] != slot;
+                }
+                slots[k] = slot;
+            }
+            if (fits) {
+                return displacement;
+            }
+        }
+        throw new IllegalStateException("No se pudo construir el hash perfecto de manos.");
+    }
+
+    /** Máscaras de {@code count} rangos distintos que no incluyen los rangos de {@code excluded}, en orden ascendente. */
+    private static List<Integer> masksWithout(int count, int excluded) {
+        List<Integer> masks = new ArrayList<>();
+        for (int mask = 0; mask < (1 << RANK_COUNT); mask++) {
+            if (Integer.bitCount(mask) == count && (mask & excluded) == 0) {
+                masks.add(mask);
+            }
+        }
+        return masks;
+    }
+
+    /** Producto de primos de un rango repetido {@code times} veces y de los rangos de {@code others}. */
+    private static int productOf(int rank, int times, int others) {
+        int product = productOf(others);
+        for (int i = 0; i < times; i++) {
+            product *= PRIMES[rank];
+        }
+        return product;
+    }
+
+    /** Producto de los primos de los rangos presentes en una máscara. */
+    private static int productOf(int rankMask) {
+        int product = 1;
+        for (int rank = 0; rank < RANK_COUNT; rank++) {
+            if ((rankMask & (1 << rank)) != 0) {
+                product *= PRIMES[rank];
+            }
+        }
+        return product;
+    }
+}
+
 /**
  * Clase de utilidad para evaluar manos de poker en Texas Hold'em.
  * Contiene métodos estáticos para determinar la mejor mano de 5 cartas
@@ -594,82 +871,47 @@ class HandEvaluator {
             return null;
         }
         
-        // Generar todas las combinaciones posibles de 5 cartas a partir de las cartas disponibles.
-        // Si hay 7 cartas (2 privadas + 5 comunitarias), esto es 7C5 = 21 combinaciones.
-        // Si hay 6 cartas (2 privadas + 4 comunitarias en el Turn), esto es 6C5 = 6 combinaciones.
-        // Si hay 5 cartas (2 privadas + 3 comunitarias en el Flop), esto es 5C5 = 1 combinación.
-        List<List<Card>> fiveCardCombinations = generateCombinations(allAvailableCards, 5);
-        
-        PokerHand bestHandSoFar = null;
-
-        // Evaluar cada combinación de 5 cartas y quedarse con la mejor.
-        for (List<Card> fiveCardHand : fiveCardCombinations) {
-            PokerHand currentEvaluatedHand = evaluateSingleFiveCardHand(fiveCardHand);
-            if (currentEvaluatedHand != null) {
-                if (bestHandSoFar == null || currentEvaluatedHand.compareTo(bestHandSoFar) > 0) {
-                    bestHandSoFar = currentEvaluatedHand;
+        // Se recorren todas las combinaciones de 5 cartas por índices, sin crear listas:
+        // 7 cartas = 21 búsquedas en tablas, 6 cartas = 6, 5 cartas = 1.
+        int cardCount = allAvailableCards.size();
+        int[] codes = new int[cardCount];
+        for (int i = 0; i < cardCount; i++) {
+            codes[i] = HandRankTables.cardCode(allAvailableCards.get(i));
+        }
+
+        int bestClass = 0;
+        int bestCombination = 0; // índices de las 5 cartas, 4 bits cada uno
+        for (int a = 0; a < cardCount - 4; a++) {
+            for (int b = a + 1; b < cardCount - 3; b++) {
+                for (int c = b + 1; c < cardCount - 2; c++) {
+                    for (int d = c + 1; d < cardCount - 1; d++) {
+                        for (int e = d + 1; e < cardCount; e++) {
+                            int equivalenceClass = HandRankTables.rank(codes[a], codes[b], codes[c], codes[d], codes[e]);
+                            if (equivalenceClass > bestClass) {
+                                bestClass = equivalenceClass;
+                                bestCombination = a << 16 | b << 12 | c << 8 | d << 4 | e;
+                            }
+                        }
+                    }
                 }
             }
         }
-        return bestHandSoFar;
-    }
 
-    /**
-     * Genera todas las combinaciones de k cartas a partir de una lista de cartas.
-     * @param cards La lista de cartas de la cual generar combinaciones.
-     * @param k El tamaño de cada combinación (normalmente 5 para poker).
-     * @return Una lista de todas las combinaciones posibles (cada combinación es una lista de k cartas).
-     */
-    private static List<List<Card>> generateCombinations(List<Card> cards, int k) {
-        List<List<Card>> allCombinations = new ArrayList<>();
-        if (cards == null || cards.size() < k || k < 0) {
-            return allCombinations; // Entrada inválida o no hay suficientes cartas.
+        // Solo la combinación ganadora se convierte en PokerHand, para conservar el orden de cartas de desempate.
+        List<Card> bestFive = new ArrayList<>(5);
+        for (int shift = 16; shift >= 0; shift -= 4) {
+            bestFive.add(allAvailableCards.get((bestCombination >>> shift) & 0xF));
         }
-        List<Card> currentCombination = new ArrayList<>();
-        // Iniciar la recursión para encontrar combinaciones.
-        generateCombinationsRecursive(cards, k, 0, currentCombination, allCombinations);
-        return allCombinations;
+        return evaluateSingleFiveCardHand(bestFive);
     }
 
-    /**
-     * Método auxiliar recursivo para generar combinaciones de cartas.
-     * @param allCards Lista completa de cartas de donde elegir.
-     * @param k_remaining Número de cartas restantes a elegir para la combinación actual.
-     * @param startPosition Índice de inicio en {@code allCards} para la elección actual (evita duplicados y asegura orden).
-     * @param currentCombination La combinación que se está construyendo actualmente.
-     * @param allCombinations Lista de salida donde se almacenan todas las combinaciones completas.
-     */
-    private static void generateCombinationsRecursive(List<Card> allCards, int k_remaining, int startPosition,
-                                                      List<Card> currentCombination, List<List<Card>> allCombinations) {
-        if (k_remaining == 0) {
-            // Se ha formado una combinación completa de k cartas. Añadir una copia.
-            allCombinations.add(new ArrayList<>(currentCombination));
-            return;
-        }
-
-        // Optimización: si las cartas restantes en allCards no son suficientes para completar k_remaining elementos.
-        if (allCards.size() - startPosition < k_remaining) {
-            return;
-        }
-
-        // Iterar sobre las cartas disponibles a partir de startPosition.
-        for (int i = startPosition; i < allCards.size(); i++) {
-            // Incluir la carta actual en la combinación.
-            currentCombination.add(allCards.get(i));
-            // Llamada recursiva para elegir las k_remaining-1 cartas restantes, empezando desde la siguiente posición.
-            generateCombinationsRecursive(allCards, k_remaining - 1, i + 1, currentCombination, allCombinations);
-            // Backtrack: remover la carta actual para probar otras combinaciones en la siguiente iteración del bucle.
-            currentCombination.remove(currentCombination.size() - 1);
-        }
-    }
-    
     /**
      * Evalúa una única mano de 5 cartas y determina su tipo (ej. Par, Escalera, Color).
      * @param fiveCardHand Una lista de exactamente 5 {@link Card}.
      * @return La {@link PokerHand} correspondiente a esas 5 cartas.
      * @throws IllegalArgumentException si {@code fiveCardHand} no contiene exactamente 5 cartas.
      */
-    private static PokerHand evaluateSingleFiveCardHand(List<Card> fiveCardHand) {
+    static PokerHand evaluateSingleFiveCardHand(List<Card> fiveCardHand) {
         if (fiveCardHand == null || fiveCardHand.size() != 5) {
             throw new IllegalArgumentException("Se requieren exactamente 5 cartas para evaluar una mano individual.");
         }
@@ -986,6 +1228,503 @@ class HandEvaluator {
     }
 }
 
+/**
+ * Evaluadores de manos bajas (lowball) para juegos de mano baja y de pozo dividido (hi-lo).
+ * <ul>
+ *   <li>As a cinco (A-5): el As es la carta más baja y las escaleras y los colores no cuentan;
+ *       la mejor mano es 5-4-3-2-A.</li>
+ *   <li>Dos a siete (2-7): el As es siempre alto y las escaleras y los colores cuentan en contra;
+ *       la mejor mano es 7-5-4-3-2 sin color.</li>
+ * </ul>
+ * Como en {@link HandRankTables}, cada mano de 5 cartas tiene una clase numerada densamente, pero aquí
+ * 1 es la mejor mano baja: un valor menor es siempre una mano mejor. Se usan los mismos códigos de carta
+ * y las mismas claves: el OR de los bits de rango para 5 rangos distintos y la posición del hash perfecto
+ * de {@link HandRankTables} para los rangos repetidos, con tablas propias de valores en esas posiciones.
+ * Evaluar una mano son a lo sumo dos accesos a tablas, sin crear objetos.
+ */
+final class LowHandEvaluator {
+    /** Clases de manos bajas A-5 (los colores y las escaleras no forman clases propias). */
+    static final int ACE_TO_FIVE_CLASS_COUNT = 6175;
+    /** Clases de manos bajas 2-7; son las mismas 7462 manos de {@link HandRankTables}, en otro orden. */
+    static final int DEUCE_TO_SEVEN_CLASS_COUNT = 7462;
+
+    private static final int RANK_COUNT = 13;
+    private static final int ACE = RANK_COUNT - 1;
+
+    private static final short[] ACE_TO_FIVE_UNIQUE = new short[1 << RANK_COUNT];
+    private static final short[] ACE_TO_FIVE_REPEATED = new short[HandRankTables.REPEATED_SLOTS];
+    private static final short[] DEUCE_TO_SEVEN_UNIQUE = new short[1 << RANK_COUNT];
+    private static final short[] DEUCE_TO_SEVEN_FLUSH = new short[1 << RANK_COUNT];
+    private static final short[] DEUCE_TO_SEVEN_REPEATED = new short[HandRankTables.REPEATED_SLOTS];
+
+    /** Clase A-5 de 8-7-6-5-4, la peor mano baja que califica con la regla "8 o mejor". */
+    static final int EIGHT_OR_BETTER;
+
+    /** Valor de mano baja de {@link #evaluateHighLow} cuando ninguna combinación califica. */
+    static final int NO_LOW = 0;
+
+    static {
+        buildTables();
+        EIGHT_OR_BETTER = ACE_TO_FIVE_UNIQUE[0b11111 << 2]; // 4, 5, 6, 7 y 8
+    }
+
+    private LowHandEvaluator() {
+        // Clase de utilidad, no instanciable
+    }
+
+    /**
+     * Clase A-5 de una mano de 5 cartas codificadas con {@link HandRankTables#cardCode(Card)}.
+     * @return La clase, de 1 (5-4-3-2-A) a {@value #ACE_TO_FIVE_CLASS_COUNT}; menor es mejor.
+     */
+    static int aceToFive(int c1, int c2, int c3, int c4, int c5) {
+        int unique = ACE_TO_FIVE_UNIQUE[(c1 | c2 | c3 | c4 | c5) >>> 16];
+        if (unique != 0) {
+            return unique;
+        }
+        int product = (c1 & 0xFF) * (c2 & 0xFF) * (c3 & 0xFF) * (c4 & 0xFF) * (c5 & 0xFF);
+        return ACE_TO_FIVE_REPEATED[HandRankTables.repeatedSlot(product)];
+    }
+
+    /**
+     * Clase 2-7 de una mano de 5 cartas codificadas con {@link HandRankTables#cardCode(Card)}.
+     * @return La clase, de 1 (7-5-4-3-2 sin color) a {@value #DEUCE_TO_SEVEN_CLASS_COUNT}; menor es mejor.
+     */
+    static int deuceToSeven(int c1, int c2, int c3, int c4, int c5) {
+        int rankBits = (c1 | c2 | c3 | c4 | c5) >>> 16;
+        if ((c1 & c2 & c3 & c4 & c5 & 0xF000) != 0) {
+            return DEUCE_TO_SEVEN_FLUSH[rankBits];
+        }
+        int unique = DEUCE_TO_SEVEN_UNIQUE[rankBits];
+        if (unique != 0) {
+            return unique;
+        }
+        int product = (c1 & 0xFF) * (c2 & 0xFF) * (c3 & 0xFF) * (c4 & 0xFF) * (c5 & 0xFF);
+        return DEUCE_TO_SEVEN_REPEATED[HandRankTables.repeatedSlot(product)];
+    }
+
+    /**
+     * Indica si una clase A-5 califica como mano baja con la regla "8 o mejor":
+     * cinco rangos distintos de 8 o menos.
+     * @param aceToFiveClass Clase devuelta por {@link #aceToFive}.
+     * @return {@code true} si la mano puede ganar la mitad baja del pozo.
+     */
+    static boolean qualifiesEightOrBetter(int aceToFiveClass) {
+        return aceToFiveClass <= EIGHT_OR_BETTER;
+    }
+
+    /**
+     * Mejor mano baja A-5 que se puede formar con 5 de las cartas dadas.
+     * @param cards Entre 5 y 7 cartas.
+     * @return La clase A-5 de la mejor combinación.
+     * @throws IllegalArgumentException si la lista es nula o no tiene entre 5 y 7 cartas.
+     */
+    static int bestAceToFive(List<Card> cards) {
+        return bestLow(cards, true);
+    }
+
+    /**
+     * Mejor mano baja 2-7 que se puede formar con 5 de las cartas dadas.
+     * @param cards Entre 5 y 7 cartas.
+     * @return La clase 2-7 de la mejor combinación.
+     * @throws IllegalArgumentException si la lista es nula o no tiene entre 5 y 7 cartas.
+     */
+    static int bestDeuceToSeven(List<Card> cards) {
+        return bestLow(cards, false);
+    }
+
+    /**
+     * Evalúa la mano alta y la mano baja "8 o mejor" de un jugador en una única pasada por las combinaciones:
+     * cada combinación de 5 cartas se codifica una vez y se busca en las tablas altas y en las A-5.
+     * @param playerCards Las cartas privadas del jugador.
+     * @param communityCards Las cartas comunitarias; entre ambas listas debe haber 5 a 7 cartas.
+     * @return La mejor clase alta de {@link HandRankTables} en los 32 bits altos y la mejor clase A-5 que
+     *         califica en los bajos, o {@link #NO_LOW} si ninguna califica.
+     * @throws IllegalArgumentException si alguna lista es nula o no hay entre 5 y 7 cartas en total.
+     */
+    static long evaluateHighLow(List<Card> playerCards, List<Card> communityCards) {
+        if (playerCards == null || communityCards == null) {
+            throw new IllegalArgumentException("Las cartas del jugador y de la mesa no pueden ser nulas.");
+        }
+        int cardCount = checkCardCount(playerCards, communityCards);
+        int bestHigh = 0;
+        int bestLow = Integer.MAX_VALUE;
+        // Cada código se calcula en el nivel del ciclo donde cambia, directamente desde las listas.
+        for (int a = 0; a < cardCount - 4; a++) {
+            int ca = codeAt(playerCards, communityCards, a);
+            for (int b = a + 1; b < cardCount - 3; b++) {
+                int cb = codeAt(playerCards, communityCards, b);
+                for (int c = b + 1; c < cardCount - 2; c++) {
+                    int cc = codeAt(playerCards, communityCards, c);
+                    for (int d = c + 1; d < cardCount - 1; d++) {
+                        int cd = codeAt(playerCards, communityCards, d);
+                        for (int e = d + 1; e < cardCount; e++) {
+                            int ce = codeAt(playerCards, communityCards, e);
+                            bestHigh = Math.max(bestHigh, HandRankTables.rank(ca, cb, cc, cd, ce));
+                            bestLow = Math.min(bestLow, aceToFive(ca, cb, cc, cd, ce));
+                        }
+                    }
+                }
+            }
+        }
+        return (long) bestHigh << 32 | (qualifiesEightOrBetter(bestLow) ? bestLow : NO_LOW);
+    }
+
+    private static int bestLow(List<Card> cards, boolean aceToFive) {
+        if (cards == null) {
+            throw new IllegalArgumentException("Las cartas no pueden ser nulas.");
+        }
+        List<Card> none = Collections.emptyList();
+        int cardCount = checkCardCount(cards, none);
+        int best = Integer.MAX_VALUE;
+        for (int a = 0; a < cardCount - 4; a++) {
+            int ca = codeAt(cards, none, a);
+            for (int b = a + 1; b < cardCount - 3; b++) {
+                int cb = codeAt(cards, none, b);
+                for (int c = b + 1; c < cardCount - 2; c++) {
+                    int cc = codeAt(cards, none, c);
+                    for (int d = c + 1; d < cardCount - 1; d++) {
+                        int cd = codeAt(cards, none, d);
+                        for (int e = d + 1; e < cardCount; e++) {
+                            int ce = codeAt(cards, none, e);
+                            best = Math.min(best, aceToFive
+                                    ? aceToFive(ca, cb, cc, cd, ce)
+                                    : deuceToSeven(ca, cb, cc, cd, ce));
+                        }
+                    }
+                }
+            }
+        }
+        return best;
+    }
+
+    private static int checkCardCount(List<Card> first, List<Card> second) {
+        int cardCount = first.size() + second.size();
+        if (cardCount < 5 || cardCount > 7) {
+            throw new IllegalArgumentException("Se requieren entre 5 y 7 cartas para evaluar una mano.");
+        }
+        return cardCount;
+    }
+
+    /** Código de la carta en la posición dada de las dos listas puestas una detrás de la otra. */
+    private static int codeAt(List<Card> first, List<Card> second, int index) {
+        int firstSize = first.size();
+        return HandRankTables.cardCode(index < firstSize ? first.get(index) : second.get(index - firstSize));
+    }
+
+    // --- Generación de las tablas ---
+
+    /**
+     * Recorre los 6175 multiconjuntos de 5 rangos, calcula para cada uno una clave ordenable de cada variante
+     * (una clave menor es una mano baja mejor) y numera las claves distintas en orden ascendente.
+     */
+    private static void buildTables() {
+        List<long[]> aceToFive = new ArrayList<>();   // {clave, tabla, índice}
+        List<long[]> deuceToSeven = new ArrayList<>();
+        addMultisets(0, new int[RANK_COUNT], 5, aceToFive, deuceToSeven);
+        int aceToFiveClasses = numberClasses(aceToFive, ACE_TO_FIVE_UNIQUE, null, ACE_TO_FIVE_REPEATED);
+        int deuceToSevenClasses = numberClasses(deuceToSeven, DEUCE_TO_SEVEN_UNIQUE, DEUCE_TO_SEVEN_FLUSH,
+                DEUCE_TO_SEVEN_REPEATED);
+        if (aceToFiveClasses != ACE_TO_FIVE_CLASS_COUNT || deuceToSevenClasses != DEUCE_TO_SEVEN_CLASS_COUNT) {
+            throw new IllegalStateException("Cantidad inesperada de clases bajas: " + aceToFiveClasses
+                    + " y " + deuceToSevenClasses);
+        }
+    }
+
+    private static final int UNIQUE_TABLE = 0;
+    private static final int FLUSH_TABLE = 1;
+    private static final int REPEATED_TABLE = 2;
+
+    /**
+     * Recorre los multiconjuntos de {@code remaining} rangos más, desde {@code rank}, con a lo sumo 4 cartas
+     * por rango, y agrega la clave de cada uno en la tabla que le corresponde.
+     */
+    private static void addMultisets(int rank, int[] counts, int remaining,
+                                     List<long[]> aceToFive, List<long[]> deuceToSeven) {
+        if (remaining == 0) {
+            int rankBits = 0;
+            int product = 1;
+            for (int r = 0; r < RANK_COUNT; r++) {
+                if (counts[r] > 0) {
+                    rankBits |= 1 << r;
+                }
+                // El primo del rango sale del propio código de carta, para no duplicar la lista de primos.
+                int prime = HandRankTables.cardCode(new Card(Suit.PICAS, Rank.values()[r])) & 0xFF;
+                for (int i = 0; i < counts[r]; i++) {
+                    product *= prime;
+                }
+            }
+            if (Integer.bitCount(rankBits) == 5) {
+                aceToFive.add(new long[] {lowKey(counts, false, true), UNIQUE_TABLE, rankBits});
+                deuceToSeven.add(new long[] {lowKey(counts, false, false), UNIQUE_TABLE, rankBits});
+                deuceToSeven.add(new long[] {lowKey(counts, true, false), FLUSH_TABLE, rankBits});
+            } else {
+                int slot = HandRankTables.repeatedSlot(product);
+                aceToFive.add(new long[] {lowKey(counts, false, true), REPEATED_TABLE, slot});
+                deuceToSeven.add(new long[] {lowKey(counts, false, false), REPEATED_TABLE, slot});
+            }
+            return;
+        }
+        if (rank == RANK_COUNT) {
+            return;
+        }
+        for (int copies = 0; copies <= Math.min(4, remaining); copies++) {
+            counts[rank] = copies;
+            addMultisets(rank + 1, counts, remaining - copies, aceToFive, deuceToSeven);
+        }
+        counts[rank] = 0;
+    }
+
+    /**
+     * Clave ordenable de una mano baja: la categoría desde el bit 20 y debajo los valores de las 5 cartas,
+     * 4 bits cada uno, agrupados por cantidad de repeticiones y de mayor a menor valor.
+     * En A-5 el As vale 1 y no hay escaleras ni colores; en 2-7 el orden de categorías es el de la mano alta
+     * y A-2-3-4-5 no es escalera. En ambos casos una clave menor es una mano baja mejor.
+     */
+    private static long lowKey(int[] counts, boolean flush, boolean aceToFive) {
+        int distinct = 0;
+        int maxCount = 0;
+        for (int count : counts) {
+            distinct += count > 0 ? 1 : 0;
+            maxCount = Math.max(maxCount, count);
+        }
+        long kickers = 0;
+        int lowest = Integer.MAX_VALUE;
+        int highest = 0;
+        for (int times = 4; times >= 1; times--) {
+            for (int value = 14; value >= 1; value--) {
+                int r = aceToFive && value == 1 ? ACE : value - 2;
+                if (r < 0 || r == ACE && aceToFive && value != 1 || counts[r] != times) {
+                    continue;
+                }
+                for (int i = 0; i < times; i++) {
+                    kickers = kickers << 4 | value;
+                }
+                lowest = Math.min(lowest, value);
+                highest = Math.max(highest, value);
+            }
+        }
+
+        int category;
+        if (distinct == 5) {
+            boolean straight = !aceToFive && highest - lowest == 4;
+            if (aceToFive) {
+                category = 0;
+            } else if (straight && flush) {
+                category = 8;
+            } else if (flush) {
+                category = 5;
+            } else {
+                category = straight ? 4 : 0;
+            }
+        } else if (distinct == 4) {
+            category = 1;                           // par
+        } else if (distinct == 3) {
+            category = maxCount == 2 ? 2 : 3;       // doble par o trío
+        } else if (maxCount == 3) {
+            category = aceToFive ? 4 : 6;           // full house
+        } else {
+            category = aceToFive ? 5 : 7;           // póker
+        }
+        return (long) category << 20 | kickers;
+    }
+
+    /** Ordena las claves y escribe en cada tabla su número de clase; devuelve la cantidad de clases. */
+    private static int numberClasses(List<long[]> entries, short[] unique, short[] flush, short[] repeated) {
+        entries.sort(Comparator.comparingLong((long[] entry) -> entry[0]));
+        int classes = 0;
+        long previousKey = -1;
+        for (long[] entry : entries) {
+            if (entry[0] != previousKey) {
+                classes++;
+                previousKey = entry[0];
+            }
+            short[] table = entry[1] == UNIQUE_TABLE ? unique : entry[1] == FLUSH_TABLE ? flush : repeated;
+            table[(int) entry[2]] = (short) classes;
+        }
+        return classes;
+    }
+}
+
+/**
+ * Cartas comunitarias preprocesadas para evaluar muchas manos de 2 cartas contra la misma mesa
+ * (showdowns con varios jugadores o re-evaluación de manos históricas).
+ * <p>
+ * Al crearla se combinan una sola vez los rangos, palos y productos de primos de cada subconjunto de
+ * 3 y 4 cartas de la mesa, y se calcula la mejor mano de la mesa sola. Evaluar un jugador es entonces
+ * completar cada subconjunto con sus cartas: con 5 cartas comunitarias son 20 búsquedas en
+ * {@link HandRankTables}, sin recorrer listas ni combinar los códigos de las 5 cartas cada vez.
+ * Las instancias son inmutables y pueden compartirse entre hilos.
+ */
+final class ShowdownBoard {
+    private final List<Card> communityCards;
+
+    // Mejor clase de la mesa sola (0 si la mesa no tiene 5 cartas) y sus posiciones.
+    private final int boardClass;
+    private final int boardCombination;
+
+    // Subconjuntos de 3 cartas de la mesa, que se completan con las dos cartas del jugador.
+    private final int[] tripleRanks;
+    private final int[] tripleSuits;
+    private final int[] tripleProducts;
+    private final int[] triplePositions;
+
+    // Subconjuntos de 4 cartas de la mesa, que se completan con una carta del jugador.
+    private final int[] quadRanks;
+    private final int[] quadSuits;
+    private final int[] quadProducts;
+    private final int[] quadPositions;
+
+    // Las posiciones de una combinación se guardan como en HandEvaluator.evaluateBestHand: 4 bits por carta,
+    // 0 y 1 son las cartas del jugador y 2 en adelante las de la mesa.
+
+    /**
+     * Preprocesa la mesa.
+     * @param communityCards Las 3 a 5 cartas comunitarias.
+     * @throws IllegalArgumentException si la lista es nula o no tiene entre 3 y 5 cartas.
+     */
+    ShowdownBoard(List<Card> communityCards) {
+        if (communityCards == null || communityCards.size() < 3 || communityCards.size() > 5) {
+            throw new IllegalArgumentException("Se requieren entre 3 y 5 cartas comunitarias para el showdown.");
+        }
+        this.communityCards = List.copyOf(communityCards);
+        int boardSize = communityCards.size();
+        int[] codes = new int[boardSize];
+        for (int i = 0; i < boardSize; i++) {
+            codes[i] = HandRankTables.cardCode(communityCards.get(i));
+        }
+
+        int tripleCount = binomial(boardSize, 3);
+        int quadCount = binomial(boardSize, 4);
+        tripleRanks = new int[tripleCount];
+        tripleSuits = new int[tripleCount];
+        tripleProducts = new int[tripleCount];
+        triplePositions = new int[tripleCount];
+        quadRanks = new int[quadCount];
+        quadSuits = new int[quadCount];
+        quadProducts = new int[quadCount];
+        quadPositions = new int[quadCount];
+
+        int triples = 0;
+        int quads = 0;
+        int fullBoardClass = 0;
+        int fullBoardCombination = 0;
+        for (int subset = 0; subset < 1 << boardSize; subset++) {
+            int size = Integer.bitCount(subset);
+            if (size < 3) {
+                continue;
+            }
+            int ranks = 0;
+            int suits = 0xF000;
+            int product = 1;
+            int positions = 0;
+            for (int i = 0; i < boardSize; i++) {
+                if ((subset & (1 << i)) != 0) {
+                    ranks |= codes[i] >>> 16;
+                    suits &= codes[i];
+                    product *= codes[i] & 0xFF;
+                    positions = positions << 4 | (i + 2);
+                }
+            }
+            if (size == 3) {
+                tripleRanks[triples] = ranks;
+                tripleSuits[triples] = suits;
+                tripleProducts[triples] = product;
+                triplePositions[triples++] = positions;
+            } else if (size == 4) {
+                quadRanks[quads] = ranks;
+                quadSuits[quads] = suits;
+                quadProducts[quads] = product;
+                quadPositions[quads++] = positions;
+            } else {
+                fullBoardClass = HandRankTables.rankOfParts(ranks, suits, product);
+                fullBoardCombination = positions;
+            }
+        }
+        this.boardClass = fullBoardClass;
+        this.boardCombination = fullBoardCombination;
+    }
+
+    /**
+     * Clase de equivalencia de la mejor mano de 5 cartas que forman las dos cartas del jugador con la mesa.
+     * @param playerCards Las 2 cartas del jugador.
+     * @return La clase de equivalencia, de 1 (peor) a {@value HandRankTables#CLASS_COUNT} (Escalera Real).
+     * @throws IllegalArgumentException si no se reciben exactamente 2 cartas.
+     */
+    int bestClass(List<Card> playerCards) {
+        return (int) (search(playerCards) >>> 32);
+    }
+
+    /**
+     * Mejor mano del jugador con la mesa; es la misma clase que devuelve
+     * {@link HandEvaluator#evaluateBestHand(List, List)} para esas cartas.
+     * @param playerCards Las 2 cartas del jugador.
+     * @return La {@link PokerHand} con las 5 cartas de la mejor combinación.
+     * @throws IllegalArgumentException si no se reciben exactamente 2 cartas.
+     */
+    PokerHand evaluate(List<Card> playerCards) {
+        int combination = (int) search(playerCards);
+        List<Card> bestFive = new ArrayList<>(5);
+        for (int shift = 16; shift >= 0; shift -= 4) {
+            int position = (combination >>> shift) & 0xF;
+            bestFive.add(position < 2 ? playerCards.get(position) : communityCards.get(position - 2));
+        }
+        return HandEvaluator.evaluateSingleFiveCardHand(bestFive);
+    }
+
+    /** @return Las cartas comunitarias preprocesadas (lista inmutable). */
+    List<Card> getCommunityCards() {
+        return communityCards;
+    }
+
+    /** Busca la mejor combinación; devuelve la clase en los 32 bits altos y las posiciones en los bajos. */
+    private long search(List<Card> playerCards) {
+        if (playerCards == null || playerCards.size() != 2) {
+            throw new IllegalArgumentException("El jugador debe tener exactamente 2 cartas.");
+        }
+        int first = HandRankTables.cardCode(playerCards.get(0));
+        int second = HandRankTables.cardCode(playerCards.get(1));
+        int bestClass = boardClass;
+        int bestCombination = boardCombination;
+
+        // Ambas cartas del jugador más 3 de la mesa.
+        int bothRanks = (first | second) >>> 16;
+        int bothSuits = first & second;
+        int bothProduct = (first & 0xFF) * (second & 0xFF);
+        for (int i = 0; i < tripleRanks.length; i++) {
+            int equivalenceClass = HandRankTables.rankOfParts(tripleRanks[i] | bothRanks,
+                    tripleSuits[i] & bothSuits, tripleProducts[i] * bothProduct);
+            if (equivalenceClass > bestClass) {
+                bestClass = equivalenceClass;
+                bestCombination = 1 << 12 | triplePositions[i]; // posiciones 0 y 1 en los 8 bits altos
+            }
+        }
+
+        // Una carta del jugador más 4 de la mesa.
+        for (int hole = 0; hole < 2; hole++) {
+            int code = hole == 0 ? first : second;
+            int ranks = code >>> 16;
+            int prime = code & 0xFF;
+            for (int i = 0; i < quadRanks.length; i++) {
+                int equivalenceClass = HandRankTables.rankOfParts(quadRanks[i] | ranks,
+                        quadSuits[i] & code, quadProducts[i] * prime);
+                if (equivalenceClass > bestClass) {
+                    bestClass = equivalenceClass;
+                    bestCombination = hole << 16 | quadPositions[i];
+                }
+            }
+        }
+        return (long) bestClass << 32 | bestCombination;
+    }
+
+    private static int binomial(int n, int k) {
+        int result = 1;
+        for (int i = 0; i < k; i++) {
+            result = result * (n - i) / (i + 1);
+        }
+        return result;
+    }
+}
+
 /**
  * Gestiona la lógica principal del juego de Poker Texas Hold'em.
  * Incluye el manejo de rondas, apuestas, reparto de cartas y determinación de ganadores.
@@ -1001,6 +1740,7 @@ class GameLogic {
     private int dealerButtonPosition;     // Índice del jugador que tiene el botón de dealer.
     private int smallBlindAmount;         // Cantidad de la ciega pequeña.
     private int bigBlindAmount;           // Cantidad de la ciega grande.
+    private boolean hiLo;                 // Si el pozo se divide entre la mejor mano alta y la mejor baja "8 o mejor".
 
 
     /**
@@ -1249,8 +1989,8 @@ class GameLogic {
 
     /**
      * Determina el/los ganador(es) de la mano entre los jugadores que llegaron al showdown (mostrar cartas).
-     * Utiliza el {@link HandEvaluator} para cada jugador elegible, compara las {@link PokerHand}
-     * y determina el/los ganador(es).
+     * Preprocesa la mesa una vez con {@link ShowdownBoard}, evalúa contra ella a cada jugador elegible,
+     * compara las {@link PokerHand} y determina el/los ganador(es).
      * @return Una lista de {@link Player} ganadores (puede ser más de uno en caso de empate).
      */
     public List<Player> determineWinner() {
@@ -1283,10 +2023,14 @@ class GameLogic {
         
         PokerHand bestOverallHand = null;
         List<Player> winners = new ArrayList<>();
+        // La mesa es la misma para todos: se preprocesa una vez y cada jugador solo completa sus 2 cartas.
+        ShowdownBoard board = communityCards.size() >= 3 ? new ShowdownBoard(communityCards) : null;
 
         for (Player player : showdownPlayers) {
             System.out.println(player.getName() + " muestra: " + player.getHand().stream().map(Card::toString).collect(Collectors.joining(", ")));
-            PokerHand playerBestHand = HandEvaluator.evaluateBestHand(player.getHand(), communityCards);
+            PokerHand playerBestHand = board != null && player.getHand().size() == 2
+                    ? board.evaluate(player.getHand())
+                    : HandEvaluator.evaluateBestHand(player.getHand(), communityCards);
             
             if (playerBestHand == null) {
                 System.out.println(player.getName() + " no pudo formar una mano (error o datos insuficientes).");
@@ -1314,6 +2058,56 @@ class GameLogic {
         return winners;
     }
 
+    /**
+     * Showdown de pozo dividido (hi-lo): la mitad del pozo es para la mejor mano alta y la otra mitad para la
+     * mejor mano baja A-5 que califique con "8 o mejor". Cada jugador se evalúa una sola vez con
+     * {@link LowHandEvaluator#evaluateHighLow}, que resuelve ambas mitades en la misma pasada.
+     * Si nadie tiene una mano baja que califique, la mano alta se lleva el pozo completo.
+     */
+    public void settleHiLoShowdown() {
+        List<Player> showdownPlayers = new ArrayList<>();
+        for (Player player : players) {
+            if (player.getStatus() == PlayerStatus.ACTIVO || player.getStatus() == PlayerStatus.ALL_IN) {
+                showdownPlayers.add(player);
+            }
+        }
+        if (showdownPlayers.size() <= 1) {
+            distributePot(showdownPlayers);
+            return;
+        }
+
+        System.out.println("\n--- SHOWDOWN (HI-LO) ---");
+        List<Player> highWinners = new ArrayList<>();
+        List<Player> lowWinners = new ArrayList<>();
+        int bestHigh = 0;
+        int bestLow = Integer.MAX_VALUE;
+        for (Player player : showdownPlayers) {
+            long result = LowHandEvaluator.evaluateHighLow(player.getHand(), communityCards);
+            int high = (int) (result >>> 32);
+            int low = (int) result;
+            System.out.println(player.getName() + " tiene: " + HandRankTables.handRankValueOf(high)
+                    + (low != LowHandEvaluator.NO_LOW ? " y mano baja" : " y ninguna mano baja"));
+
+            if (high > bestHigh) {
+                bestHigh = high;
+                highWinners.clear();
+            }
+            if (high == bestHigh) {
+                highWinners.add(player);
+            }
+            if (low != LowHandEvaluator.NO_LOW) {
+                if (low < bestLow) {
+                    bestLow = low;
+                    lowWinners.clear();
+                }
+                if (low == bestLow) {
+                    lowWinners.add(player);
+                }
+            }
+        }
+        distributePot(highWinners, lowWinners);
+    }
+
     /**
      * Distribuye el pozo principal (y pozos secundarios, si se implementan) entre los ganadores.
      * @param winners La lista de {@link Player} que ganaron la mano.
@@ -1332,25 +2126,56 @@ class GameLogic {
         // y quién es elegible para cada parte del pozo total.
 
         if (mainPot > 0) {
-            int sharePerWinner = mainPot / winners.size();
             System.out.println("\nDistribuyendo pozo de " + mainPot + " fichas entre " + winners.size() + " ganador(es).");
-            for (Player winner : winners) {
-                winner.addChips(sharePerWinner);
-                System.out.println(winner.getName() + " recibe " + sharePerWinner + " fichas. Nuevo total: " + winner.getChips());
-            }
-            
-            // Manejar fichas sobrantes por división impar (si las hay).
-            // Usualmente se dan al primer ganador a la izquierda del botón de dealer.
-            int remainderChips = mainPot % winners.size();
-            if (remainderChips > 0 && !winners.isEmpty()) {
-                // TODO: Distribuir el resto de forma justa según las reglas del poker (ej. al jugador más cercano al dealer).
-                // Por simplicidad, se lo damos al primer ganador en la lista de ganadores.
-                winners.get(0).addChips(remainderChips);
-                 System.out.println(winners.get(0).getName() + " recibe " + remainderChips + " fichas adicionales (resto de la división).");
-            }
+            awardShare(winners, mainPot);
             mainPot = 0; // El pozo principal ha sido distribuido.
         }
     }
+
+    /**
+     * Distribuye el pozo de una mano hi-lo: la mitad alta entre {@code highWinners} y la mitad baja entre
+     * {@code lowWinners}. La ficha impar de la división en mitades va a la mano alta.
+     * @param highWinners Los jugadores con la mejor mano alta.
+     * @param lowWinners Los jugadores con la mejor mano baja que califica; si está vacía, la mano alta gana todo.
+     */
+    public void distributePot(List<Player> highWinners, List<Player> lowWinners) {
+        if (lowWinners == null || lowWinners.isEmpty()) {
+            distributePot(highWinners);
+            return;
+        }
+        if (highWinners == null || highWinners.isEmpty()) {
+            distributePot(lowWinners);
+            return;
+        }
+        if (mainPot > 0) {
+            int lowHalf = mainPot / 2;
+            int highHalf = mainPot - lowHalf;
+            System.out.println("\nDividiendo pozo de " + mainPot + " fichas: " + highHalf + " para la mano alta y "
+                    + lowHalf + " para la mano baja.");
+            awardShare(highWinners, highHalf);
+            awardShare(lowWinners, lowHalf);
+            mainPot = 0;
+        }
+    }
+
+    /** Reparte {@code amount} fichas en partes iguales entre los ganadores. */
+    private void awardShare(List<Player> winners, int amount) {
+        int sharePerWinner = amount / winners.size();
+        for (Player winner : winners) {
+            winner.addChips(sharePerWinner);
+            System.out.println(winner.getName() + " recibe " + sharePerWinner + " fichas. Nuevo total: " + winner.getChips());
+        }
+
+        // Manejar fichas sobrantes por división impar (si las hay).
+        // Usualmente se dan al primer ganador a la izquierda del botón de dealer.
+        int remainderChips = amount % winners.size();
+        if (remainderChips > 0) {
+            // TODO: Distribuir el resto de forma justa según las reglas del poker (ej. al jugador más cercano al dealer).
+            // Por simplicidad, se lo damos al primer ganador en la lista de ganadores.
+            winners.get(0).addChips(remainderChips);
+            System.out.println(winners.get(0).getName() + " recibe " + remainderChips + " fichas adicionales (resto de la división).");
+        }
+    }
     
     /**
      * Método de ejemplo para simular el flujo de una mano completa de Texas Hold'em.
@@ -1387,6 +2212,10 @@ class GameLogic {
         // ya que si se llega al showdown, determineWinner() lo manejará.
 
         // Showdown y distribución del pozo
+        if (hiLo) {
+            settleHiLoShowdown();
+            return;
+        }
         List<Player> winners = determineWinner();
         distributePot(winners);
     }
@@ -1428,6 +2257,8 @@ class GameLogic {
     // Getters para el estado del juego (podrían ser necesarios para una UI o pruebas)
     public List<Card> getCommunityCards() { return Collections.unmodifiableList(communityCards); }
     public int getMainPot() { return mainPot; }
+    public boolean isHiLo() { return hiLo; }
+    public void setHiLo(boolean hiLo) { this.hiLo = hiLo; }
 
 
     /**
@@ -0,0 +1,352 @@
+package benchmark;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import ar.edu.utn.frc.tup.lciii.Card;
+import ar.edu.utn.frc.tup.lciii.CardSuits;
+import ar.edu.utn.frc.tup.lciii.PokerHand;
+import ar.edu.utn.frc.tup.lciii.PokerResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks JMH de los evaluadores de manos del proyecto:
+ * {@code PokerUtils} (Utils.java, por máscara y por listas), {@code HandEvaluator} (Utils2.java) y
+ * {@code PokerHand} del módulo poker (por máscara y por listas).
+ * <p>
+ * Cada invocación evalúa una sola mano de un corpus fijo generado con una semilla, así que el modo
+ * {@code AverageTime} da la latencia de una mano y {@code Throughput} las manos por microsegundo.
+ * Los parámetros eligen la cantidad de cartas (5, 6 o 7) y el tipo de mano del corpus ({@code ANY} para
+ * manos al azar o el nombre de un {@code PokerUtils.HandRank} para medir el costo de cada categoría).
+ * Cada evaluador recibe las cartas ya convertidas a su propio formato, de modo que se mide solo la evaluación.
+ * <p>
+ * {@code PokerUtils.evaluateHand} guarda sus resultados en una caché y el corpus entra completo en ella, así
+ * que después del calentamiento solo mediría aciertos. Por eso {@code pokerUtilsHand} arma el mismo adaptador
+ * sin la caché (máscaras, {@code evaluate} y {@code toEvaluationResult}) y {@code pokerUtilsHandCached} mide
+ * aparte el camino con la caché, que es el que usa el juego.
+ * <p>
+ * {@code pokerUtilsBatch} evalúa el corpus completo con {@code PokerUtils.evaluateBatch} y
+ * {@code pokerUtilsLoop} hace el mismo recorrido con {@code evaluate(long)} mano por mano; ambos informan el
+ * tiempo por mano, así que la diferencia es la ganancia del lote. El kernel vectorial solo se usa si el jar
+ * se armó con el perfil {@code vector} (JDK 21 o superior); si no, el lote es el ciclo escalar.
+ * <p>
+ * JMH no admite benchmarks en el paquete por defecto, y desde un paquete con nombre no se pueden nombrar las
+ * clases de Utils.java y Utils2.java; por eso se llaman con {@link MethodHandle}s constantes, que el JIT
+ * integra igual que una llamada directa.
+ * <p>
+ * Se compila con el pom.xml de esta carpeta, que copia Utils.java como PokerUtils.java (javac exige ese
+ * nombre para una clase pública), agrega las fuentes del módulo poker y arma un jar ejecutable con JMH:
+ * <pre>
+ *   mvn -f benchmark/pom.xml package
+ *   java -jar benchmark/target/benchmarks.jar EvaluatorBenchmark -p category=ANY
+ *   mvn -f benchmark/pom.xml -Pvector package
+ *   java -jar benchmark/target/benchmarks.jar "EvaluatorBenchmark.pokerUtils(Batch|Loop)" -p category=ANY
+ * </pre>
+ * Opciones útiles de JMH: {@code -prof gc} para la tasa de asignación por operación y {@code -t 1,2,4,8}
+ * (o {@code -t max}) para ver cómo escala con varios hilos; el corpus es compartido y la posición de
+ * cada hilo es propia.
+ */
+@BenchmarkMode({Mode.AverageTime, Mode.Throughput})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EvaluatorBenchmark {
+
+    /** Manos por corpus; potencia de 2 para avanzar con una máscara. */
+    static final int CORPUS_SIZE = 1 << 12;
+
+    /** Semilla fija: todas las corridas usan las mismas manos. */
+    static final long SEED = 0x5EED_CAFEL;
+
+    /** Intentos máximos al buscar manos de un tipo; alcanza para los tipos raros con 5 cartas. */
+    private static final long MAX_ATTEMPTS = 1L << 32;
+
+    /** {@code PokerUtils.evaluate(long)}: {@code (long) -> int}. */
+    private static final MethodHandle UTILS_EVALUATE;
+
+    /** {@code PokerUtils.evaluateBatch(long[], int[])}: {@code (long[], int[]) -> void}. */
+    private static final MethodHandle UTILS_EVALUATE_BATCH;
+
+    /** {@code PokerUtils.evaluateHand(List, List)}: {@code (List, List) -> Object}; usa la caché. */
+    private static final MethodHandle UTILS_EVALUATE_HAND;
+
+    /** {@code PokerUtils.cardMask(List)}: {@code (List) -> long}. */
+    private static final MethodHandle UTILS_CARD_MASK;
+
+    /** {@code PokerUtils.toEvaluationResult(int)}: {@code (int) -> Object}. */
+    private static final MethodHandle UTILS_TO_RESULT;
+
+    /** {@code PokerUtils.handRankOf(int)}: {@code (int) -> Object}; solo para armar el corpus. */
+    private static final MethodHandle UTILS_HAND_RANK_OF;
+
+    /** {@code HandEvaluator.evaluateBestHand(List, List)}: {@code (List, List) -> Object}. */
+    private static final MethodHandle EVALUATE_BEST_HAND;
+
+    /** Cartas de Utils.java y de Utils2.java por índice (palo * 13 + valor). */
+    private static final Object[] UTILS_CARDS = new Object[52];
+    private static final Object[] UTILS2_CARDS = new Object[52];
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            Class<?> pokerUtils = Class.forName("PokerUtils");
+            UTILS_EVALUATE = unreflect(lookup, pokerUtils.getMethod("evaluate", long.class));
+            UTILS_EVALUATE_BATCH = unreflect(lookup, pokerUtils.getMethod("evaluateBatch", long[].class, int[].class));
+            UTILS_EVALUATE_HAND = unreflect(lookup, pokerUtils.getMethod("evaluateHand", List.class, List.class))
+                    .asType(MethodType.methodType(Object.class, List.class, List.class));
+            UTILS_CARD_MASK = unreflect(lookup, pokerUtils.getMethod("cardMask", List.class));
+            UTILS_TO_RESULT = unreflect(lookup, pokerUtils.getMethod("toEvaluationResult", int.class))
+                    .asType(MethodType.methodType(Object.class, int.class));
+            UTILS_HAND_RANK_OF = unreflect(lookup, pokerUtils.getMethod("handRankOf", int.class))
+                    .asType(MethodType.methodType(Object.class, int.class));
+            Class<?> handEvaluator = Class.forName("HandEvaluator");
+            EVALUATE_BEST_HAND = unreflect(lookup,
+                    handEvaluator.getDeclaredMethod("evaluateBestHand", List.class, List.class))
+                    .asType(MethodType.methodType(Object.class, List.class, List.class));
+
+            Method fromIndex = Class.forName("PokerUtils$Card").getMethod("fromIndex", int.class);
+            Class<?> suit = Class.forName("Suit");
+            Class<?> rank = Class.forName("Rank");
+            Constructor<?> card = accessible(Class.forName("Card").getDeclaredConstructor(suit, rank));
+            for (int index = 0; index < 52; index++) {
+                UTILS_CARDS[index] = fromIndex.invoke(null, index);
+                UTILS2_CARDS[index] = card.newInstance(suit.getEnumConstants()[index / 13],
+                        rank.getEnumConstants()[index % 13]);
+            }
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private static MethodHandle unreflect(MethodHandles.Lookup lookup, Method method) throws IllegalAccessException {
+        return lookup.unreflect(accessible(method));
+    }
+
+    /** Las clases de Utils2.java son del paquete por defecto y no públicas. */
+    private static <T extends AccessibleObject> T accessible(T member) {
+        member.setAccessible(true);
+        return member;
+    }
+
+    /** Manos del benchmark en el formato de cada evaluador; se generan una vez por corrida. */
+    @State(Scope.Benchmark)
+    public static class Corpus {
+        @Param({"5", "6", "7"})
+        public int cardCount;
+
+        @Param({"ANY", "HIGH_CARD", "ONE_PAIR", "TWO_PAIR", "THREE_OF_A_KIND", "STRAIGHT", "FLUSH",
+                "FULL_HOUSE", "FOUR_OF_A_KIND", "STRAIGHT_FLUSH", "ROYAL_FLUSH"})
+        public String category;
+
+        long[] masks;
+        List<List<Object>> utilsHoles;
+        List<List<Object>> utilsBoards;
+        List<List<Object>> utils2Holes;
+        List<List<Object>> utils2Boards;
+        List<List<Card>> moduleHands;
+
+        @Setup(Level.Trial)
+        public void generate() {
+            int[][] hands = generateHands(cardCount, category, SEED);
+            masks = new long[CORPUS_SIZE];
+            utilsHoles = new ArrayList<>(CORPUS_SIZE);
+            utilsBoards = new ArrayList<>(CORPUS_SIZE);
+            utils2Holes = new ArrayList<>(CORPUS_SIZE);
+            utils2Boards = new ArrayList<>(CORPUS_SIZE);
+            moduleHands = new ArrayList<>(CORPUS_SIZE);
+            for (int h = 0; h < CORPUS_SIZE; h++) {
+                List<Object> utilsCards = new ArrayList<>(cardCount);
+                List<Object> utils2Cards = new ArrayList<>(cardCount);
+                List<Card> moduleCards = new ArrayList<>(cardCount);
+                for (int index : hands[h]) {
+                    masks[h] |= 1L << index;
+                    utilsCards.add(UTILS_CARDS[index]);
+                    utils2Cards.add(UTILS2_CARDS[index]);
+                    moduleCards.add(new Card(index % 13 + 2, CardSuits.values()[index / 13]));
+                }
+                utilsHoles.add(List.copyOf(utilsCards.subList(0, 2)));
+                utilsBoards.add(List.copyOf(utilsCards.subList(2, cardCount)));
+                utils2Holes.add(List.copyOf(utils2Cards.subList(0, 2)));
+                utils2Boards.add(List.copyOf(utils2Cards.subList(2, cardCount)));
+                moduleHands.add(List.copyOf(moduleCards));
+            }
+        }
+    }
+
+    /** Posición de cada hilo dentro del corpus. */
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int position;
+        final PokerHand moduleEvaluator = new PokerHand();
+        final int[] values = new int[CORPUS_SIZE];
+
+        int next() {
+            position = (position + 1) & (CORPUS_SIZE - 1);
+            return position;
+        }
+    }
+
+    @Benchmark
+    public int pokerUtilsMask(Corpus corpus, Cursor cursor) throws Throwable {
+        return (int) UTILS_EVALUATE.invokeExact(corpus.masks[cursor.next()]);
+    }
+
+    /** El corpus completo en un solo lote; el tiempo se informa por mano. */
+    @Benchmark
+    @OperationsPerInvocation(CORPUS_SIZE)
+    @Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+    public int[] pokerUtilsBatch(Corpus corpus, Cursor cursor) throws Throwable {
+        UTILS_EVALUATE_BATCH.invokeExact(corpus.masks, cursor.values);
+        return cursor.values;
+    }
+
+    /** El mismo recorrido que {@code pokerUtilsBatch} con {@code evaluate(long)} mano por mano. */
+    @Benchmark
+    @OperationsPerInvocation(CORPUS_SIZE)
+    @Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+    public int[] pokerUtilsLoop(Corpus corpus, Cursor cursor) throws Throwable {
+        long[] masks = corpus.masks;
+        int[] values = cursor.values;
+        for (int i = 0; i < masks.length; i++) {
+            values[i] = (int) UTILS_EVALUATE.invokeExact(masks[i]);
+        }
+        return values;
+    }
+
+    /** Mismo trabajo que {@code PokerUtils.evaluateHand} sin pasar por su caché. */
+    @Benchmark
+    public Object pokerUtilsHand(Corpus corpus, Cursor cursor) throws Throwable {
+        int i = cursor.next();
+        long mask = (long) UTILS_CARD_MASK.invokeExact((List) corpus.utilsHoles.get(i))
+                | (long) UTILS_CARD_MASK.invokeExact((List) corpus.utilsBoards.get(i));
+        return (Object) UTILS_TO_RESULT.invokeExact((int) UTILS_EVALUATE.invokeExact(mask));
+    }
+
+    /** {@code PokerUtils.evaluateHand} con su caché: con el corpus ya cargado mide el costo de un acierto. */
+    @Benchmark
+    public Object pokerUtilsHandCached(Corpus corpus, Cursor cursor) throws Throwable {
+        int i = cursor.next();
+        return (Object) UTILS_EVALUATE_HAND.invokeExact((List) corpus.utilsHoles.get(i),
+                (List) corpus.utilsBoards.get(i));
+    }
+
+    @Benchmark
+    public Object handEvaluator(Corpus corpus, Cursor cursor) throws Throwable {
+        int i = cursor.next();
+        return (Object) EVALUATE_BEST_HAND.invokeExact((List) corpus.utils2Holes.get(i),
+                (List) corpus.utils2Boards.get(i));
+    }
+
+    @Benchmark
+    public int moduleMask(Corpus corpus, Cursor cursor) {
+        return PokerHand.evaluateMask(corpus.masks[cursor.next()]);
+    }
+
+    @Benchmark
+    public PokerResult moduleHand(Corpus corpus, Cursor cursor) {
+        return cursor.moduleEvaluator.evaluateHand(corpus.moduleHands.get(cursor.next()));
+    }
+
+    /**
+     * Genera {@value #CORPUS_SIZE} manos de {@code cardCount} cartas distintas (índices palo * 13 + valor)
+     * con la semilla dada, en orden aleatorio: las 2 primeras son las cartas propias.
+     * Con {@code category} distinto de {@code ANY} solo se aceptan manos de ese tipo; las escaleras de color
+     * y reales se arman a partir de una escalera de color al azar porque al azar casi no aparecen.
+     * @throws IllegalArgumentException si la cantidad de cartas o el tipo no son válidos.
+     * @throws IllegalStateException si no se encuentran suficientes manos del tipo pedido.
+     */
+    static int[][] generateHands(int cardCount, String category, long seed) {
+        if (cardCount < 5 || cardCount > 7) {
+            throw new IllegalArgumentException("Se requieren entre 5 y 7 cartas por mano.");
+        }
+        String wanted = "ANY".equals(category) ? null : category;
+        if (wanted != null && !isHandRank(wanted)) {
+            throw new IllegalArgumentException("Tipo de mano desconocido: " + category);
+        }
+        boolean seeded = "ROYAL_FLUSH".equals(wanted) || "STRAIGHT_FLUSH".equals(wanted);
+        SplittableRandom random = new SplittableRandom(seed);
+        int[][] hands = new int[CORPUS_SIZE][];
+        int found = 0;
+        for (long attempt = 0; found < CORPUS_SIZE; attempt++) {
+            if (attempt == MAX_ATTEMPTS) {
+                throw new IllegalStateException("No se encontraron suficientes manos de tipo " + category);
+            }
+            long mask = seeded ? straightFlush(random, "ROYAL_FLUSH".equals(wanted)) : 0L;
+            while (Long.bitCount(mask) < cardCount) {
+                mask |= 1L << random.nextInt(52);
+            }
+            if (wanted == null || wanted.equals(handRankName(mask))) {
+                hands[found++] = shuffledIndices(mask, random);
+            }
+        }
+        return hands;
+    }
+
+    /** Nombre del {@code PokerUtils.HandRank} de la mano. */
+    private static String handRankName(long mask) {
+        try {
+            Object handRank = (Object) UTILS_HAND_RANK_OF.invokeExact((int) UTILS_EVALUATE.invokeExact(mask));
+            return ((Enum<?>) handRank).name();
+        } catch (Throwable e) {
+            throw new IllegalStateException("No se pudo evaluar la mano", e);
+        }
+    }
+
+    private static boolean isHandRank(String name) {
+        try {
+            for (Object rank : Class.forName("PokerUtils$HandRank").getEnumConstants()) {
+                if (((Enum<?>) rank).name().equals(name)) {
+                    return true;
+                }
+            }
+            return false;
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /** Escalera de color (al As si se pide una escalera real) de un palo al azar. */
+    private static long straightFlush(SplittableRandom random, boolean royal) {
+        int suit = random.nextInt(4);
+        int high = royal ? 12 : 3 + random.nextInt(9); // 5 a K
+        long ranks = high == 3 ? (1L << 12 | 0b1111) : 0b11111L << (high - 4);
+        return ranks << (suit * 13);
+    }
+
+    /** Índices de las cartas de la máscara mezclados (Fisher-Yates), para no dejar siempre las más bajas como propias. */
+    private static int[] shuffledIndices(long mask, SplittableRandom random) {
+        int[] indices = new int[Long.bitCount(mask)];
+        int count = 0;
+        for (long rest = mask; rest != 0; rest &= rest - 1) {
+            indices[count++] = Long.numberOfTrailingZeros(rest);
+        }
+        for (int i = indices.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = indices[i];
+            indices[i] = indices[j];
+            indices[j] = swap;
+        }
+        return indices;
+    }
+}